@@ -0,0 +1,37 @@
+package benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Punto de entrada de benchmarks.jar: acepta las mismas opciones que la línea de comandos de JMH
+ * (-p, -f, -wi, -i, filtros por nombre, -rf json, etc.) y agrega siempre el perfilador de memoria
+ * (equivalente a -prof gc), que informa los bytes asignados por operación y las recolecciones.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions lineaDeComandos = new CommandLineOptions(args);
+        if (lineaDeComandos.shouldHelp()) {
+            lineaDeComandos.showHelp();
+            return;
+        }
+        Options opciones = new OptionsBuilder()
+                .parent(lineaDeComandos)
+                .addProfiler(GCProfiler.class)
+                .build();
+        Runner runner = new Runner(opciones);
+        if (lineaDeComandos.shouldList()) {
+            runner.list();
+            return;
+        }
+        runner.run();
+    }
+}
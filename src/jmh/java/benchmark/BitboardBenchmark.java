@@ -0,0 +1,88 @@
+package benchmark;
+
+import controllers.MazeController;
+import models.Cell;
+import models.SolveResults;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import solver.ControlResolucion;
+import solver.MazeSolver;
+import solver.ReceptorRecorrido;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara BFS Bitboard con BFS Indexado en grillas de 4096x4096, donde pesan la memoria por celda y el
+ * recorrido de los arreglos. resolver() mide solve() con todas las visitadas en el resultado;
+ * soloCamino() transmite el recorrido a un receptor que lo descarta, para ver el costo de la búsqueda sin
+ * guardar las visitadas. Con el perfilador de memoria de BenchmarkRunner se ven también los bytes por
+ * operación. BFS, el original, no entra: con un objeto por celda necesita varios GB a este tamaño.
+ * Ejemplo: java -jar target/benchmarks.jar BitboardBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BitboardBenchmark {
+
+    // Semilla de los laberintos generados
+    private static final long SEMILLA = 42;
+
+    // Receptor que descarta el recorrido: solo queda el costo de la búsqueda
+    private static final ReceptorRecorrido DESCARTAR = new ReceptorRecorrido() {
+        @Override
+        public void visitada(int celda) {
+        }
+
+        @Override
+        public void camino(int celda) {
+        }
+    };
+
+    @Param({"BFS Bitboard", "BFS Indexado"})
+    public String algoritmo;
+
+    @Param({"4095"})
+    public int tamano;
+
+    // ABIERTO sin muros, ABIERTO con un 25 % de muros al azar y un laberinto perfecto
+    @Param({"ABIERTO:0.0", "ABIERTO:0.25", "PERFECTO"})
+    public String escenario;
+
+    private MazeSolver solver;
+    private boolean[][] maze;
+    private Cell inicio;
+    private Cell fin;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        solver = new MazeController(null).getAlgoritmos().get(algoritmo);
+        if (solver == null) throw new IllegalArgumentException("Algoritmo no registrado: " + algoritmo);
+        EscenarioLaberinto laberinto = EscenarioLaberinto.crear(escenario, tamano, SEMILLA);
+        maze = laberinto.getMaze();
+        inicio = laberinto.getInicio();
+        fin = laberinto.getFin();
+    }
+
+    @Benchmark
+    public SolveResults resolver() {
+        return solver.solve(maze, inicio, fin);
+    }
+
+    @Benchmark
+    public SolveResults soloCamino() {
+        return solver.solve(maze, inicio, fin, new ControlResolucion(), DESCARTAR);
+    }
+}
@@ -0,0 +1,148 @@
+package benchmark;
+
+import generator.MazeGenerator;
+import generator.impl.MazeGeneratorBacktracker;
+import models.Cell;
+import models.MazeGridBits;
+
+import java.util.SplittableRandom;
+
+/**
+ * Laberinto de prueba para los benchmarks: una matriz cuadrada con su inicio y su fin, armada según una
+ * topología. Con la misma semilla se obtiene siempre el mismo laberinto, así que las mediciones de
+ * distintas ejecuciones son comparables.
+ */
+public final class EscenarioLaberinto {
+
+    /**
+     * Forma del laberinto. La densidad de muros al azar solo se aplica a ABIERTO e INALCANZABLE;
+     * PERFECTO y ESPIRAL ya tienen su propia estructura de muros y la ignoran.
+     */
+    public enum Topologia {
+        /** Grilla libre con muros al azar; inicio y fin en esquinas opuestas. */
+        ABIERTO,
+        /** Laberinto perfecto (backtracker): un único camino, largo y con muchos callejones. */
+        PERFECTO,
+        /** Un solo pasillo en espiral desde la esquina hasta el centro: el camino más largo posible. */
+        ESPIRAL,
+        /** Como ABIERTO, pero el fin está encerrado: el algoritmo debe agotar todo lo alcanzable. */
+        INALCANZABLE
+    }
+
+    private final boolean[][] maze;
+    private final Cell inicio;
+    private final Cell fin;
+
+    private EscenarioLaberinto(boolean[][] maze, Cell inicio, Cell fin) {
+        this.maze = maze;
+        this.inicio = inicio;
+        this.fin = fin;
+    }
+
+    /**
+     * Crea el escenario descrito por un parámetro de benchmark: el nombre de la topología y, para las que usan
+     * muros al azar, la densidad después de dos puntos ("ABIERTO:0.25", "PERFECTO"). Así cada benchmark lista
+     * solo combinaciones distintas, sin repetir PERFECTO o ESPIRAL con densidades que ignoran.
+     *
+     * @param escenario topología y densidad opcional (0 si se omite).
+     * @param tamano filas y columnas de la matriz (al menos 5).
+     */
+    public static EscenarioLaberinto crear(String escenario, int tamano, long semilla) {
+        int separador = escenario.indexOf(':');
+        if (separador < 0) return crear(Topologia.valueOf(escenario), tamano, 0, semilla);
+        return crear(Topologia.valueOf(escenario.substring(0, separador)), tamano,
+                Double.parseDouble(escenario.substring(separador + 1)), semilla);
+    }
+
+    /**
+     * @param tamano filas y columnas de la matriz (al menos 5).
+     * @param densidad probabilidad de que cada celda sea muro en ABIERTO e INALCANZABLE.
+     */
+    public static EscenarioLaberinto crear(Topologia topologia, int tamano, double densidad, long semilla) {
+        if (tamano < 5) throw new IllegalArgumentException("El tamaño mínimo es 5: " + tamano);
+        return switch (topologia) {
+            case ABIERTO -> abierto(tamano, densidad, semilla);
+            case PERFECTO -> perfecto(tamano, semilla);
+            case ESPIRAL -> espiral(tamano);
+            case INALCANZABLE -> inalcanzable(tamano, densidad, semilla);
+        };
+    }
+
+    private static EscenarioLaberinto abierto(int tamano, double densidad, long semilla) {
+        SplittableRandom aleatorio = new SplittableRandom(semilla);
+        boolean[][] maze = new boolean[tamano][tamano];
+        for (boolean[] fila : maze) {
+            for (int c = 0; c < tamano; c++) {
+                fila[c] = aleatorio.nextDouble() >= densidad;
+            }
+        }
+        Cell inicio = new Cell(0, 0);
+        Cell fin = new Cell(tamano - 1, tamano - 1);
+        maze[0][0] = true;
+        maze[tamano - 1][tamano - 1] = true;
+        return new EscenarioLaberinto(maze, inicio, fin);
+    }
+
+    private static EscenarioLaberinto perfecto(int tamano, long semilla) {
+        MazeGridBits grid = new MazeGridBits(tamano, tamano);
+        new MazeGeneratorBacktracker().generar(grid, semilla);
+        return new EscenarioLaberinto(grid.aMatriz(), MazeGenerator.inicio(), MazeGenerator.fin(tamano, tamano));
+    }
+
+    /**
+     * Talla un pasillo que avanza mientras deje un muro entre él y lo ya tallado, y gira a la derecha cuando
+     * no puede seguir; termina en el centro cuando tampoco puede avanzar después de girar.
+     */
+    private static EscenarioLaberinto espiral(int tamano) {
+        boolean[][] maze = new boolean[tamano][tamano];
+        int[] df = {0, 1, 0, -1};
+        int[] dc = {1, 0, -1, 0};
+        int fila = 0, col = 0, direccion = 0;
+        maze[0][0] = true;
+        boolean giroSinAvanzar = false;
+        while (true) {
+            int f1 = fila + df[direccion], c1 = col + dc[direccion];
+            int f2 = f1 + df[direccion], c2 = c1 + dc[direccion];
+            boolean puede = dentro(tamano, f1, c1) && !maze[f1][c1]
+                    && (!dentro(tamano, f2, c2) || !maze[f2][c2]);
+            if (puede) {
+                fila = f1;
+                col = c1;
+                maze[fila][col] = true;
+                giroSinAvanzar = false;
+            } else if (giroSinAvanzar) {
+                break;
+            } else {
+                direccion = (direccion + 1) & 3;
+                giroSinAvanzar = true;
+            }
+        }
+        return new EscenarioLaberinto(maze, new Cell(0, 0), new Cell(fila, col));
+    }
+
+    private static EscenarioLaberinto inalcanzable(int tamano, double densidad, long semilla) {
+        EscenarioLaberinto abierto = abierto(tamano, densidad, semilla);
+        boolean[][] maze = abierto.maze;
+        // El fin queda en la esquina, rodeado de muros
+        maze[tamano - 2][tamano - 1] = false;
+        maze[tamano - 1][tamano - 2] = false;
+        maze[tamano - 2][tamano - 2] = false;
+        return new EscenarioLaberinto(maze, abierto.inicio, abierto.fin);
+    }
+
+    private static boolean dentro(int tamano, int fila, int col) {
+        return fila >= 0 && col >= 0 && fila < tamano && col < tamano;
+    }
+
+    public boolean[][] getMaze() {
+        return maze;
+    }
+
+    public Cell getInicio() {
+        return inicio;
+    }
+
+    public Cell getFin() {
+        return fin;
+    }
+}
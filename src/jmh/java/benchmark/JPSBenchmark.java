@@ -0,0 +1,71 @@
+package benchmark;
+
+import controllers.MazeController;
+import models.Cell;
+import models.SolveResults;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import solver.MazeSolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara JPS con BFS en los dos extremos para los que se pensó: una grilla abierta, donde JPS salta
+ * sobre las celdas libres sin encolarlas, y un laberinto perfecto, donde casi cada celda es una bifurcación
+ * o un callejón y los saltos no ahorran nada. Se mide contra BFS Indexado (la misma búsqueda sin objetos
+ * por celda) y contra BFS, el original, para separar lo que gana el algoritmo de lo que gana la representación.
+ * Ejemplo: java -jar target/benchmarks.jar JPSBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class JPSBenchmark {
+
+    // Semilla de los laberintos generados
+    private static final long SEMILLA = 42;
+
+    @Param({"JPS", "BFS Indexado", "BFS"})
+    public String algoritmo;
+
+    // Tamaños impares: el laberinto perfecto ocupa toda la grilla solo con filas y columnas impares
+    @Param({"255", "1023"})
+    public int tamano;
+
+    // ABIERTO sin muros, ABIERTO con un 10 % de muros al azar y un laberinto perfecto
+    @Param({"ABIERTO:0.0", "ABIERTO:0.1", "PERFECTO"})
+    public String escenario;
+
+    private MazeSolver solver;
+    private boolean[][] maze;
+    private Cell inicio;
+    private Cell fin;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        solver = new MazeController(null).getAlgoritmos().get(algoritmo);
+        if (solver == null) throw new IllegalArgumentException("Algoritmo no registrado: " + algoritmo);
+        EscenarioLaberinto laberinto = EscenarioLaberinto.crear(escenario, tamano, SEMILLA);
+        maze = laberinto.getMaze();
+        inicio = laberinto.getInicio();
+        fin = laberinto.getFin();
+    }
+
+    @Benchmark
+    public SolveResults resolver() {
+        // Se devuelve el resultado para que JMH lo consuma y el JIT no elimine la búsqueda
+        return solver.solve(maze, inicio, fin);
+    }
+}
@@ -0,0 +1,71 @@
+package benchmark;
+
+import models.Cell;
+import models.SolveResults;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import solver.impl.MazeSolverBFSParalelo;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide BFS Paralelo con distintas cantidades de hilos sobre la misma grilla abierta, para ver cuánto escala
+ * con los procesadores de la máquina (con 1 hilo se expande todo en el que llama, sin repartir tareas).
+ * La aceleración es el tiempo con 1 hilo dividido por el tiempo con n; pedir más hilos que procesadores
+ * solo mide el costo de repartir.
+ * Ejemplo: java -jar target/benchmarks.jar ParaleloBenchmark -p hilos=1,4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParaleloBenchmark {
+
+    // Semilla de los laberintos generados
+    private static final long SEMILLA = 42;
+
+    @Param({"1", "2", "4", "8"})
+    public int hilos;
+
+    @Param({"2048", "4096"})
+    public int tamano;
+
+    private MazeSolverBFSParalelo solver;
+    private boolean[][] maze;
+    private Cell inicio;
+    private Cell fin;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        solver = new MazeSolverBFSParalelo(hilos);
+        // Con un 10 % de muros el frente es ancho y casi toda la grilla es alcanzable
+        EscenarioLaberinto laberinto = EscenarioLaberinto.crear(EscenarioLaberinto.Topologia.ABIERTO,
+                tamano, 0.1, SEMILLA);
+        maze = laberinto.getMaze();
+        inicio = laberinto.getInicio();
+        fin = laberinto.getFin();
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() {
+        solver.close();
+    }
+
+    @Benchmark
+    public SolveResults resolver() {
+        return solver.solve(maze, inicio, fin);
+    }
+}
@@ -0,0 +1,94 @@
+package benchmark;
+
+import controllers.MazeController;
+import models.Cell;
+import models.SolveResults;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import solver.ControlResolucion;
+import solver.MazeSolver;
+import solver.MazeSolverIncremental;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide solve() de cada algoritmo registrado en MazeController sobre laberintos generados con una semilla
+ * fija, para cada combinación de tamaño y escenario (topología y, si la usa, densidad de muros). A diferencia
+ * del tiempo que guarda el controlador (una sola medición, con el JIT en frío), JMH calienta la JVM y repite
+ * la medición. Los algoritmos se toman del mismo registro que usa la interfaz, así que uno nuevo se mide sin
+ * tocar esta clase (basta agregar su nombre a la lista de algoritmo).
+ * Los incrementales recuerdan el último laberinto y hay que reiniciarlos antes de cada invocación; se miden
+ * aparte en SolverIncrementalBenchmark, para que ese reinicio no pese en las invocaciones cortas de los demás.
+ * Los algoritmos exhaustivos (Recursivo 2D y 4D, y la Carrera, que los espera cuando no hay camino) son
+ * exponenciales si el fin no se alcanza en una grilla abierta: esas combinaciones fallan en preparar()
+ * con un mensaje y JMH sigue con las demás.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SolverBenchmark {
+
+    // Semilla de los laberintos generados
+    private static final long SEMILLA = 42;
+
+    // Plazo de la resolución de prueba que descarta las combinaciones que no terminan
+    private static final long PLAZO_PRUEBA_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    @Param({"Recursivo 2D", "Recursivo 4D", "Recursivo 4D BT", "BFS", "BFS Indexado", "BFS Bidireccional",
+            "BFS Bitboard", "BFS Paralelo", "DFS", "A*", "A* Octil", "A* Octil (corta esquinas)", "JPS",
+            "Dijkstra (Dial)", "Carrera"})
+    public String algoritmo;
+
+    @Param({"64", "256", "1024"})
+    public int tamano;
+
+    // PERFECTO y ESPIRAL no usan la densidad: aparecen una sola vez
+    @Param({"ABIERTO:0.0", "ABIERTO:0.25", "PERFECTO", "ESPIRAL", "INALCANZABLE:0.0", "INALCANZABLE:0.25"})
+    public String escenario;
+
+    private MazeSolver solver;
+    private boolean[][] maze;
+    private Cell inicio;
+    private Cell fin;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        solver = new MazeController(null).getAlgoritmos().get(algoritmo);
+        if (solver == null) throw new IllegalArgumentException("Algoritmo no registrado: " + algoritmo);
+        if (solver instanceof MazeSolverIncremental) {
+            throw new IllegalArgumentException(algoritmo + " es incremental: se mide con SolverIncrementalBenchmark");
+        }
+        EscenarioLaberinto laberinto = EscenarioLaberinto.crear(escenario, tamano, SEMILLA);
+        maze = laberinto.getMaze();
+        inicio = laberinto.getInicio();
+        fin = laberinto.getFin();
+
+        try {
+            solver.solve(maze, inicio, fin, new ControlResolucion(PLAZO_PRUEBA_NANOS, null));
+        } catch (CancellationException e) {
+            throw new IllegalStateException(algoritmo + " no termina en "
+                    + TimeUnit.NANOSECONDS.toSeconds(PLAZO_PRUEBA_NANOS) + " s con " + escenario
+                    + " de " + tamano + "x" + tamano + ": se omite la combinación", e);
+        }
+    }
+
+    @Benchmark
+    public SolveResults resolver() {
+        // Se devuelve el resultado para que JMH lo consuma y el JIT no elimine la búsqueda
+        return solver.solve(maze, inicio, fin);
+    }
+}
@@ -0,0 +1,82 @@
+package benchmark;
+
+import controllers.MazeController;
+import models.Cell;
+import models.SolveResults;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import solver.MazeSolver;
+import solver.MazeSolverIncremental;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la primera resolución de los algoritmos incrementales: antes de cada invocación se reinicia el
+ * algoritmo, así que cada una incluye copiar el laberinto y armar su estado (campos, grafo de corredores,
+ * grafo abstracto) y no reutiliza el de la anterior. El reinicio por invocación tiene un costo propio que
+ * JMH no puede descontar en invocaciones de menos de un milisegundo, por eso no se mide en 64x64 y se separó
+ * de SolverBenchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SolverIncrementalBenchmark {
+
+    // Semilla de los laberintos generados
+    private static final long SEMILLA = 42;
+
+    @Param({"BFS Cache", "HPA*", "D* Lite", "Corredores"})
+    public String algoritmo;
+
+    @Param({"256", "1024"})
+    public int tamano;
+
+    // PERFECTO y ESPIRAL no usan la densidad: aparecen una sola vez
+    @Param({"ABIERTO:0.0", "ABIERTO:0.25", "PERFECTO", "ESPIRAL", "INALCANZABLE:0.0", "INALCANZABLE:0.25"})
+    public String escenario;
+
+    private MazeSolverIncremental solver;
+    private boolean[][] maze;
+    private Cell inicio;
+    private Cell fin;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        MazeSolver registrado = new MazeController(null).getAlgoritmos().get(algoritmo);
+        if (!(registrado instanceof MazeSolverIncremental incremental)) {
+            throw new IllegalArgumentException("No es un algoritmo incremental registrado: " + algoritmo);
+        }
+        solver = incremental;
+        EscenarioLaberinto laberinto = EscenarioLaberinto.crear(escenario, tamano, SEMILLA);
+        maze = laberinto.getMaze();
+        inicio = laberinto.getInicio();
+        fin = laberinto.getFin();
+    }
+
+    /**
+     * Descarta el estado de la invocación anterior para medir una resolución completa.
+     */
+    @Setup(Level.Invocation)
+    public void reiniciar() {
+        solver.reiniciar();
+    }
+
+    @Benchmark
+    public SolveResults resolver() {
+        // Se devuelve el resultado para que JMH lo consuma y el JIT no elimine la búsqueda
+        return solver.solve(maze, inicio, fin);
+    }
+}
@@ -0,0 +1,88 @@
+package controllers;
+
+import models.Cell;
+import solver.BloqueRecorrido;
+import views.MazePanel;
+
+import javax.swing.*;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+
+/**
+ * Suscriptor que anima un recorrido publicado en bloques: pinta cada visita con una pausa breve y luego
+ * el camino con una pausa mayor. Pide el siguiente bloque solo después de pintar el actual, así que la
+ * búsqueda no se adelanta más que el búfer del publicador y nunca se guarda el recorrido completo.
+ */
+class AnimacionRecorrido implements Flow.Subscriber<BloqueRecorrido> {
+
+    private final MazePanel panel;
+
+    // Hilo propio de la animación; se apaga cuando el recorrido termina o se detiene
+    private final ExecutorService hilo;
+
+    private volatile Flow.Subscription suscripcion;
+    private volatile boolean detenida;
+
+    /**
+     * @param panel panel donde se pinta.
+     * @param hilo ejecutor de un solo hilo en el que el publicador entrega los bloques.
+     */
+    AnimacionRecorrido(MazePanel panel, ExecutorService hilo) {
+        this.panel = panel;
+        this.hilo = hilo;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription suscripcion) {
+        this.suscripcion = suscripcion;
+        if (detenida) suscripcion.cancel();
+        else suscripcion.request(1);
+    }
+
+    @Override
+    public void onNext(BloqueRecorrido bloque) {
+        try {
+            for (int i = 0; i < bloque.tamano() && !detenida; i++) {
+                Thread.sleep(bloque.getTipo() == BloqueRecorrido.Tipo.CAMINO ? 40 : 10);
+                pintar(bloque.getTipo(), bloque.celda(i));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            detener();
+            return;
+        }
+        if (!detenida) suscripcion.request(1);
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        hilo.shutdown();
+    }
+
+    @Override
+    public void onComplete() {
+        hilo.shutdown();
+    }
+
+    /**
+     * Deja de animar y cancela la suscripción; un algoritmo que esperaba por contrapresión sigue sin frenarse.
+     */
+    void detener() {
+        detenida = true;
+        Flow.Subscription s = suscripcion;
+        if (s != null) s.cancel();
+        hilo.shutdown();
+    }
+
+    private void pintar(BloqueRecorrido.Tipo tipo, Cell celda) {
+        SwingUtilities.invokeLater(() -> {
+            switch (tipo) {
+                case VISITA -> panel.setVisited(Set.of(celda));
+                case VISITA_DESDE_FIN -> panel.setVisitedFromEnd(Set.of(celda));
+                case CAMINO -> panel.setPath(List.of(celda));
+            }
+        });
+    }
+}
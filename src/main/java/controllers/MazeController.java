@@ -1,16 +1,39 @@
 package controllers;
 
 import dao.AlgorithmResultDAO;
+import dao.MazeDAO;
+import dao.impl.MazeDAOBinario;
+import dao.impl.MazeDAOTexto;
+import generator.MazeGenerator;
+import generator.impl.*;
 import models.AlgorithmResult;
 import models.Cell;
 import models.CellState;
+import models.Consulta;
+import models.MazeGridBits;
+import models.MazeGridMapeado;
+import models.MazeGuardado;
 import models.SolveResults;
+import solver.ControlResolucion;
 import solver.MazeSolver;
+import solver.MazeSolverIncremental;
+import solver.MazeSolverSincronizado;
+import solver.MazeSolverPonderado;
+import solver.ProgresoResolucion;
+import solver.PublicadorRecorrido;
+import solver.ReceptorRecorrido;
+import solver.conectividad.IndiceConectividad;
+import solver.preprocesado.RellenoCallejones;
 import solver.impl.*;
 import views.MazePanel;
 
 import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
 
 /**
  * Controlador principal del sistema. Se encarga de gestionar los algoritmos de resolución,
@@ -21,25 +44,73 @@ public class MazeController {
     // Objeto DAO para guardar y recuperar resultados
     private final AlgorithmResultDAO dao;
 
+    // Objeto DAO para guardar y abrir laberintos
+    private final MazeDAO mazeDao;
+
+    // Objeto DAO para importar y exportar laberintos en texto
+    private final MazeDAO textoDao;
+
+    // Velocidad de lectura de la última importación en MB/s
+    private double ultimoRendimientoImportacion;
+
     // Mapa que asocia nombres de algoritmos con sus implementaciones
     private final Map<String, MazeSolver> algoritmos;
 
-    // Lista de celdas visitadas para modo paso a paso
-    private List<Cell> pasoAPasoCeldas;
+    // Generadores de laberintos por nombre, en el orden en que se muestran
+    private final Map<String, MazeGenerator> generadores;
+
+    // Bloques del recorrido que un consumidor puede tener pendientes antes de frenar a la búsqueda
+    private static final int BLOQUES_EN_ESPERA = 4;
+
+    // Recorrido que consume el modo paso a paso (null si no hay uno en curso)
+    private PasoAPasoRecorrido pasoAPaso;
+
+    // Animación en curso, para detenerla junto con la resolución
+    private volatile AnimacionRecorrido animacionActual;
+
+    // Laberinto (matriz de estados de un panel) que reflejan los algoritmos incrementales. Lo cambia el
+    // hilo que resuelve y lo lee el escucha del panel en el EDT
+    private volatile CellState[][] estadosSincronizados;
+
+    // Componentes conexas del laberinto sincronizado, para responder "sin camino" sin ejecutar ningún algoritmo
+    private volatile IndiceConectividad conectividad;
 
-    // Índice actual del paso en el modo paso a paso
-    private int pasoActual = 0;
+    // Si es true, se rellenan los callejones sin salida antes de resolver
+    private boolean rellenarCallejones;
 
-    // Camino final encontrado por el algoritmo
-    private List<Cell> caminoEncontrado;
+    // Celdas rellenadas en la última resolución
+    private int ultimasCeldasPodadas;
+
+    // Tiempo máximo de cada resolución en nanosegundos (0 = sin plazo)
+    private long plazoNanos;
+
+    // Hilos del pool propio de BFS Paralelo (0 = pool común, con todos los procesadores)
+    private int hilosParalelo;
+
+    // Control de la resolución en curso, para poder cancelarla desde la interfaz
+    private volatile ControlResolucion controlActual;
+
+    // Motivo por el que se detuvo la última resolución (null si terminó normalmente)
+    private volatile String ultimaDetencion;
 
     /**
      * Constructor que recibe el DAO y configura los algoritmos disponibles.
      */
     public MazeController(AlgorithmResultDAO dao) {
+        this(dao, new MazeDAOBinario());
+    }
+
+    /**
+     * Constructor que recibe el DAO de resultados y el de laberintos.
+     */
+    public MazeController(AlgorithmResultDAO dao, MazeDAO mazeDao) {
         this.dao = dao;
+        this.mazeDao = mazeDao;
+        this.textoDao = new MazeDAOTexto();
         this.algoritmos = new HashMap<>();
         inicializarAlgoritmos(); // inicializa los algoritmos
+        this.generadores = new LinkedHashMap<>();
+        inicializarGeneradores();
     }
 
     /**
@@ -50,7 +121,58 @@ public class MazeController {
         algoritmos.put("Recursivo 4D", new MazeSolverRecursivoCompleto());
         algoritmos.put("Recursivo 4D BT", new MazeSolverRecursivoCompletoBT());
         algoritmos.put("BFS", new MazeSolverBFS());
+        algoritmos.put("BFS Indexado", new MazeSolverBFSIndexado());
+        algoritmos.put("BFS Bidireccional", new MazeSolverBFSBidireccional());
+        algoritmos.put("BFS Bitboard", new MazeSolverBitboard());
+        algoritmos.put("BFS Paralelo", new MazeSolverBFSParalelo());
+        algoritmos.put("BFS Cache", new MazeSolverCampoDistancias());
         algoritmos.put("DFS", new MazeSolverDFS());
+        algoritmos.put("A*", new MazeSolverAStar());
+        algoritmos.put("A* Octil", new MazeSolverAStarOctil());
+        algoritmos.put("A* Octil (corta esquinas)", new MazeSolverAStarOctil(MazeSolverAStarOctil.ReglaEsquinas.CORTAR_SI_UNA_LIBRE));
+        algoritmos.put("JPS", new MazeSolverJPS());
+        algoritmos.put("HPA*", new MazeSolverHPA());
+        algoritmos.put("D* Lite", new MazeSolverDStarLite());
+        algoritmos.put("Corredores", new MazeSolverCorredores());
+        algoritmos.put("Dijkstra (Dial)", new MazeSolverDial());
+        // El recursivo no cuenta como completo: sin camino es exponencial y la carrera no lo espera
+        algoritmos.put("Carrera", new MazeSolverCarrera(
+                participantes("Recursivo 2D", "DFS", "BFS Bitboard", "A*", "JPS"),
+                Set.of("DFS", "BFS Bitboard", "A*", "JPS")));
+    }
+
+    /**
+     * Registra los generadores de laberintos disponibles.
+     */
+    private void inicializarGeneradores() {
+        generadores.put("Backtracker", new MazeGeneratorBacktracker());
+        generadores.put("Kruskal", new MazeGeneratorKruskal());
+        generadores.put("Prim", new MazeGeneratorPrim());
+        generadores.put("Wilson", new MazeGeneratorWilson());
+        generadores.put("Eller", new MazeGeneratorEller());
+    }
+
+    /**
+     * Arma el portafolio de la carrera con algoritmos ya registrados. Quedan fuera los incrementales,
+     * porque un perdedor que sigue corriendo retendría su estado sincronizado.
+     */
+    private Map<String, MazeSolver> participantes(String... nombres) {
+        Map<String, MazeSolver> participantes = new LinkedHashMap<>();
+        for (String nombre : nombres) {
+            participantes.put(nombre, algoritmos.get(nombre));
+        }
+        return participantes;
+    }
+
+    /**
+     * Nombre con el que se registra un resultado: en la carrera se agrega el algoritmo ganador,
+     * así cada ganador queda con su propia latencia.
+     */
+    private static String nombreResultado(String algoritmoNombre, MazeSolver solver, SolveResults resultado) {
+        if (solver instanceof MazeSolverCarrera && resultado.getAlgoritmo() != null) {
+            return algoritmoNombre + " (" + resultado.getAlgoritmo() + ")";
+        }
+        return algoritmoNombre;
     }
 
     /**
@@ -58,25 +180,261 @@ public class MazeController {
      * Registra el tiempo que tarda y guarda el resultado si fue exitoso.
      */
     public SolveResults resolverLaberinto(String algoritmoNombre, CellState[][] estados, Cell inicio, Cell fin) {
+        return resolverLaberinto(algoritmoNombre, estados, null, inicio, fin);
+    }
+
+    /**
+     * Igual que resolverLaberinto, pero con costos de paso por celda. Solo los algoritmos
+     * ponderados usan los costos; el resto resuelve sobre muros y celdas libres.
+     */
+    public SolveResults resolverLaberinto(String algoritmoNombre, CellState[][] estados, int[][] costos,
+                                          Cell inicio, Cell fin) {
+        return resolverLaberinto(algoritmoNombre, estados, costos, inicio, fin, null);
+    }
+
+    /**
+     * Igual que resolverLaberinto, avisando el progreso de la búsqueda. La resolución respeta el plazo
+     * configurado y se puede detener con cancelarResolucion(); en ambos casos devuelve null y
+     * getUltimaDetencion() indica el motivo.
+     */
+    public SolveResults resolverLaberinto(String algoritmoNombre, CellState[][] estados, int[][] costos,
+                                          Cell inicio, Cell fin, ProgresoResolucion progreso) {
+        return resolverLaberinto(algoritmoNombre, estados, costos, inicio, fin, progreso, null);
+    }
+
+    /**
+     * Igual que resolverLaberinto, enviando el recorrido al receptor mientras la búsqueda avanza.
+     * Con receptor no se aplica el plazo ni se guarda el resultado: el tiempo medido incluye las esperas
+     * del consumidor (por ejemplo, una animación que frena al algoritmo) y no sería comparable.
+     *
+     * @param receptor destino de las visitadas y del camino (null para resolver normalmente).
+     */
+    public SolveResults resolverLaberinto(String algoritmoNombre, CellState[][] estados, int[][] costos,
+                                          Cell inicio, Cell fin, ProgresoResolucion progreso,
+                                          ReceptorRecorrido receptor) {
+        ultimaDetencion = null;
         if (inicio == null || fin == null) return null;
 
         MazeSolver solver = algoritmos.get(algoritmoNombre);
         if (solver == null) return null;
 
-        // Convierte la matriz de celdas a matriz booleana
-        boolean[][] maze = convertirAMatrizBooleana(estados);
+        ultimasCeldasPodadas = 0;
+        if (estados != estadosSincronizados) cambiarLaberintoSincronizado(estados);
 
-        long inicioTiempo = System.nanoTime(); // mide tiempo de inicio
-        SolveResults resultado = solver.solve(maze, inicio, fin); // ejecuta algoritmo
+        // Se lee una sola vez: el hilo de eventos puede descartar el índice mientras se resuelve
+        boolean[][] maze = null;
+        IndiceConectividad indice = conectividad;
+        if (indice == null) {
+            maze = convertirAMatrizBooleana(estados);
+            indice = new IndiceConectividad(maze);
+            conectividad = indice;
+        }
+        // Inicio y fin en regiones distintas: no hay camino y no se ejecuta ningún algoritmo
+        if (!indice.conectadas(inicio, fin)) {
+            return new SolveResults(new ArrayList<>(), new LinkedHashSet<>());
+        }
+
+        ControlResolucion control = new ControlResolucion(receptor == null ? plazoNanos : 0, progreso);
+        controlActual = control;
+        long inicioTiempo;
+        SolveResults resultado;
+        try {
+            if (solver instanceof MazeSolverSincronizado sincronizado
+                    && sincronizado.estaSincronizado(estados.length, estados[0].length)) {
+                // Los cambios de muros ya le llegaron como eventos: no hace falta convertir la matriz
+                inicioTiempo = System.nanoTime();
+                resultado = sincronizado.resolverSincronizado(inicio, fin, control);
+                if (receptor != null) ReceptorRecorrido.reproducir(resultado, estados[0].length, receptor);
+            } else {
+                // Convierte la matriz de celdas a matriz booleana
+                if (maze == null) maze = convertirAMatrizBooleana(estados);
+
+                // Los algoritmos incrementales guardan una copia del laberinto, así que no reciben la matriz podada
+                int podadas = 0;
+                if (rellenarCallejones && !(solver instanceof MazeSolverIncremental)) {
+                    podadas = RellenoCallejones.rellenar(maze, inicio, fin);
+                }
+
+                // Los algoritmos ponderados reciben la grilla de costos (0 en los muros)
+                int[][] grilla = solver instanceof MazeSolverPonderado && costos != null
+                        ? convertirACostos(maze, costos) : null;
+
+                inicioTiempo = System.nanoTime(); // mide tiempo de inicio
+                if (grilla != null) {
+                    resultado = ((MazeSolverPonderado) solver).solve(grilla, inicio, fin, control);
+                    if (receptor != null) ReceptorRecorrido.reproducir(resultado, grilla[0].length, receptor);
+                } else {
+                    resultado = receptor != null
+                            ? solver.solve(maze, inicio, fin, control, receptor)
+                            : solver.solve(maze, inicio, fin, control); // ejecuta algoritmo
+                }
+                ultimasCeldasPodadas = podadas;
+                if (resultado != null) resultado.setCeldasPodadas(podadas);
+            }
+        } catch (CancellationException e) {
+            // Cancelada por el usuario, plazo vencido o hilo interrumpido: no se guarda nada
+            ultimaDetencion = control.isPlazoVencido()
+                    ? "Se venció el plazo de " + plazoNanos / 1_000_000 + " ms." : "Resolución cancelada.";
+            return null;
+        } finally {
+            if (controlActual == control) controlActual = null;
+        }
         long tiempoTotal = System.nanoTime() - inicioTiempo; // mide tiempo final
 
         // Guarda resultado si es válido
         if (resultado != null && resultado.getPath() != null && !resultado.getPath().isEmpty()) {
+            String nombre = nombreResultado(algoritmoNombre, solver, resultado);
             resultado.setTiempo(tiempoTotal);
-            resultado.setAlgoritmo(algoritmoNombre);
-            dao.guardar(new AlgorithmResult(algoritmoNombre, resultado.getPath().size(), tiempoTotal));
+            resultado.setAlgoritmo(nombre);
+            if (receptor == null) dao.guardar(new AlgorithmResult(nombre, resultado.getPath().size(), tiempoTotal));
+        }
+
+        return resultado;
+    }
+
+    /**
+     * Resuelve un lote de consultas entre celdas libres elegidas al azar en el laberinto de la matriz de
+     * estados. Sirve para medir cuánto cuesta cada consulta cuando se repiten muchas sobre el mismo laberinto.
+     * La matriz se copia al empezar; las consultas se guardan y se resuelven como en resolverLote.
+     *
+     * @param cantidad número de consultas.
+     * @param semilla semilla para elegir las celdas: la misma semilla repite las mismas consultas.
+     * @return resultados en el orden de las consultas, o null si el algoritmo no existe o el lote se detuvo.
+     */
+    public List<SolveResults> resolverLote(String algoritmoNombre, CellState[][] estados, int cantidad, long semilla) {
+        boolean[][] maze = convertirAMatrizBooleana(estados);
+        return resolverLote(algoritmoNombre, maze, consultasAleatorias(maze, cantidad, semilla));
+    }
+
+    /**
+     * Elige consultas con inicio y fin al azar entre las celdas libres del laberinto.
+     *
+     * @return lista de consultas (vacía si no hay celdas libres).
+     */
+    private static List<Consulta> consultasAleatorias(boolean[][] maze, int cantidad, long semilla) {
+        int columnas = maze[0].length;
+        int[] libres = new int[maze.length * columnas];
+        int totalLibres = 0;
+        for (int r = 0; r < maze.length; r++) {
+            for (int c = 0; c < columnas; c++) {
+                if (maze[r][c]) libres[totalLibres++] = r * columnas + c;
+            }
+        }
+
+        List<Consulta> consultas = new ArrayList<>(cantidad);
+        if (totalLibres == 0) return consultas;
+        SplittableRandom aleatorio = new SplittableRandom(semilla);
+        for (int i = 0; i < cantidad; i++) {
+            int inicio = libres[aleatorio.nextInt(totalLibres)];
+            int fin = libres[aleatorio.nextInt(totalLibres)];
+            consultas.add(new Consulta(new Cell(inicio / columnas, inicio % columnas),
+                    new Cell(fin / columnas, fin % columnas)));
+        }
+        return consultas;
+    }
+
+    /**
+     * Resuelve muchas consultas (inicio, fin) sobre un mismo laberinto con el algoritmo indicado.
+     * Las consultas se reparten entre un grupo acotado de hilos (uno por procesador) que comparten la
+     * matriz sin copiarla, así que no debe modificarse mientras dure el lote. Un algoritmo incremental que
+     * atiende de a una consulta (ver MazeSolverIncremental.admiteConsultasSimultaneas) usa un solo hilo:
+     * con más, todos esperarían su candado. Las consultas entre regiones desconectadas se responden con el
+     * índice de conectividad sin ejecutar el algoritmo. No se aplica el relleno de callejones, porque cada
+     * consulta tiene otro inicio y otro fin. El lote respeta el plazo configurado y se puede detener con
+     * cancelarResolucion(); en ambos casos devuelve null y getUltimaDetencion() indica el motivo.
+     * Si alguna consulta tiene camino, se guarda un resultado "(lote de N, por consulta)" con valores por
+     * consulta: el largo es el promedio de los caminos encontrados y el tiempo es el tiempo total del lote
+     * dividido por N, es decir, lo que cuesta en promedio cada consulta dentro del lote.
+     *
+     * @param algoritmoNombre nombre del algoritmo registrado.
+     * @param maze matriz booleana del laberinto (true = camino, false = muro); solo se lee.
+     * @param consultas pares de celdas a resolver.
+     * @return resultados en el mismo orden que las consultas, o null si el algoritmo no existe o el lote se detuvo.
+     */
+    public List<SolveResults> resolverLote(String algoritmoNombre, boolean[][] maze, List<Consulta> consultas) {
+        ultimaDetencion = null;
+        MazeSolver solver = algoritmos.get(algoritmoNombre);
+        if (solver == null) return null;
+        if (consultas.isEmpty()) return new ArrayList<>();
+
+        ControlResolucion control = new ControlResolucion(plazoNanos, null);
+        controlActual = control;
+        long inicioTiempo = System.nanoTime();
+        IndiceConectividad indice = new IndiceConectividad(maze);
+
+        // Cada consulta revisa su propio control derivado, porque el control no se comparte entre hilos
+        List<Callable<SolveResults>> tareas = new ArrayList<>(consultas.size());
+        for (Consulta consulta : consultas) {
+            tareas.add(() -> resolverConsulta(solver, algoritmoNombre, indice, maze, consulta, control.derivado()));
         }
 
+        int hilos = solver instanceof MazeSolverIncremental incremental && !incremental.admiteConsultasSimultaneas()
+                ? 1 : Math.min(Runtime.getRuntime().availableProcessors(), consultas.size());
+        List<SolveResults> resultados = new ArrayList<>(consultas.size());
+        try (ExecutorService ejecutor = Executors.newFixedThreadPool(hilos)) {
+            List<Future<SolveResults>> futuros = new ArrayList<>(tareas.size());
+            for (Callable<SolveResults> tarea : tareas) {
+                futuros.add(ejecutor.submit(tarea));
+            }
+            try {
+                for (Future<SolveResults> futuro : futuros) {
+                    resultados.add(futuro.get());
+                }
+            } finally {
+                // Si una consulta falla o se detiene, las pendientes se descartan sin ejecutarse
+                if (resultados.size() < futuros.size()) ejecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ultimaDetencion = "Resolución cancelada.";
+            return null;
+        } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof CancellationException)) {
+                throw new IllegalStateException("Error al resolver una consulta del lote", e.getCause());
+            }
+            ultimaDetencion = control.isPlazoVencido()
+                    ? "Se venció el plazo de " + plazoNanos / 1_000_000 + " ms." : "Resolución cancelada.";
+            return null;
+        } finally {
+            if (controlActual == control) controlActual = null;
+            // Un algoritmo incremental quedó reflejando la matriz del lote y no la del panel sincronizado
+            if (solver instanceof MazeSolverIncremental incremental) incremental.reiniciar();
+        }
+        long tiempoTotal = System.nanoTime() - inicioTiempo;
+
+        long largoTotal = 0;
+        int conCamino = 0;
+        for (SolveResults resultado : resultados) {
+            if (resultado != null && resultado.getPath() != null && !resultado.getPath().isEmpty()) {
+                largoTotal += resultado.getPath().size();
+                conCamino++;
+            }
+        }
+        if (conCamino > 0) {
+            dao.guardar(new AlgorithmResult(algoritmoNombre + " (lote de " + consultas.size() + ", por consulta)",
+                    (int) Math.round((double) largoTotal / conCamino), tiempoTotal / consultas.size()));
+        }
+        return resultados;
+    }
+
+    /**
+     * Resuelve una consulta del lote y registra en el resultado su propio tiempo.
+     *
+     * @throws CancellationException si se canceló el lote o se venció su plazo.
+     */
+    private static SolveResults resolverConsulta(MazeSolver solver, String algoritmoNombre, IndiceConectividad indice,
+                                                 boolean[][] maze, Consulta consulta, ControlResolucion control) {
+        if (!indice.conectadas(consulta.getInicio(), consulta.getFin())) {
+            return new SolveResults(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        // Una consulta corta no llega a la revisión periódica del algoritmo: se comprueba antes de empezar
+        control.comprobar(0, 0);
+        long inicioTiempo = System.nanoTime();
+        SolveResults resultado = solver.solve(maze, consulta.getInicio(), consulta.getFin(), control);
+        if (resultado != null) {
+            resultado.setTiempo(System.nanoTime() - inicioTiempo);
+            resultado.setAlgoritmo(nombreResultado(algoritmoNombre, solver, resultado));
+        }
         return resultado;
     }
 
@@ -97,6 +455,140 @@ public class MazeController {
         return matriz;
     }
 
+    /**
+     * Combina la matriz booleana con los costos del panel: los muros quedan con costo 0.
+     */
+    private int[][] convertirACostos(boolean[][] maze, int[][] costos) {
+        int filas = maze.length;
+        int columnas = maze[0].length;
+        int[][] grilla = new int[filas][columnas];
+
+        for (int i = 0; i < filas; i++) {
+            for (int j = 0; j < columnas; j++) {
+                grilla[i][j] = maze[i][j] ? Math.max(1, costos[i][j]) : 0;
+            }
+        }
+
+        return grilla;
+    }
+
+    /**
+     * Cambia el laberinto que reflejan los algoritmos incrementales. Lo que guardaban
+     * corresponde a otro panel, así que se descarta.
+     */
+    private void cambiarLaberintoSincronizado(CellState[][] estados) {
+        estadosSincronizados = estados;
+        conectividad = null;
+        for (MazeSolver solver : algoritmos.values()) {
+            if (solver instanceof MazeSolverIncremental incremental) {
+                incremental.reiniciar();
+            }
+        }
+    }
+
+    /**
+     * Registra el panel para recibir sus cambios de muros y mantener al día
+     * los algoritmos que guardan información del laberinto entre resoluciones.
+     * Solo se reenvían los cambios del panel que reflejan actualmente esos algoritmos.
+     */
+    public void registrarPanel(MazePanel panel) {
+        panel.addMazeListener(new MazePanel.MazeListener() {
+            @Override
+            public void wallToggled(Cell cell, boolean wall) {
+                if (panel.getCellStates() != estadosSincronizados) return;
+                if (conectividad != null) {
+                    conectividad.celdaCambiada(cell.getRow(), cell.getCol(), !wall);
+                }
+                for (MazeSolver solver : algoritmos.values()) {
+                    if (solver instanceof MazeSolverIncremental incremental) {
+                        incremental.celdaCambiada(cell.getRow(), cell.getCol(), !wall);
+                    }
+                }
+            }
+
+            @Override
+            public void gridReset() {
+                if (panel.getCellStates() != estadosSincronizados) return;
+                conectividad = null;
+                for (MazeSolver solver : algoritmos.values()) {
+                    if (solver instanceof MazeSolverIncremental incremental) {
+                        incremental.reiniciar();
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Activa o desactiva el relleno de callejones antes de resolver.
+     */
+    public void setRellenarCallejones(boolean rellenarCallejones) {
+        this.rellenarCallejones = rellenarCallejones;
+    }
+
+    public boolean isRellenarCallejones() {
+        return rellenarCallejones;
+    }
+
+    /**
+     * @return celdas que el preprocesado rellenó en la última resolución.
+     */
+    public int getUltimasCeldasPodadas() {
+        return ultimasCeldasPodadas;
+    }
+
+    /**
+     * Fija el tiempo máximo de cada resolución.
+     *
+     * @param plazoMillis milisegundos (0 = sin plazo).
+     */
+    public void setPlazoMillis(long plazoMillis) {
+        this.plazoNanos = Math.max(0, plazoMillis) * 1_000_000L;
+    }
+
+    public long getPlazoMillis() {
+        return plazoNanos / 1_000_000L;
+    }
+
+    /**
+     * Cambia los hilos con los que BFS Paralelo expande cada frente: con 0 usa el pool común, con n > 0
+     * un pool propio de n hilos. Se registra un solucionador nuevo y se cierra el pool propio del anterior,
+     * que termina lo que tenga en curso.
+     *
+     * @param hilos cantidad de hilos (0 = todos los procesadores).
+     */
+    public void setHilosParalelo(int hilos) {
+        hilos = Math.max(0, hilos);
+        if (hilos == hilosParalelo) return;
+        MazeSolver anterior = algoritmos.put("BFS Paralelo",
+                hilos == 0 ? new MazeSolverBFSParalelo() : new MazeSolverBFSParalelo(hilos));
+        if (anterior instanceof MazeSolverBFSParalelo paralelo) paralelo.close();
+        hilosParalelo = hilos;
+    }
+
+    public int getHilosParalelo() {
+        return hilosParalelo;
+    }
+
+    /**
+     * Pide detener la resolución en curso, si la hay. Los algoritmos que revisan el control
+     * se detienen en pocos milisegundos.
+     */
+    public void cancelarResolucion() {
+        ControlResolucion control = controlActual;
+        if (control != null) control.cancelar();
+        // Una búsqueda frenada por la animación no revisa el control hasta que la animación la suelte
+        AnimacionRecorrido animacion = animacionActual;
+        if (animacion != null) animacion.detener();
+    }
+
+    /**
+     * @return motivo por el que se detuvo la última resolución, o null si terminó normalmente.
+     */
+    public String getUltimaDetencion() {
+        return ultimaDetencion;
+    }
+
     // Devuelve la lista de resultados guardados
     public List<AlgorithmResult> obtenerResultados() {
         return dao.listar();
@@ -112,25 +604,88 @@ public class MazeController {
         return algoritmos;
     }
 
+    public Map<String, MazeGenerator> getGeneradores() {
+        return generadores;
+    }
+
     /**
-     * Ejecuta el algoritmo completo y actualiza el panel con el resultado.
+     * Reemplaza el laberinto del panel por uno generado del mismo tamaño, con el inicio y el fin en
+     * esquinas opuestas. Los interesados en el panel reciben gridReset.
+     *
+     * @return false si el generador no existe.
      */
-    public void resolver(views.MazePanel panel, String algoritmoNombre) {
-        SolveResults resultado = resolverLaberinto(
-                algoritmoNombre,
-                panel.getCellStates(),
-                panel.getStartCell(),
-                panel.getEndCell()
-        );
+    public boolean generarLaberinto(MazePanel panel, String generadorNombre, long semilla) {
+        CellState[][] estados = panel.getCellStates();
+        MazeGuardado laberinto = generarLaberinto(generadorNombre, estados.length, estados[0].length, semilla);
+        if (laberinto == null) return false;
+        reiniciarPasoAPaso();
+        panel.cargarLaberinto(laberinto);
+        return true;
+    }
 
-        panel.clearPathAndVisited(); // limpia el panel antes de pintar
+    /**
+     * Genera un laberinto en memoria, sin interfaz (por ejemplo, para medir algoritmos con cargas grandes).
+     *
+     * @return el laberinto con inicio y fin en esquinas opuestas, o null si el generador no existe.
+     * @throws IllegalArgumentException si las dimensiones no sirven para el generador.
+     */
+    public MazeGuardado generarLaberinto(String generadorNombre, int filas, int columnas, long semilla) {
+        MazeGenerator generador = generadores.get(generadorNombre);
+        if (generador == null) return null;
+        MazeGridBits grid = new MazeGridBits(filas, columnas);
+        generador.generar(grid, semilla);
+        return new MazeGuardado(grid, MazeGenerator.inicio(), MazeGenerator.fin(filas, columnas), null);
+    }
 
-        if (resultado != null && resultado.getPath() != null && !resultado.getPath().isEmpty()) {
-            panel.setVisited(resultado.getVisited()); // muestra nodos visitados
-            panel.setPath(resultado.getPath()); // muestra el camino final
-        } else {
-            JOptionPane.showMessageDialog(null, "No se pudo encontrar un camino.");
+    /**
+     * Genera un laberinto directamente en un archivo binario mapeado en memoria, para grillas que no entran
+     * en el heap (con Eller, la memoria usada es proporcional al ancho). El archivo se puede abrir después
+     * con MazeGridMapeado.abrir.
+     *
+     * @return false si el generador no existe.
+     * @throws IOException si no se puede escribir el archivo.
+     * @throws IllegalArgumentException si las dimensiones no sirven para el generador.
+     */
+    public boolean generarLaberinto(String generadorNombre, Path archivo, int filas, int columnas, long semilla)
+            throws IOException {
+        MazeGenerator generador = generadores.get(generadorNombre);
+        if (generador == null) return false;
+        if (filas < 3 || columnas < 3) {
+            throw new IllegalArgumentException("La grilla debe ser de al menos 3x3: " + filas + "x" + columnas);
         }
+        MazeGridMapeado grid = MazeGridMapeado.crear(archivo, filas, columnas, MazeGenerator.inicio(),
+                MazeGenerator.fin(filas, columnas));
+        generador.generar(grid, semilla);
+        grid.forzar();
+        return true;
+    }
+
+    /**
+     * Ejecuta el algoritmo completo y actualiza el panel con el resultado.
+     */
+    public void resolver(views.MazePanel panel, String algoritmoNombre) {
+        resolver(panel, algoritmoNombre, null, () -> { });
+    }
+
+    /**
+     * Igual que resolver, pero la búsqueda corre fuera del hilo de la interfaz para que se pueda
+     * cancelar mientras tanto.
+     *
+     * @param progreso receptor de avisos de progreso (puede ser null); se llama desde el hilo de la búsqueda.
+     * @param alTerminar se ejecuta en el hilo de la interfaz cuando termina, con o sin camino.
+     */
+    public void resolver(MazePanel panel, String algoritmoNombre, ProgresoResolucion progreso, Runnable alTerminar) {
+        resolverEnSegundoPlano(panel, algoritmoNombre, progreso, null, alTerminar, resultado -> {
+            panel.clearPathAndVisited(); // limpia el panel antes de pintar
+
+            if (resultado != null && resultado.getPath() != null && !resultado.getPath().isEmpty()) {
+                panel.setVisitedFromEnd(resultado.getVisitedFromEnd()); // frente que parte del fin
+                panel.setVisited(resultado.getVisited()); // muestra nodos visitados
+                panel.setPath(resultado.getPath()); // muestra el camino final
+            } else {
+                JOptionPane.showMessageDialog(null, mensajeSinCamino());
+            }
+        });
     }
 
     /**
@@ -138,85 +693,256 @@ public class MazeController {
      * y luego el camino final encontrado.
      */
     public void resolverAnimado(MazePanel panel, String algoritmoNombre) {
-        SolveResults resultado = resolverLaberinto(
-                algoritmoNombre,
-                panel.getCellStates(),
-                panel.getStartCell(),
-                panel.getEndCell()
-        );
+        resolverAnimado(panel, algoritmoNombre, null, () -> { });
+    }
 
+    /**
+     * Igual que resolverAnimado, resolviendo fuera del hilo de la interfaz. El recorrido se anima mientras
+     * la búsqueda avanza: el algoritmo publica las visitadas en bloques y la animación los pide de a uno,
+     * así que la búsqueda espera a la animación en lugar de guardar todas las visitadas.
+     *
+     * @param progreso receptor de avisos de progreso (puede ser null); se llama desde el hilo de la búsqueda.
+     * @param alTerminar se ejecuta en el hilo de la interfaz cuando termina la búsqueda.
+     */
+    public void resolverAnimado(MazePanel panel, String algoritmoNombre, ProgresoResolucion progreso,
+                                Runnable alTerminar) {
         panel.clearPathAndVisited(); // limpia antes de animar
 
-        if (resultado == null || resultado.getPath() == null || resultado.getPath().isEmpty()) {
-            JOptionPane.showMessageDialog(null, "No se pudo encontrar un camino.");
-            return;
-        }
-
-        List<Cell> visitadas = new ArrayList<>(resultado.getVisited());
-        List<Cell> camino = new ArrayList<>(resultado.getPath());
+        ExecutorService hilo = Executors.newSingleThreadExecutor();
+        PublicadorRecorrido publicador = new PublicadorRecorrido(
+                panel.getCellStates()[0].length, hilo, BLOQUES_EN_ESPERA);
+        AnimacionRecorrido animacion = new AnimacionRecorrido(panel, hilo);
+        publicador.subscribe(animacion);
+        animacionActual = animacion;
+
+        resolverEnSegundoPlano(panel, algoritmoNombre, progreso, publicador, () -> {
+            if (animacionActual == animacion) animacionActual = null;
+            alTerminar.run();
+        }, resultado -> {
+            if (resultado == null || resultado.getPath() == null || resultado.getPath().isEmpty()) {
+                animacion.detener();
+                JOptionPane.showMessageDialog(null, mensajeSinCamino());
+            }
+        });
+    }
 
-        // Hilo para animación visual (visitas + camino)
-        new Thread(() -> {
-            try {
-                for (Cell v : visitadas) {
-                    Thread.sleep(10); // pausa breve
-                    SwingUtilities.invokeLater(() -> panel.setVisited(Set.of(v)));
+    /**
+     * Resuelve con los datos actuales del panel en un hilo de fondo y entrega el resultado
+     * (null si no se pudo resolver) en el hilo de la interfaz.
+     *
+     * @param publicador receptor del recorrido (puede ser null); se cierra al terminar la búsqueda.
+     */
+    private void resolverEnSegundoPlano(MazePanel panel, String algoritmoNombre, ProgresoResolucion progreso,
+                                        PublicadorRecorrido publicador, Runnable alTerminar,
+                                        Consumer<SolveResults> alResolver) {
+        CellState[][] estados = panel.getCellStates();
+        int[][] costos = panel.getCostos();
+        Cell inicio = panel.getStartCell();
+        Cell fin = panel.getEndCell();
+
+        new SwingWorker<SolveResults, Void>() {
+            @Override
+            protected SolveResults doInBackground() {
+                if (publicador == null) {
+                    return resolverLaberinto(algoritmoNombre, estados, costos, inicio, fin, progreso);
                 }
+                SolveResults resultado;
+                try {
+                    resultado = resolverLaberinto(algoritmoNombre, estados, costos, inicio, fin, progreso, publicador);
+                } catch (RuntimeException e) {
+                    publicador.cerrarConError(e);
+                    throw e;
+                }
+                publicador.close(); // publica lo pendiente, esperando al consumidor si hace falta
+                return resultado;
+            }
 
-                for (Cell c : camino) {
-                    Thread.sleep(40); // pausa mayor
-                    SwingUtilities.invokeLater(() -> panel.setPath(List.of(c)));
+            @Override
+            protected void done() {
+                try {
+                    alResolver.accept(get());
+                } catch (InterruptedException | ExecutionException e) {
+                    JOptionPane.showMessageDialog(null, "Error al resolver: " + e.getMessage());
+                } finally {
+                    alTerminar.run();
                 }
-            } catch (InterruptedException e) {
-                e.printStackTrace();
             }
-        }).start();
+        }.execute();
+    }
+
+    /**
+     * Mensaje para una resolución sin camino: indica si se canceló o se venció el plazo.
+     */
+    private String mensajeSinCamino() {
+        String detencion = ultimaDetencion;
+        return detencion != null ? detencion : "No se pudo encontrar un camino.";
     }
 
     /**
      * Muestra paso a paso las celdas visitadas. Al finalizar muestra el camino final.
+     * El primer clic lanza la búsqueda en segundo plano; cada clic siguiente toma una celda del recorrido
+     * publicado, y la búsqueda solo avanza lo que el paso a paso va consumiendo. Si la búsqueda todavía no
+     * publicó la celda, el clic no espera: la celda se pinta cuando llega.
      */
     public void paso(MazePanel panel, String algoritmoNombre) {
+        paso(panel, algoritmoNombre, () -> { });
+    }
+
+    /**
+     * Igual que paso, avisando cuando termina la búsqueda lanzada por el primer clic.
+     *
+     * @param alTerminar se ejecuta en el hilo de la interfaz cuando termina la búsqueda; en los clics
+     *                   siguientes, que no lanzan otra, se ignora.
+     */
+    public void paso(MazePanel panel, String algoritmoNombre, Runnable alTerminar) {
         // Si es la primera vez que se llama
-        if (pasoAPasoCeldas == null) {
-            SolveResults resultado = resolverLaberinto(
-                    algoritmoNombre,
-                    panel.getCellStates(),
-                    panel.getStartCell(),
-                    panel.getEndCell()
-            );
-
-            if (resultado == null || resultado.getVisited() == null || resultado.getVisited().isEmpty()) {
-                JOptionPane.showMessageDialog(null, "No se pudo encontrar un camino.");
-                return;
-            }
-
-            // Inicializa datos del paso a paso
-            pasoAPasoCeldas = new ArrayList<>(resultado.getVisited());
-            caminoEncontrado = new ArrayList<>(resultado.getPath());
-            pasoActual = 0;
+        if (pasoAPaso == null) {
             panel.clearPathAndVisited();
+            PublicadorRecorrido publicador = new PublicadorRecorrido(
+                    panel.getCellStates()[0].length, ForkJoinPool.commonPool(), BLOQUES_EN_ESPERA);
+            PasoAPasoRecorrido recorrido = new PasoAPasoRecorrido(
+                    (celda, desdeFin) -> pintarVisitada(panel, celda, desdeFin),
+                    camino -> mostrarCaminoPasoAPaso(panel, camino));
+            publicador.subscribe(recorrido);
+            pasoAPaso = recorrido;
+            resolverEnSegundoPlano(panel, algoritmoNombre, null, publicador, alTerminar, resultado -> { });
         }
 
         // Muestra una celda visitada por paso
-        if (pasoActual < pasoAPasoCeldas.size()) {
-            Cell siguiente = pasoAPasoCeldas.get(pasoActual++);
-            panel.setVisited(Set.of(siguiente));
+        pasoAPaso.pedirPaso();
+    }
+
+    /**
+     * Cuando termina el paso a paso, muestra el camino final y resetea.
+     */
+    private void mostrarCaminoPasoAPaso(MazePanel panel, List<Cell> camino) {
+        pasoAPaso = null;
+        if (camino.isEmpty()) {
+            JOptionPane.showMessageDialog(null, mensajeSinCamino());
+            return;
+        }
+        panel.setPath(camino);
+        JOptionPane.showMessageDialog(null, "Camino encontrado mostrado.");
+    }
+
+    /**
+     * Pinta una celda visitada con el color del frente que la descubrió.
+     */
+    private void pintarVisitada(MazePanel panel, Cell celda, boolean desdeFin) {
+        if (desdeFin) {
+            panel.setVisitedFromEnd(Set.of(celda));
         } else {
-            // Cuando termina, muestra camino final y resetea
-            panel.setPath(caminoEncontrado);
-            JOptionPane.showMessageDialog(null, "Camino encontrado mostrado.");
-            pasoActual = 0;
-            pasoAPasoCeldas = null;
-            caminoEncontrado = null;
+            panel.setVisited(Set.of(celda));
         }
     }
 
+    /**
+     * @return true si hay un paso a paso empezado: el próximo clic no lanza otra búsqueda.
+     */
+    public boolean isPasoAPasoEnCurso() {
+        return pasoAPaso != null;
+    }
+
     // Permite reiniciar el modo paso a paso
     public void reiniciarPasoAPaso() {
-        pasoActual = 0;
-        pasoAPasoCeldas = null;
-        caminoEncontrado = null;
+        if (pasoAPaso != null) {
+            pasoAPaso.cancelar();
+            pasoAPaso = null;
+        }
+    }
+
+    /**
+     * Guarda el laberinto del panel (muros, inicio, fin y costos) en un archivo binario.
+     * Los costos solo se guardan si alguna celda cuesta más de 1.
+     */
+    public void guardarLaberinto(MazePanel panel, Path archivo) throws IOException {
+        CellState[][] estados = panel.getCellStates();
+        int[][] costos = panel.getCostos();
+        int filas = estados.length;
+        int columnas = estados[0].length;
+
+        MazeGridBits grid = new MazeGridBits(filas, columnas);
+        byte[] costosCeldas = new byte[filas * columnas];
+        boolean hayCostos = false;
+        for (int i = 0; i < filas; i++) {
+            for (int j = 0; j < columnas; j++) {
+                if (estados[i][j] != CellState.WALL) grid.setLibre(i, j, true);
+                costosCeldas[i * columnas + j] = (byte) costos[i][j];
+                hayCostos |= costos[i][j] != 1;
+            }
+        }
+        mazeDao.guardar(new MazeGuardado(grid, panel.getStartCell(), panel.getEndCell(),
+                hayCostos ? costosCeldas : null), archivo);
+    }
+
+    /**
+     * Lee un laberinto guardado con guardarLaberinto.
+     */
+    public MazeGuardado abrirLaberinto(Path archivo) throws IOException {
+        return mazeDao.cargar(archivo);
+    }
+
+    /**
+     * Importa un laberinto en texto ('#' muro, '.' libre, 'S' inicio, 'E' fin) leyéndolo por bloques,
+     * sin cargar el texto en memoria. La velocidad de lectura queda en getUltimoRendimientoImportacion().
+     *
+     * @throws IOException si no se puede leer o el texto no es un laberinto válido.
+     */
+    public MazeGuardado importarLaberinto(Path archivo) throws IOException {
+        long inicioTiempo = System.nanoTime();
+        MazeGuardado laberinto = textoDao.cargar(archivo);
+        long tiempoTotal = Math.max(1, System.nanoTime() - inicioTiempo);
+        ultimoRendimientoImportacion = Files.size(archivo) / 1e6 / (tiempoTotal / 1e9);
+        return laberinto;
+    }
+
+    /**
+     * Exporta el laberinto del panel como texto (los costos no se exportan).
+     */
+    public void exportarLaberinto(MazePanel panel, Path archivo) throws IOException {
+        CellState[][] estados = panel.getCellStates();
+        MazeGridBits grid = new MazeGridBits(estados.length, estados[0].length);
+        for (int i = 0; i < estados.length; i++) {
+            for (int j = 0; j < estados[0].length; j++) {
+                if (estados[i][j] != CellState.WALL) grid.setLibre(i, j, true);
+            }
+        }
+        textoDao.guardar(new MazeGuardado(grid, panel.getStartCell(), panel.getEndCell(), null), archivo);
+    }
+
+    /**
+     * @return MB/s (10^6 bytes por segundo) de la última importación de texto.
+     */
+    public double getUltimoRendimientoImportacion() {
+        return ultimoRendimientoImportacion;
+    }
+
+    /**
+     * Resuelve un laberinto abierto o importado sin mostrarlo en un panel, pasando la grilla directamente al
+     * algoritmo (los que leen MazeGrid, como A* y BFS Bitboard, no la convierten en matriz). No usa el
+     * laberinto sincronizado, el relleno de callejones ni el plazo. Guarda el resultado como resolverLaberinto.
+     *
+     * @return el resultado, o null si el algoritmo no existe o el laberinto no tiene inicio y fin.
+     * @throws IllegalStateException si la grilla es demasiado grande para el algoritmo.
+     */
+    public SolveResults resolverLaberinto(String algoritmoNombre, MazeGuardado laberinto) {
+        MazeSolver solver = algoritmos.get(algoritmoNombre);
+        if (solver == null || laberinto.getInicio() == null || laberinto.getFin() == null) return null;
+
+        long inicioTiempo = System.nanoTime();
+        SolveResults resultado = solver.solve(laberinto.getGrid(), laberinto.getInicio(), laberinto.getFin());
+        long tiempoTotal = System.nanoTime() - inicioTiempo;
+
+        // Un algoritmo incremental quedó reflejando este laberinto y no el del panel sincronizado
+        if (solver instanceof MazeSolverIncremental incremental) incremental.reiniciar();
+
+        if (resultado != null && resultado.getPath() != null && !resultado.getPath().isEmpty()) {
+            String nombre = nombreResultado(algoritmoNombre, solver, resultado);
+            resultado.setTiempo(tiempoTotal);
+            resultado.setAlgoritmo(nombre);
+            dao.guardar(new AlgorithmResult(nombre, resultado.getPath().size(), tiempoTotal));
+        }
+        return resultado;
     }
 
     /**
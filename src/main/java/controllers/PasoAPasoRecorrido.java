@@ -0,0 +1,145 @@
+package controllers;
+
+import models.Cell;
+import solver.BloqueRecorrido;
+
+import javax.swing.SwingUtilities;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * Suscriptor del modo paso a paso: guarda solo unos pocos bloques por adelantado y entrega una celda
+ * visitada por cada clic. Al consumir un bloque pide el siguiente, así que la búsqueda avanza al ritmo
+ * del usuario. Las celdas del camino llegan al final y se juntan para mostrarlas de una vez.
+ * Los bloques se pasan al hilo de la interfaz con invokeLater, donde vive todo el estado: un clic nunca
+ * espera a la búsqueda, y si su celda todavía no llegó se pinta cuando llegue.
+ */
+class PasoAPasoRecorrido implements Flow.Subscriber<BloqueRecorrido> {
+
+    // Bloques que se piden por adelantado para que el clic no espere a la búsqueda
+    private static final int BLOQUES_ADELANTADOS = 2;
+
+    private final PintorPaso pintor;
+    private final Consumer<List<Cell>> alTerminar;
+
+    private volatile Flow.Subscription suscripcion;
+    private volatile boolean cancelado;
+
+    // Estado del hilo de la interfaz
+    private final ArrayDeque<BloqueRecorrido> pendientes = new ArrayDeque<>();
+    private BloqueRecorrido actual;
+    private int posicion;
+    private int pasosPedidos;       // clics que llegaron antes que su celda
+    private boolean terminado;      // la búsqueda ya publicó todo el recorrido
+    private boolean entregado;      // ya se llamó a alTerminar
+    private final List<Cell> camino = new ArrayList<>();
+
+    /**
+     * @param pintor pinta cada celda visitada, en el hilo de la interfaz.
+     * @param alTerminar recibe el camino (vacío si no hay) en el clic siguiente a la última visitada,
+     *                   en el hilo de la interfaz.
+     */
+    PasoAPasoRecorrido(PintorPaso pintor, Consumer<List<Cell>> alTerminar) {
+        this.pintor = pintor;
+        this.alTerminar = alTerminar;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription suscripcion) {
+        this.suscripcion = suscripcion;
+        if (cancelado) suscripcion.cancel();
+        else suscripcion.request(BLOQUES_ADELANTADOS);
+    }
+
+    @Override
+    public void onNext(BloqueRecorrido bloque) {
+        SwingUtilities.invokeLater(() -> recibir(bloque));
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        SwingUtilities.invokeLater(this::terminar);
+    }
+
+    @Override
+    public void onComplete() {
+        SwingUtilities.invokeLater(this::terminar);
+    }
+
+    /**
+     * Pide la siguiente celda visitada (un clic). Si la búsqueda aún no la publicó, se pinta al llegar;
+     * si ya no quedan, se entrega el camino.
+     */
+    void pedirPaso() {
+        pasosPedidos++;
+        atender();
+    }
+
+    /**
+     * Abandona el recorrido; la búsqueda que esperaba por contrapresión deja de frenarse.
+     */
+    void cancelar() {
+        cancelado = true;
+        Flow.Subscription s = suscripcion;
+        if (s != null) s.cancel();
+        pendientes.clear();
+        pasosPedidos = 0;
+    }
+
+    private void recibir(BloqueRecorrido bloque) {
+        if (cancelado) return;
+        pendientes.add(bloque);
+        atender();
+    }
+
+    private void terminar() {
+        terminado = true;
+        atender();
+    }
+
+    // Responde los clics pendientes con las celdas que ya llegaron
+    private void atender() {
+        while (pasosPedidos > 0 && !cancelado && !entregado) {
+            if (siguienteCelda()) {
+                pasosPedidos--;
+            } else {
+                if (!terminado) return; // la celda se pinta cuando llegue su bloque
+                pasosPedidos = 0;
+                entregado = true;
+                alTerminar.accept(camino);
+            }
+        }
+    }
+
+    /**
+     * Pinta la siguiente celda visitada.
+     *
+     * @return false si no hay más visitadas recibidas.
+     */
+    private boolean siguienteCelda() {
+        while (actual == null || posicion == actual.tamano()) {
+            actual = pendientes.poll();
+            posicion = 0;
+            if (actual == null) return false;
+            suscripcion.request(1);
+            if (actual.getTipo() == BloqueRecorrido.Tipo.CAMINO) {
+                for (int i = 0; i < actual.tamano(); i++) {
+                    camino.add(actual.celda(i));
+                }
+                actual = null;
+            }
+        }
+        pintor.pintar(actual.celda(posicion++), actual.getTipo() == BloqueRecorrido.Tipo.VISITA_DESDE_FIN);
+        return true;
+    }
+
+    /**
+     * Pinta una celda del paso a paso.
+     */
+    interface PintorPaso {
+        void pintar(Cell celda, boolean desdeFin);
+    }
+}
@@ -0,0 +1,27 @@
+package dao;
+
+import models.MazeGuardado;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Interfaz DAO para guardar y abrir laberintos completos (muros, inicio, fin y costos),
+ * de modo que se puedan reutilizar entre ejecuciones.
+ */
+public interface MazeDAO {
+
+    /**
+     * Guarda el laberinto en el archivo, reemplazándolo si existe.
+     *
+     * @throws IOException si no se puede escribir.
+     */
+    void guardar(MazeGuardado laberinto, Path archivo) throws IOException;
+
+    /**
+     * Lee un laberinto guardado.
+     *
+     * @throws IOException si no se puede leer o el archivo está dañado.
+     */
+    MazeGuardado cargar(Path archivo) throws IOException;
+}
@@ -0,0 +1,123 @@
+package dao.impl;
+
+import dao.MazeDAO;
+import models.EncabezadoLaberinto;
+import models.MazeGridBits;
+import models.MazeGuardado;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Implementación de MazeDAO con el formato binario descrito en EncabezadoLaberinto: las filas se guardan
+ * empaquetadas en bits (un bit por celda) y el cuerpo lleva un CRC32C para detectar archivos dañados.
+ * Para abrir, el cuerpo se mapea en memoria y se copia de a bloques directamente al arreglo de la grilla,
+ * sin pasar por búferes intermedios; para guardar se escribe con un FileChannel a través de un búfer directo.
+ */
+public class MazeDAOBinario implements MazeDAO {
+
+    // Bytes que se mapean o escriben en cada bloque (múltiplo de 8)
+    private static final int TAMANO_BLOQUE = 1 << 26;
+
+    // Búfer de escritura
+    private static final int TAMANO_BUFER = 1 << 20;
+
+    /**
+     * Guarda el laberinto. El encabezado se escribe al final, cuando ya se conoce el CRC del cuerpo.
+     */
+    @Override
+    public void guardar(MazeGuardado laberinto, Path archivo) throws IOException {
+        MazeGridBits grid = laberinto.getGrid();
+        byte[] costos = laberinto.getCostos();
+        CRC32C crc = new CRC32C();
+
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            canal.position(EncabezadoLaberinto.TAMANO);
+
+            // La vista de long comparte el contenido del búfer de bytes que se escribe
+            ByteBuffer bufer = ByteBuffer.allocateDirect(TAMANO_BUFER).order(ByteOrder.LITTLE_ENDIAN);
+            LongBuffer palabras = bufer.asLongBuffer();
+            for (int desde = 0; desde < grid.getTotalPalabras(); ) {
+                palabras.clear();
+                int copiadas = grid.escribirPalabras(palabras, desde);
+                desde += copiadas;
+                bufer.clear().limit(copiadas * Long.BYTES);
+                escribir(canal, bufer, crc);
+            }
+            if (costos != null) {
+                escribir(canal, ByteBuffer.wrap(costos), crc);
+            }
+
+            EncabezadoLaberinto encabezado = new EncabezadoLaberinto(grid.getFilas(), grid.getColumnas(),
+                    laberinto.getInicio(), laberinto.getFin(), costos != null ? EncabezadoLaberinto.COSTOS : 0,
+                    (int) crc.getValue());
+            ByteBuffer cabecera = encabezado.escribir();
+            while (cabecera.hasRemaining()) canal.write(cabecera, cabecera.position());
+        }
+    }
+
+    /**
+     * Abre un laberinto y verifica su CRC (salvo que el archivo se haya creado sin él).
+     */
+    @Override
+    public MazeGuardado cargar(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            ByteBuffer cabecera = ByteBuffer.allocate(EncabezadoLaberinto.TAMANO);
+            while (cabecera.hasRemaining() && canal.read(cabecera) >= 0) {
+                // lee hasta completar el encabezado o llegar al final
+            }
+            EncabezadoLaberinto encabezado = EncabezadoLaberinto.leer(cabecera.flip());
+            if (encabezado == null) throw new IOException("El archivo no es un laberinto binario: " + archivo);
+            if (canal.size() < encabezado.tamanoArchivo()) {
+                throw new IOException("El archivo de laberinto está incompleto: " + archivo);
+            }
+
+            MazeGridBits grid = new MazeGridBits(encabezado.getFilas(), encabezado.getColumnas());
+            CRC32C crc = new CRC32C();
+
+            // Filas: se mapean por bloques y se copian en bloque al arreglo de la grilla
+            long posicion = EncabezadoLaberinto.TAMANO;
+            long fin = posicion + encabezado.bytesFilas();
+            int desde = 0;
+            while (posicion < fin) {
+                long tamano = Math.min(TAMANO_BLOQUE, fin - posicion);
+                MappedByteBuffer bloque = canal.map(FileChannel.MapMode.READ_ONLY, posicion, tamano);
+                crc.update(bloque.duplicate());
+                desde += grid.leerPalabras(bloque.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer(), desde);
+                posicion += tamano;
+            }
+
+            byte[] costos = null;
+            if (encabezado.tieneCostos()) {
+                long celdas = (long) encabezado.getFilas() * encabezado.getColumnas();
+                if (celdas > Integer.MAX_VALUE - 8) throw new IOException("Demasiados costos para cargar: " + archivo);
+                costos = new byte[(int) celdas];
+                ByteBuffer destino = ByteBuffer.wrap(costos);
+                while (destino.hasRemaining()) {
+                    if (canal.read(destino, posicion + destino.position()) < 0) {
+                        throw new IOException("El archivo de laberinto está incompleto: " + archivo);
+                    }
+                }
+                crc.update(costos);
+            }
+
+            if (encabezado.isVerificable() && (int) crc.getValue() != encabezado.getCrc()) {
+                throw new IOException("El archivo de laberinto está dañado (CRC distinto): " + archivo);
+            }
+            return new MazeGuardado(grid, encabezado.getInicio(), encabezado.getFin(), costos);
+        }
+    }
+
+    private static void escribir(FileChannel canal, ByteBuffer datos, CRC32C crc) throws IOException {
+        crc.update(datos.duplicate());
+        while (datos.hasRemaining()) canal.write(datos);
+    }
+}
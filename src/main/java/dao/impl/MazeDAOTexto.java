@@ -0,0 +1,245 @@
+package dao.impl;
+
+import dao.MazeDAO;
+import models.Cell;
+import models.MazeGridBits;
+import models.MazeGuardado;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Implementación de MazeDAO para laberintos en texto: una línea por fila con '#' para los muros,
+ * '.' para las celdas libres, 'S' para el inicio y 'E' para el fin (ambas libres). Los finales de línea
+ * pueden ser "\n" o "\r\n" (un '\r' en otro lugar es un carácter no válido), y se ignoran las líneas
+ * vacías del final.
+ * El archivo se lee por bloques con un FileChannel y cada fila se empaqueta en bits a medida que llega,
+ * así que el texto nunca está completo en memoria: solo el bloque actual y la grilla. En la misma pasada
+ * se valida que todas las filas tengan el mismo ancho y se ubican el inicio y el fin.
+ * El formato no tiene costos: al guardar se descartan y al abrir todas las celdas cuestan 1.
+ */
+public class MazeDAOTexto implements MazeDAO {
+
+    public static final byte MURO = '#';
+    public static final byte LIBRE = '.';
+    public static final byte INICIO = 'S';
+    public static final byte FIN = 'E';
+
+    // Bytes leídos o escritos en cada bloque
+    private static final int TAMANO_BLOQUE = 1 << 20;
+
+    // Palabras de la grilla inicial como máximo (8 MB); si el archivo tiene más filas, la grilla crece
+    private static final int PALABRAS_INICIALES_MAXIMAS = 1 << 20;
+
+    /**
+     * Escribe el laberinto como texto, fila por fila.
+     */
+    @Override
+    public void guardar(MazeGuardado laberinto, Path archivo) throws IOException {
+        MazeGridBits grid = laberinto.getGrid();
+        Cell inicio = laberinto.getInicio();
+        Cell fin = laberinto.getFin();
+
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer bufer = ByteBuffer.allocate(TAMANO_BLOQUE);
+            for (int r = 0; r < grid.getFilas(); r++) {
+                for (int c = 0; c < grid.getColumnas(); c++) {
+                    byte simbolo = grid.esLibre(r, c) ? LIBRE : MURO;
+                    if (inicio != null && inicio.getRow() == r && inicio.getCol() == c) simbolo = INICIO;
+                    else if (fin != null && fin.getRow() == r && fin.getCol() == c) simbolo = FIN;
+                    if (!bufer.hasRemaining()) vaciar(canal, bufer);
+                    bufer.put(simbolo);
+                }
+                if (!bufer.hasRemaining()) vaciar(canal, bufer);
+                bufer.put((byte) '\n');
+            }
+            vaciar(canal, bufer);
+        }
+    }
+
+    /**
+     * Lee un laberinto en texto.
+     *
+     * @throws IOException si no se puede leer, hay un carácter desconocido, las filas no tienen el mismo ancho
+     *                     o hay más de un inicio o fin.
+     */
+    @Override
+    public MazeGuardado cargar(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            Lector lector = new Lector(canal.size());
+            ByteBuffer bufer = ByteBuffer.allocate(TAMANO_BLOQUE);
+            while (canal.read(bufer.clear()) >= 0) {
+                lector.procesar(bufer.array(), bufer.position());
+            }
+            return lector.terminar();
+        } catch (IllegalArgumentException e) {
+            // MazeGridBits rechaza grillas que no caben en un arreglo
+            throw new IOException("No se puede importar " + archivo + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static void vaciar(FileChannel canal, ByteBuffer bufer) throws IOException {
+        bufer.flip();
+        while (bufer.hasRemaining()) canal.write(bufer);
+        bufer.clear();
+    }
+
+    /**
+     * Estado del análisis entre bloques: la fila en curso se arma en palabras de 64 columnas y se copia
+     * a la grilla al llegar el fin de línea. La grilla se crea al terminar la primera fila, con las filas
+     * que faltan estimadas a partir del tamaño del archivo y del largo de esa fila. La estimación se acota:
+     * si la primera fila es corta por error, el archivo se rechaza al llegar a la segunda sin haber reservado
+     * una grilla enorme.
+     */
+    private static final class Lector {
+        private final long tamanoArchivo;
+        private long leidos;
+
+        private MazeGridBits grid;
+        private int ancho = -1;
+        private int filas;
+        private long linea = 1;
+        private int lineasVacias;
+        private boolean retornoDeCarro;
+        private boolean retornoPendiente;  // el bloque anterior terminó en '\r'
+
+        private long[] filaActual = new long[16];
+        private int columna;
+        private long palabra;
+
+        private Cell inicio;
+        private Cell fin;
+
+        Lector(long tamanoArchivo) {
+            this.tamanoArchivo = tamanoArchivo;
+        }
+
+        void procesar(byte[] datos, int cantidad) throws IOException {
+            if (retornoPendiente && cantidad > 0) {
+                if (datos[0] != '\n') throw caracterNoValido((byte) '\r', columna);
+                retornoPendiente = false;
+            }
+            // Copias locales para el ciclo por carácter
+            int col = columna;
+            long bits = palabra;
+            for (int i = 0; i < cantidad; i++) {
+                byte b = datos[i];
+                switch (b) {
+                    case MURO -> { }
+                    case LIBRE -> bits |= 1L << col;
+                    case '\n' -> {
+                        columna = col;
+                        palabra = bits;
+                        terminarFila(leidos + i + 1);
+                        col = 0;
+                        bits = 0;
+                        continue;
+                    }
+                    case '\r' -> {
+                        // Solo vale justo antes de '\n' o al final del archivo; si el bloque termina acá,
+                        // el siguiente carácter se revisa al empezar el próximo bloque
+                        if (i + 1 == cantidad) retornoPendiente = true;
+                        else if (datos[i + 1] != '\n') throw caracterNoValido(b, col);
+                        retornoDeCarro = true;
+                        continue;
+                    }
+                    case INICIO, FIN -> {
+                        bits |= 1L << col;
+                        marcar(b, col);
+                    }
+                    default -> throw caracterNoValido(b, col);
+                }
+                // Cada 64 columnas la palabra se guarda en la fila en curso
+                if ((++col & 63) == 0) {
+                    if (ancho >= 0 && col > ancho) throw anchoDistinto(col);
+                    guardarPalabra((col >>> 6) - 1, bits);
+                    bits = 0;
+                }
+            }
+            columna = col;
+            palabra = bits;
+            leidos += cantidad;
+        }
+
+        MazeGuardado terminar() throws IOException {
+            if (columna > 0) terminarFila(leidos); // la última línea no tenía salto de línea
+            if (grid == null) throw new IOException("El archivo no tiene ninguna fila");
+            return new MazeGuardado(grid.conFilas(filas), inicio, fin, null);
+        }
+
+        private void marcar(byte simbolo, int col) throws IOException {
+            if (lineasVacias > 0) throw lineaVacia();
+            Cell celda = new Cell(filas, col);
+            if (simbolo == INICIO) {
+                if (inicio != null) throw new IOException("Hay más de un inicio (línea " + linea + ")");
+                inicio = celda;
+            } else {
+                if (fin != null) throw new IOException("Hay más de un fin (línea " + linea + ")");
+                fin = celda;
+            }
+        }
+
+        private void guardarPalabra(int w, long bits) {
+            if (w == filaActual.length) filaActual = Arrays.copyOf(filaActual, w * 2);
+            filaActual[w] = bits;
+        }
+
+        /**
+         * @param posicion bytes del archivo leídos hasta el fin de esta fila.
+         */
+        private void terminarFila(long posicion) throws IOException {
+            if (columna == 0) {
+                lineasVacias++;
+                linea++;
+                return;
+            }
+            if (lineasVacias > 0) throw lineaVacia();
+            if ((columna & 63) != 0) guardarPalabra(columna >>> 6, palabra);
+
+            if (grid == null) {
+                ancho = columna;
+                grid = new MazeGridBits(estimarFilas(posicion), ancho);
+            } else if (columna != ancho) {
+                throw anchoDistinto(columna);
+            }
+            if (filas == grid.getFilas()) grid = grid.conFilas(filas * 2); // la estimación se quedó corta
+            int palabras = (ancho + 63) >>> 6;
+            for (int w = 0; w < palabras; w++) {
+                grid.setPalabra(filas, w, filaActual[w]);
+            }
+            filas++;
+            linea++;
+        }
+
+        /**
+         * Filas totales suponiendo que las que faltan ocupan lo mismo que la primera (con su fin de línea),
+         * sin pasar de PALABRAS_INICIALES_MAXIMAS palabras.
+         */
+        private int estimarFilas(long posicion) {
+            long bytesPorLinea = ancho + (retornoDeCarro ? 2 : 1);
+            long restantes = Math.max(0, tamanoArchivo - posicion);
+            long estimadas = 1 + (restantes + bytesPorLinea - 1) / bytesPorLinea;
+            long maximas = Math.max(1, PALABRAS_INICIALES_MAXIMAS / ((ancho + 63) >>> 6));
+            return (int) Math.min(estimadas, maximas);
+        }
+
+        private IOException caracterNoValido(byte simbolo, int col) {
+            String texto = simbolo == '\r' ? "\\r" : String.valueOf((char) (simbolo & 0xFF));
+            return new IOException("Carácter no válido '" + texto + "' en la línea " + linea + ", columna " + (col + 1));
+        }
+
+        private IOException anchoDistinto(int columnas) {
+            return new IOException("La línea " + linea + " tiene " + (columnas > ancho ? "más de " + ancho : columnas)
+                    + " columnas y se esperaban " + ancho);
+        }
+
+        private IOException lineaVacia() {
+            return new IOException("Línea vacía en medio del laberinto (línea " + (linea - lineasVacias) + ")");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package generator;
+
+import models.Cell;
+import models.MazeGridEditable;
+
+/**
+ * Interfaz para los algoritmos que generan laberintos perfectos (un único camino entre cada par de celdas).
+ * Las celdas del laberinto son las de fila y columna impares de la grilla; las de coordenadas pares son
+ * muros, y la pared entre dos celdas vecinas se abre para unirlas. Una grilla de filas x columnas tiene
+ * (filas - 1) / 2 x (columnas - 1) / 2 celdas de laberinto; si alguna dimensión es par, su última línea
+ * queda como muro.
+ * Con la misma semilla y las mismas dimensiones se obtiene siempre el mismo laberinto.
+ */
+public interface MazeGenerator {
+
+    /**
+     * Talla el laberinto en la grilla, que debe estar toda en muro (como la crean MazeGridBits y
+     * MazeGridMapeado.crear).
+     *
+     * @param grid grilla destino, de al menos 3x3.
+     * @param semilla semilla del generador aleatorio.
+     * @throws IllegalArgumentException si la grilla es muy chica o demasiado grande para el algoritmo.
+     */
+    void generar(MazeGridEditable grid, long semilla);
+
+    /**
+     * @return celda de inicio sugerida: la primera celda del laberinto.
+     */
+    static Cell inicio() {
+        return new Cell(1, 1);
+    }
+
+    /**
+     * @return celda de fin sugerida para una grilla de filas x columnas: la última celda del laberinto,
+     *         en la esquina opuesta al inicio.
+     */
+    static Cell fin(int filas, int columnas) {
+        return new Cell(2 * ((filas - 1) / 2) - 1, 2 * ((columnas - 1) / 2) - 1);
+    }
+}
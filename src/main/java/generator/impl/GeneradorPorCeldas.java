@@ -0,0 +1,91 @@
+package generator.impl;
+
+import generator.MazeGenerator;
+import models.MazeGridEditable;
+
+import java.util.SplittableRandom;
+
+/**
+ * Base de los generadores que guardan estado por celda del laberinto (visitadas, conjuntos, frontera):
+ * numera las celdas como fila * ancho + columna en coordenadas del laberinto, así que el total debe caber
+ * en un int. Para grillas más grandes está MazeGeneratorEller, que usa memoria proporcional a una fila.
+ */
+abstract class GeneradorPorCeldas implements MazeGenerator {
+
+    // Máximo de celdas del laberinto (las aristas, dos por celda, también deben caber en un int)
+    static final long MAXIMO_CELDAS = Integer.MAX_VALUE / 2;
+
+    @Override
+    public final void generar(MazeGridEditable grid, long semilla) {
+        int alto = (grid.getFilas() - 1) / 2;
+        int ancho = (grid.getColumnas() - 1) / 2;
+        if (alto < 1 || ancho < 1) {
+            throw new IllegalArgumentException("La grilla debe ser de al menos 3x3: "
+                    + grid.getFilas() + "x" + grid.getColumnas());
+        }
+        if ((long) alto * ancho > MAXIMO_CELDAS) {
+            throw new IllegalArgumentException("La grilla de " + grid.getFilas() + "x" + grid.getColumnas()
+                    + " es demasiado grande para " + getClass().getSimpleName());
+        }
+        tallar(new Tallador(grid, ancho), alto, ancho, new SplittableRandom(semilla));
+    }
+
+    /**
+     * Genera el laberinto de alto x ancho celdas.
+     */
+    protected abstract void tallar(Tallador tallador, int alto, int ancho, SplittableRandom aleatorio);
+
+    /**
+     * Traduce celdas del laberinto (índice fila * ancho + columna) a la grilla y las abre.
+     */
+    static final class Tallador {
+        private final MazeGridEditable grid;
+        private final int ancho;
+
+        Tallador(MazeGridEditable grid, int ancho) {
+            this.grid = grid;
+            this.ancho = ancho;
+        }
+
+        /**
+         * Abre la celda sin unirla con ninguna vecina.
+         */
+        void abrir(int celda) {
+            grid.setLibre(2 * (celda / ancho) + 1, 2 * (celda % ancho) + 1, true);
+        }
+
+        /**
+         * Une dos celdas vecinas abriendo ambas y la pared entre ellas.
+         */
+        void unir(int a, int b) {
+            int filaA = a / ancho, colA = a % ancho;
+            int filaB = b / ancho, colB = b % ancho;
+            grid.setLibre(2 * filaA + 1, 2 * colA + 1, true);
+            grid.setLibre(2 * filaB + 1, 2 * colB + 1, true);
+            grid.setLibre(filaA + filaB + 1, colA + colB + 1, true);
+        }
+    }
+
+    /**
+     * Guarda en vecinos las celdas adyacentes a la indicada (arriba, abajo, izquierda, derecha).
+     *
+     * @return cantidad de vecinos guardados.
+     */
+    static int vecinos(int celda, int alto, int ancho, int[] vecinos) {
+        int fila = celda / ancho, col = celda % ancho;
+        int k = 0;
+        if (fila > 0) vecinos[k++] = celda - ancho;
+        if (fila < alto - 1) vecinos[k++] = celda + ancho;
+        if (col > 0) vecinos[k++] = celda - 1;
+        if (col < ancho - 1) vecinos[k++] = celda + 1;
+        return k;
+    }
+
+    static boolean marcada(long[] marcas, int celda) {
+        return (marcas[celda >>> 6] & (1L << celda)) != 0;
+    }
+
+    static void marcar(long[] marcas, int celda) {
+        marcas[celda >>> 6] |= 1L << celda;
+    }
+}
@@ -0,0 +1,42 @@
+package generator.impl;
+
+import java.util.SplittableRandom;
+
+/**
+ * Backtracker recursivo implementado con una pila explícita: avanza a una vecina no visitada al azar y
+ * retrocede cuando no quedan. Produce pasillos largos con pocas bifurcaciones.
+ * Usa un bit por celda para las visitadas y un int por celda para la pila, sin riesgo de desbordar la del hilo.
+ */
+public class MazeGeneratorBacktracker extends GeneradorPorCeldas {
+
+    @Override
+    protected void tallar(Tallador tallador, int alto, int ancho, SplittableRandom aleatorio) {
+        int total = alto * ancho;
+        long[] visitadas = new long[(total + 63) >>> 6];
+        int[] pila = new int[total];
+        int[] vecinos = new int[4];
+
+        int inicio = aleatorio.nextInt(total);
+        marcar(visitadas, inicio);
+        tallador.abrir(inicio);
+        int tope = 0;
+        pila[tope++] = inicio;
+
+        while (tope > 0) {
+            int actual = pila[tope - 1];
+            int cantidad = 0;
+            int k = vecinos(actual, alto, ancho, vecinos);
+            for (int i = 0; i < k; i++) {
+                if (!marcada(visitadas, vecinos[i])) vecinos[cantidad++] = vecinos[i];
+            }
+            if (cantidad == 0) {
+                tope--; // sin vecinas libres: retrocede
+                continue;
+            }
+            int siguiente = vecinos[aleatorio.nextInt(cantidad)];
+            marcar(visitadas, siguiente);
+            tallador.unir(actual, siguiente);
+            pila[tope++] = siguiente;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package generator.impl;
+
+import generator.MazeGenerator;
+import models.MazeGridEditable;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Algoritmo de Eller: genera el laberinto fila por fila recordando solo a qué conjunto pertenece cada celda
+ * de la fila actual. En cada fila une al azar vecinas de conjuntos distintos, y cada conjunto baja al menos
+ * una vez a la fila siguiente; en la última fila se unen todos los conjuntos que quedan.
+ * Usa memoria proporcional al ancho y escribe cada fila entera con setPalabra() apenas la termina, así que
+ * puede generar laberintos de cualquier alto directamente en un MazeGridMapeado (por ejemplo, de 100k x 100k).
+ */
+public class MazeGeneratorEller implements MazeGenerator {
+
+    @Override
+    public void generar(MazeGridEditable grid, long semilla) {
+        int alto = (grid.getFilas() - 1) / 2;
+        int ancho = (grid.getColumnas() - 1) / 2;
+        if (alto < 1 || ancho < 1) {
+            throw new IllegalArgumentException("La grilla debe ser de al menos 3x3: "
+                    + grid.getFilas() + "x" + grid.getColumnas());
+        }
+        SplittableRandom aleatorio = new SplittableRandom(semilla);
+
+        // Las dos filas de la grilla que corresponden a una fila del laberinto: celdas y paredes de abajo
+        int palabras = (grid.getColumnas() + 63) >>> 6;
+        long[] filaCeldas = new long[palabras];
+        long[] filaParedes = new long[palabras];
+
+        // Conjuntos de la fila actual como union-find sobre las columnas; la raíz es una columna
+        int[] padre = new int[ancho];
+        // Raíz (en la fila anterior) del conjunto que bajó a cada columna, o -1 si no bajó
+        int[] arriba = new int[ancho];
+        // Primera columna de la fila actual que recibió cada conjunto de la anterior, o -1
+        int[] primera = new int[ancho];
+        // Última columna de cada conjunto y si ya bajó, indexados por raíz
+        int[] ultima = new int[ancho];
+        long[] bajo = new long[(ancho + 63) >>> 6];
+        Arrays.fill(arriba, -1);
+        Arrays.fill(primera, -1);
+
+        for (int fila = 0; fila < alto; fila++) {
+            boolean ultimaFila = fila == alto - 1;
+
+            // Las celdas que bajaron de la fila anterior siguen en el mismo conjunto; el resto empieza uno nuevo
+            for (int j = 0; j < ancho; j++) {
+                int conjunto = arriba[j];
+                if (conjunto < 0) {
+                    padre[j] = j;
+                } else if (primera[conjunto] < 0) {
+                    primera[conjunto] = j;
+                    padre[j] = j;
+                } else {
+                    padre[j] = primera[conjunto];
+                }
+            }
+            for (int j = 0; j < ancho; j++) {
+                if (arriba[j] >= 0) primera[arriba[j]] = -1;
+            }
+
+            // Uniones horizontales al azar (obligatorias en la última fila)
+            Arrays.fill(filaCeldas, 0);
+            for (int j = 0; j < ancho; j++) {
+                filaCeldas[(2 * j + 1) >>> 6] |= 1L << (2 * j + 1);
+            }
+            for (int j = 0; j < ancho - 1; j++) {
+                int a = raiz(padre, j);
+                int b = raiz(padre, j + 1);
+                if (a != b && (ultimaFila || aleatorio.nextBoolean())) {
+                    padre[b] = a;
+                    filaCeldas[(2 * j + 2) >>> 6] |= 1L << (2 * j + 2);
+                }
+            }
+            escribir(grid, 2 * fila + 1, filaCeldas);
+            if (ultimaFila) break;
+
+            // Uniones verticales al azar, con al menos una por conjunto
+            for (int j = 0; j < ancho; j++) {
+                padre[j] = raiz(padre, j);
+                ultima[padre[j]] = j;
+            }
+            Arrays.fill(bajo, 0);
+            Arrays.fill(filaParedes, 0);
+            for (int j = 0; j < ancho; j++) {
+                int conjunto = padre[j];
+                boolean yaBajo = (bajo[conjunto >>> 6] & (1L << conjunto)) != 0;
+                if (aleatorio.nextBoolean() || (ultima[conjunto] == j && !yaBajo)) {
+                    bajo[conjunto >>> 6] |= 1L << conjunto;
+                    arriba[j] = conjunto;
+                    filaParedes[(2 * j + 1) >>> 6] |= 1L << (2 * j + 1);
+                } else {
+                    arriba[j] = -1;
+                }
+            }
+            escribir(grid, 2 * fila + 2, filaParedes);
+        }
+    }
+
+    private static void escribir(MazeGridEditable grid, int fila, long[] palabras) {
+        for (int w = 0; w < palabras.length; w++) {
+            grid.setPalabra(fila, w, palabras[w]);
+        }
+    }
+
+    private static int raiz(int[] padre, int columna) {
+        while (padre[columna] != columna) {
+            padre[columna] = padre[padre[columna]];
+            columna = padre[columna];
+        }
+        return columna;
+    }
+}
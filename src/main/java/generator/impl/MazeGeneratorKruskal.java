@@ -0,0 +1,55 @@
+package generator.impl;
+
+import java.util.SplittableRandom;
+
+/**
+ * Kruskal aleatorio: recorre las paredes interiores en orden aleatorio y abre cada una que separa celdas
+ * de conjuntos distintos, uniendo los conjuntos (union-find con compresión de caminos). Produce muchos
+ * callejones cortos. Cada pared es un int: celda * 2 para la de la derecha y celda * 2 + 1 para la de abajo.
+ */
+public class MazeGeneratorKruskal extends GeneradorPorCeldas {
+
+    @Override
+    protected void tallar(Tallador tallador, int alto, int ancho, SplittableRandom aleatorio) {
+        int total = alto * ancho;
+        int[] paredes = new int[alto * (ancho - 1) + (alto - 1) * ancho];
+        int cantidad = 0;
+        for (int celda = 0; celda < total; celda++) {
+            if (celda % ancho < ancho - 1) paredes[cantidad++] = celda * 2;
+            if (celda / ancho < alto - 1) paredes[cantidad++] = celda * 2 + 1;
+        }
+        // Fisher-Yates
+        for (int i = cantidad - 1; i > 0; i--) {
+            int j = aleatorio.nextInt(i + 1);
+            int t = paredes[i];
+            paredes[i] = paredes[j];
+            paredes[j] = t;
+        }
+
+        int[] padre = new int[total];
+        for (int celda = 0; celda < total; celda++) {
+            padre[celda] = celda;
+            tallador.abrir(celda);
+        }
+
+        int unidas = 1;
+        for (int i = 0; i < cantidad && unidas < total; i++) {
+            int a = paredes[i] >>> 1;
+            int b = (paredes[i] & 1) == 0 ? a + 1 : a + ancho;
+            int raizA = raiz(padre, a);
+            int raizB = raiz(padre, b);
+            if (raizA == raizB) continue; // ya conectadas: abrirla formaría un ciclo
+            padre[raizA] = raizB;
+            tallador.unir(a, b);
+            unidas++;
+        }
+    }
+
+    private static int raiz(int[] padre, int celda) {
+        while (padre[celda] != celda) {
+            padre[celda] = padre[padre[celda]]; // compresión a la mitad
+            celda = padre[celda];
+        }
+        return celda;
+    }
+}
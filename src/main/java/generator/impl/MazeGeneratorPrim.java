@@ -0,0 +1,61 @@
+package generator.impl;
+
+import java.util.SplittableRandom;
+
+/**
+ * Prim aleatorio: mantiene la frontera de celdas vecinas al laberinto, saca una al azar y la une con una
+ * vecina que ya forma parte de él. Produce muchas ramas cortas que salen del inicio.
+ * La frontera es un arreglo del que se quita en O(1) intercambiando con el último.
+ */
+public class MazeGeneratorPrim extends GeneradorPorCeldas {
+
+    // Estado de cada celda
+    private static final byte FUERA = 0;
+    private static final byte FRONTERA = 1;
+    private static final byte DENTRO = 2;
+
+    @Override
+    protected void tallar(Tallador tallador, int alto, int ancho, SplittableRandom aleatorio) {
+        int total = alto * ancho;
+        byte[] estado = new byte[total];
+        int[] frontera = new int[total];
+        int[] vecinos = new int[4];
+
+        int inicio = aleatorio.nextInt(total);
+        estado[inicio] = DENTRO;
+        tallador.abrir(inicio);
+        int tamano = agregarFrontera(inicio, alto, ancho, estado, frontera, 0, vecinos);
+
+        while (tamano > 0) {
+            int i = aleatorio.nextInt(tamano);
+            int celda = frontera[i];
+            frontera[i] = frontera[--tamano];
+
+            int cantidad = 0;
+            int k = vecinos(celda, alto, ancho, vecinos);
+            for (int j = 0; j < k; j++) {
+                if (estado[vecinos[j]] == DENTRO) vecinos[cantidad++] = vecinos[j];
+            }
+            tallador.unir(vecinos[aleatorio.nextInt(cantidad)], celda);
+            estado[celda] = DENTRO;
+            tamano = agregarFrontera(celda, alto, ancho, estado, frontera, tamano, vecinos);
+        }
+    }
+
+    /**
+     * Agrega a la frontera las vecinas de la celda que todavía están fuera.
+     *
+     * @return nuevo tamaño de la frontera.
+     */
+    private static int agregarFrontera(int celda, int alto, int ancho, byte[] estado, int[] frontera, int tamano,
+                                       int[] vecinos) {
+        int k = vecinos(celda, alto, ancho, vecinos);
+        for (int j = 0; j < k; j++) {
+            if (estado[vecinos[j]] == FUERA) {
+                estado[vecinos[j]] = FRONTERA;
+                frontera[tamano++] = vecinos[j];
+            }
+        }
+        return tamano;
+    }
+}
@@ -0,0 +1,44 @@
+package generator.impl;
+
+import java.util.SplittableRandom;
+
+/**
+ * Algoritmo de Wilson: desde cada celda fuera del laberinto hace una caminata aleatoria hasta tocarlo y
+ * agrega el camino sin sus ciclos. Genera un árbol uniforme entre todos los laberintos perfectos posibles
+ * (sin el sesgo de los demás), a cambio de ser más lento al principio, cuando el laberinto es chico.
+ * Los ciclos se borran solos: por cada celda se guarda solo la última dirección con la que se salió de ella.
+ */
+public class MazeGeneratorWilson extends GeneradorPorCeldas {
+
+    @Override
+    protected void tallar(Tallador tallador, int alto, int ancho, SplittableRandom aleatorio) {
+        int total = alto * ancho;
+        long[] dentro = new long[(total + 63) >>> 6];
+        int[] salida = new int[total]; // celda a la que se salió en la última caminata
+        int[] vecinos = new int[4];
+
+        int raiz = aleatorio.nextInt(total);
+        marcar(dentro, raiz);
+        tallador.abrir(raiz);
+
+        for (int inicio = 0; inicio < total; inicio++) {
+            if (marcada(dentro, inicio)) continue;
+
+            // Caminata aleatoria hasta una celda del laberinto
+            int actual = inicio;
+            while (!marcada(dentro, actual)) {
+                int k = vecinos(actual, alto, ancho, vecinos);
+                salida[actual] = vecinos[aleatorio.nextInt(k)];
+                actual = salida[actual];
+            }
+
+            // Se repite la caminata siguiendo las últimas salidas, que ya no tienen ciclos
+            actual = inicio;
+            while (!marcada(dentro, actual)) {
+                marcar(dentro, actual);
+                tallador.unir(actual, salida[actual]);
+                actual = salida[actual];
+            }
+        }
+    }
+}
@@ -1,8 +1,6 @@
 // Cell.java
 package models;
 
-import java.util.Objects;
-
 /**
  * Representa una celda en el laberinto mediante sus coordenadas (fila, columna).
  */
@@ -45,11 +43,11 @@ public class Cell {
     }
 
     /**
-     * Genera un hash único basado en fila y columna.
+     * Genera un hash multiplicando la fila por una constante impar grande y combinándola con la columna.
      */
     @Override
     public int hashCode() {
-        return Objects.hash(row, col);
+        return (row * 0x9E3779B1) ^ col;
     }
 
     /**
@@ -6,6 +6,7 @@ public enum CellState {
     START,     // Punto de inicio (verde)
     END,       // Punto de fin (rojo)
     VISITED,   // Celda que ha sido visitada
+    VISITED_END, // Celda visitada por un frente que parte del fin (búsqueda bidireccional)
     PATH,      // Celda que forma parte del camino encontrado
     CURRENT    // Celda actual analizada (para visualización paso a paso)
 
@@ -0,0 +1,69 @@
+package models;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Vista de solo lectura de un conjunto de celdas distintas guardado como índices lineales, que se recorre
+ * en el orden en que se agregaron (como un LinkedHashSet). Para contains() se arma la primera vez un bitset
+ * con un bit por celda del laberinto, en lugar de una tabla hash con un nodo por elemento.
+ */
+final class ConjuntoCeldasCompacto extends AbstractSet<Cell> {
+
+    private final int[] celdas;
+    private final int columnas;
+
+    // Bitset de pertenencia; se arma al primer contains()
+    private volatile long[] presentes;
+
+    ConjuntoCeldasCompacto(int[] celdas, int columnas) {
+        this.celdas = celdas;
+        this.columnas = columnas;
+    }
+
+    @Override
+    public Iterator<Cell> iterator() {
+        return new Iterator<>() {
+            private int siguiente;
+
+            @Override
+            public boolean hasNext() {
+                return siguiente < celdas.length;
+            }
+
+            @Override
+            public Cell next() {
+                if (siguiente >= celdas.length) throw new NoSuchElementException();
+                int celda = celdas[siguiente++];
+                return new Cell(celda / columnas, celda % columnas);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return celdas.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Cell cell)) return false;
+        if (cell.getRow() < 0 || cell.getCol() < 0 || cell.getCol() >= columnas) return false;
+        long indice = (long) cell.getRow() * columnas + cell.getCol();
+        long[] bits = presentes();
+        return indice < (long) bits.length << 6 && (bits[(int) (indice >>> 6)] & (1L << indice)) != 0;
+    }
+
+    private long[] presentes() {
+        long[] bits = presentes;
+        if (bits == null) {
+            int maximo = -1;
+            for (int celda : celdas) maximo = Math.max(maximo, celda);
+            bits = new long[(maximo + 64) >> 6];
+            for (int celda : celdas) bits[celda >>> 6] |= 1L << celda;
+            presentes = bits;
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,38 @@
+package models;
+
+/**
+ * Par de celdas (inicio, fin) que se quiere resolver sobre un laberinto.
+ * Se usa para resolver muchas consultas en lote sobre la misma matriz.
+ */
+public class Consulta {
+    private final Cell inicio;
+    private final Cell fin;
+
+    /**
+     * @param inicio celda de inicio.
+     * @param fin celda de fin.
+     */
+    public Consulta(Cell inicio, Cell fin) {
+        this.inicio = inicio;
+        this.fin = fin;
+    }
+
+    /**
+     * @return la celda de inicio.
+     */
+    public Cell getInicio() {
+        return inicio;
+    }
+
+    /**
+     * @return la celda de fin.
+     */
+    public Cell getFin() {
+        return fin;
+    }
+
+    @Override
+    public String toString() {
+        return inicio + " -> " + fin;
+    }
+}
@@ -0,0 +1,119 @@
+package models;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Encabezado de 40 bytes de los archivos binarios de laberinto (extensión .lab), en little-endian:
+ * <pre>
+ *  0  MAGIA ("LAB1")        4  filas               8  columnas
+ * 12  fila de inicio       16  columna de inicio  20  fila de fin      24  columna de fin
+ * 28  banderas             32  CRC32C del cuerpo  36  reservado (0)
+ * </pre>
+ * Inicio y fin valen -1 si no están definidos. Después del encabezado van las filas empaquetadas en bits
+ * (palabras de 64 bits, como MazeGridBits) y, si la bandera COSTOS está activa, un byte de costo por celda.
+ * Las filas quedan alineadas a 8 bytes, así que el cuerpo se puede mapear directamente como long.
+ */
+public final class EncabezadoLaberinto {
+
+    /** Primeros 4 bytes del archivo ("LAB1"). */
+    public static final int MAGIA = 0x4C414231;
+
+    /** Bytes del encabezado. */
+    public static final int TAMANO = 40;
+
+    /** Bandera: después de las filas hay un byte de costo por celda. */
+    public static final int COSTOS = 1;
+
+    /** Bandera: el CRC no se calculó (archivo creado para escribirse por partes, como MazeGridMapeado). */
+    public static final int SIN_VERIFICACION = 2;
+
+    private final int filas;
+    private final int columnas;
+    private final Cell inicio;
+    private final Cell fin;
+    private final int banderas;
+    private final int crc;
+
+    public EncabezadoLaberinto(int filas, int columnas, Cell inicio, Cell fin, int banderas, int crc) {
+        this.filas = filas;
+        this.columnas = columnas;
+        this.inicio = inicio;
+        this.fin = fin;
+        this.banderas = banderas;
+        this.crc = crc;
+    }
+
+    /**
+     * Lee un encabezado desde la posición 0 del búfer.
+     *
+     * @return el encabezado, o null si el búfer es muy corto, no empieza con MAGIA o las dimensiones no son válidas.
+     */
+    public static EncabezadoLaberinto leer(ByteBuffer bufer) {
+        ByteBuffer b = bufer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        if (b.limit() < TAMANO || b.getInt(0) != MAGIA) return null;
+        int filas = b.getInt(4);
+        int columnas = b.getInt(8);
+        if (filas <= 0 || columnas <= 0) return null;
+        return new EncabezadoLaberinto(filas, columnas, celda(b.getInt(12), b.getInt(16)),
+                celda(b.getInt(20), b.getInt(24)), b.getInt(28), b.getInt(32));
+    }
+
+    /**
+     * @return un búfer de TAMANO bytes listo para escribir.
+     */
+    public ByteBuffer escribir() {
+        ByteBuffer b = ByteBuffer.allocate(TAMANO).order(ByteOrder.LITTLE_ENDIAN);
+        b.putInt(MAGIA).putInt(filas).putInt(columnas)
+                .putInt(inicio != null ? inicio.getRow() : -1).putInt(inicio != null ? inicio.getCol() : -1)
+                .putInt(fin != null ? fin.getRow() : -1).putInt(fin != null ? fin.getCol() : -1)
+                .putInt(banderas).putInt(crc).putInt(0);
+        return b.flip();
+    }
+
+    /**
+     * @return bytes de las filas empaquetadas (sin el encabezado ni los costos).
+     */
+    public long bytesFilas() {
+        return (long) filas * ((columnas + 63) >>> 6) * Long.BYTES;
+    }
+
+    /**
+     * @return bytes totales que debe tener el archivo.
+     */
+    public long tamanoArchivo() {
+        return TAMANO + bytesFilas() + (tieneCostos() ? (long) filas * columnas : 0);
+    }
+
+    public int getFilas() {
+        return filas;
+    }
+
+    public int getColumnas() {
+        return columnas;
+    }
+
+    public Cell getInicio() {
+        return inicio;
+    }
+
+    public Cell getFin() {
+        return fin;
+    }
+
+    public boolean tieneCostos() {
+        return (banderas & COSTOS) != 0;
+    }
+
+    public boolean isVerificable() {
+        return (banderas & SIN_VERIFICACION) == 0;
+    }
+
+    public int getCrc() {
+        return crc;
+    }
+
+    private static Cell celda(int fila, int columna) {
+        return fila < 0 || columna < 0 ? null : new Cell(fila, columna);
+    }
+}
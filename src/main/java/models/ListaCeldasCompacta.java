@@ -0,0 +1,30 @@
+package models;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Vista de solo lectura de una secuencia de celdas guardada como índices lineales (fila * columnas + columna).
+ * Cada celda ocupa un int; los objetos Cell se crean recién cuando se leen.
+ */
+final class ListaCeldasCompacta extends AbstractList<Cell> implements RandomAccess {
+
+    private final int[] celdas;
+    private final int columnas;
+
+    ListaCeldasCompacta(int[] celdas, int columnas) {
+        this.celdas = celdas;
+        this.columnas = columnas;
+    }
+
+    @Override
+    public Cell get(int i) {
+        int celda = celdas[i];
+        return new Cell(celda / columnas, celda % columnas);
+    }
+
+    @Override
+    public int size() {
+        return celdas.length;
+    }
+}
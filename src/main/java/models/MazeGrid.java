@@ -0,0 +1,74 @@
+package models;
+
+/**
+ * Laberinto visto como una grilla de solo lectura de celdas libres y muros. Permite guardarlo de forma
+ * más compacta que boolean[][] (un bit por celda en lugar de un byte más el encabezado de cada fila)
+ * o fuera del heap, en un archivo mapeado en memoria.
+ * Las columnas se leen también de a 64 con palabra(), que es como las recorren los algoritmos bit-paralelos.
+ */
+public interface MazeGrid {
+
+    /**
+     * Máximo de celdas de una grilla que se puede convertir a boolean[][] (los algoritmos usan índices int).
+     */
+    long MAXIMO_CELDAS_MATRIZ = Integer.MAX_VALUE;
+
+    int getFilas();
+
+    int getColumnas();
+
+    /**
+     * @return true si la celda es transitable.
+     */
+    boolean esLibre(int fila, int columna);
+
+    /**
+     * Devuelve 64 columnas consecutivas de una fila: el bit j es la columna w * 64 + j. Las columnas
+     * que quedan fuera de la grilla valen 0.
+     *
+     * @param fila fila de la grilla.
+     * @param w número de palabra dentro de la fila.
+     */
+    default long palabra(int fila, int w) {
+        int desde = w << 6;
+        int hasta = Math.min(desde + 64, getColumnas());
+        long bits = 0;
+        for (int c = desde; c < hasta; c++) {
+            if (esLibre(fila, c)) bits |= 1L << c;
+        }
+        return bits;
+    }
+
+    /**
+     * @return cantidad de celdas de la grilla (puede superar el rango de int).
+     */
+    default long celdas() {
+        return (long) getFilas() * getColumnas();
+    }
+
+    /**
+     * Convierte la grilla a la matriz booleana que reciben los algoritmos (true = camino, false = muro).
+     *
+     * @throws IllegalStateException si la grilla tiene más de MAXIMO_CELDAS_MATRIZ celdas.
+     */
+    default boolean[][] aMatriz() {
+        if (celdas() > MAXIMO_CELDAS_MATRIZ) {
+            throw new IllegalStateException("La grilla de " + getFilas() + "x" + getColumnas()
+                    + " es demasiado grande para convertirla en matriz");
+        }
+        boolean[][] matriz = new boolean[getFilas()][getColumnas()];
+        for (int r = 0; r < matriz.length; r++) {
+            for (int c = 0; c < matriz[r].length; c++) {
+                matriz[r][c] = esLibre(r, c);
+            }
+        }
+        return matriz;
+    }
+
+    /**
+     * Adapta una matriz booleana existente sin copiarla.
+     */
+    static MazeGrid de(boolean[][] maze) {
+        return new MazeGridMatriz(maze);
+    }
+}
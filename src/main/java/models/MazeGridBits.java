@@ -0,0 +1,141 @@
+package models;
+
+import java.nio.LongBuffer;
+
+/**
+ * Grilla empaquetada en bits: cada fila ocupa palabrasPorFila valores long y el bit j de la palabra w
+ * es la columna w * 64 + j (1 = libre). Usa un bit por celda, ocho veces menos que boolean[][],
+ * y palabra() devuelve los datos guardados sin recalcularlos.
+ */
+public class MazeGridBits implements MazeGridEditable {
+
+    private final int filas;
+    private final int columnas;
+    private final int palabrasPorFila;
+    private final long[] bits;
+
+    /**
+     * Crea una grilla con todas las celdas como muro.
+     *
+     * @throws IllegalArgumentException si las dimensiones no son positivas o la grilla no cabe en un arreglo.
+     */
+    public MazeGridBits(int filas, int columnas) {
+        if (filas <= 0 || columnas <= 0) {
+            throw new IllegalArgumentException("Dimensiones inválidas: " + filas + "x" + columnas);
+        }
+        long palabras = (long) filas * ((columnas + 63) >>> 6);
+        if (palabras > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("La grilla de " + filas + "x" + columnas + " no cabe en memoria");
+        }
+        this.filas = filas;
+        this.columnas = columnas;
+        this.palabrasPorFila = (columnas + 63) >>> 6;
+        this.bits = new long[(int) palabras];
+    }
+
+    /**
+     * Empaqueta una matriz booleana (true = camino, false = muro).
+     */
+    public static MazeGridBits desde(boolean[][] maze) {
+        MazeGridBits grid = new MazeGridBits(maze.length, maze[0].length);
+        for (int r = 0; r < grid.filas; r++) {
+            int base = r * grid.palabrasPorFila;
+            for (int c = 0; c < grid.columnas; c++) {
+                if (maze[r][c]) grid.bits[base + (c >>> 6)] |= 1L << c;
+            }
+        }
+        return grid;
+    }
+
+    @Override
+    public int getFilas() {
+        return filas;
+    }
+
+    @Override
+    public int getColumnas() {
+        return columnas;
+    }
+
+    public int getPalabrasPorFila() {
+        return palabrasPorFila;
+    }
+
+    @Override
+    public boolean esLibre(int fila, int columna) {
+        return (bits[fila * palabrasPorFila + (columna >>> 6)] & (1L << columna)) != 0;
+    }
+
+    /**
+     * Cambia una celda a libre o muro.
+     */
+    @Override
+    public void setLibre(int fila, int columna, boolean libre) {
+        int p = fila * palabrasPorFila + (columna >>> 6);
+        if (libre) bits[p] |= 1L << columna;
+        else bits[p] &= ~(1L << columna);
+    }
+
+    @Override
+    public long palabra(int fila, int w) {
+        return bits[fila * palabrasPorFila + w];
+    }
+
+    /**
+     * Reemplaza 64 columnas de una fila; los bits de columnas fuera de la grilla se descartan.
+     */
+    @Override
+    public void setPalabra(int fila, int w, long valor) {
+        int resto = columnas - (w << 6);
+        if (resto < 64) valor &= (1L << resto) - 1;
+        bits[fila * palabrasPorFila + w] = valor;
+    }
+
+    /**
+     * Devuelve la grilla con otra cantidad de filas: las que sobran se descartan y las nuevas quedan como muro.
+     * Si la cantidad no cambia devuelve la misma grilla; si no, una copia.
+     */
+    public MazeGridBits conFilas(int filas) {
+        if (filas == this.filas) return this;
+        MazeGridBits copia = new MazeGridBits(filas, columnas);
+        System.arraycopy(bits, 0, copia.bits, 0, Math.min(bits.length, copia.bits.length));
+        return copia;
+    }
+
+    /**
+     * @return cantidad total de palabras (filas * palabrasPorFila).
+     */
+    public int getTotalPalabras() {
+        return bits.length;
+    }
+
+    /**
+     * Copia palabras seguidas (fila por fila) desde el búfer, a partir de la palabra indicada, hasta vaciar
+     * el búfer o completar la grilla. Los bits de las columnas de relleno se descartan.
+     *
+     * @return cantidad de palabras copiadas.
+     */
+    public int leerPalabras(LongBuffer origen, int desde) {
+        int cantidad = Math.min(origen.remaining(), bits.length - desde);
+        origen.get(bits, desde, cantidad);
+        if ((columnas & 63) != 0) {
+            long mascara = (1L << (columnas & 63)) - 1;
+            for (int p = desde + palabrasPorFila - 1 - desde % palabrasPorFila; p < desde + cantidad; p += palabrasPorFila) {
+                bits[p] &= mascara;
+            }
+        }
+        return cantidad;
+    }
+
+    /**
+     * Copia palabras seguidas (fila por fila) al búfer, a partir de la palabra indicada, hasta llenar
+     * el búfer o completar la grilla.
+     *
+     * @return cantidad de palabras copiadas.
+     */
+    public int escribirPalabras(LongBuffer destino, int desde) {
+        int cantidad = Math.min(destino.remaining(), bits.length - desde);
+        destino.put(bits, desde, cantidad);
+        return cantidad;
+    }
+}
@@ -0,0 +1,20 @@
+package models;
+
+/**
+ * MazeGrid que además se puede modificar, celda por celda o de a 64 columnas. Es lo que reciben los
+ * generadores de laberintos, que así escriben igual en memoria (MazeGridBits) que en un archivo mapeado
+ * (MazeGridMapeado).
+ */
+public interface MazeGridEditable extends MazeGrid {
+
+    /**
+     * Cambia una celda a libre o muro.
+     */
+    void setLibre(int fila, int columna, boolean libre);
+
+    /**
+     * Reemplaza 64 columnas de una fila (el bit j es la columna w * 64 + j); los bits de columnas fuera
+     * de la grilla se descartan.
+     */
+    void setPalabra(int fila, int w, long valor);
+}
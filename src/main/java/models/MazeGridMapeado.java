@@ -0,0 +1,156 @@
+package models;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Grilla empaquetada en bits que vive en un archivo mapeado en memoria, fuera del heap: el sistema operativo
+ * carga las páginas a medida que se leen, así que sirve para laberintos más grandes que el heap.
+ * El archivo es un laberinto binario (ver EncabezadoLaberinto): las filas van después del encabezado,
+ * cada una con el mismo formato que MazeGridBits. El CRC no se verifica, porque obligaría a leer todo el archivo.
+ * Como un MappedByteBuffer no pasa de 2 GB, el archivo se mapea en segmentos de filas completas.
+ */
+public class MazeGridMapeado implements MazeGridEditable {
+
+    // Tamaño máximo de cada segmento mapeado
+    private static final long MAXIMO_SEGMENTO = 1L << 30;
+
+    private final int filas;
+    private final int columnas;
+    private final int palabrasPorFila;
+    private final int filasPorSegmento;
+    private final MappedByteBuffer[] segmentos;
+
+    private MazeGridMapeado(FileChannel canal, FileChannel.MapMode modo, int filas, int columnas) throws IOException {
+        this.filas = filas;
+        this.columnas = columnas;
+        this.palabrasPorFila = (columnas + 63) >>> 6;
+        long bytesPorFila = (long) palabrasPorFila * Long.BYTES;
+        this.filasPorSegmento = (int) Math.max(1, Math.min(filas, MAXIMO_SEGMENTO / bytesPorFila));
+
+        int cantidad = (filas + filasPorSegmento - 1) / filasPorSegmento;
+        this.segmentos = new MappedByteBuffer[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            int filasSegmento = Math.min(filasPorSegmento, filas - i * filasPorSegmento);
+            long posicion = EncabezadoLaberinto.TAMANO + (long) i * filasPorSegmento * bytesPorFila;
+            segmentos[i] = canal.map(modo, posicion, filasSegmento * bytesPorFila);
+            segmentos[i].order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Mapea un archivo de laberinto existente. El canal se cierra al terminar; el mapeo sigue válido.
+     *
+     * @param archivo archivo de laberinto binario.
+     * @param escritura si es true, setLibre() escribe directamente en el archivo.
+     * @throws IOException si no se puede leer o el archivo no tiene el formato esperado.
+     */
+    public static MazeGridMapeado abrir(Path archivo, boolean escritura) throws IOException {
+        try (FileChannel canal = escritura
+                ? FileChannel.open(archivo, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(archivo, StandardOpenOption.READ)) {
+            ByteBuffer bufer = ByteBuffer.allocate(EncabezadoLaberinto.TAMANO);
+            while (bufer.hasRemaining() && canal.read(bufer) >= 0) {
+                // lee hasta completar el encabezado o llegar al final
+            }
+            EncabezadoLaberinto encabezado = EncabezadoLaberinto.leer(bufer.flip());
+            if (encabezado == null) throw new IOException("El archivo no es un laberinto binario: " + archivo);
+            if (canal.size() < encabezado.tamanoArchivo()) {
+                throw new IOException("El archivo de laberinto está incompleto: " + archivo);
+            }
+            return new MazeGridMapeado(canal, escritura ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY,
+                    encabezado.getFilas(), encabezado.getColumnas());
+        }
+    }
+
+    /**
+     * Crea (o reemplaza) un archivo de laberinto con todas las celdas como muro y lo mapea para escritura.
+     * Queda sin inicio ni fin y marcado SIN_VERIFICACION, porque su contenido se escribe después.
+     */
+    public static MazeGridMapeado crear(Path archivo, int filas, int columnas) throws IOException {
+        return crear(archivo, filas, columnas, null, null);
+    }
+
+    /**
+     * Igual que crear(archivo, filas, columnas), guardando en el encabezado el inicio y el fin (pueden ser null).
+     */
+    public static MazeGridMapeado crear(Path archivo, int filas, int columnas, Cell inicio, Cell fin)
+            throws IOException {
+        if (filas <= 0 || columnas <= 0) {
+            throw new IllegalArgumentException("Dimensiones inválidas: " + filas + "x" + columnas);
+        }
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer encabezado = new EncabezadoLaberinto(filas, columnas, inicio, fin,
+                    EncabezadoLaberinto.SIN_VERIFICACION, 0).escribir();
+            while (encabezado.hasRemaining()) canal.write(encabezado);
+            // Mapear en modo escritura extiende el archivo (con ceros, es decir, muros) hasta su tamaño final
+            return new MazeGridMapeado(canal, FileChannel.MapMode.READ_WRITE, filas, columnas);
+        }
+    }
+
+    @Override
+    public int getFilas() {
+        return filas;
+    }
+
+    @Override
+    public int getColumnas() {
+        return columnas;
+    }
+
+    @Override
+    public boolean esLibre(int fila, int columna) {
+        return (palabra(fila, columna >>> 6) & (1L << columna)) != 0;
+    }
+
+    @Override
+    public long palabra(int fila, int w) {
+        long valor = segmentos[fila / filasPorSegmento].getLong(desplazamiento(fila, w));
+        // Un archivo escrito por otro programa podría traer bits en las columnas de relleno
+        int resto = columnas - (w << 6);
+        return resto < 64 ? valor & ((1L << resto) - 1) : valor;
+    }
+
+    /**
+     * Cambia una celda a libre o muro en el archivo.
+     *
+     * @throws java.nio.ReadOnlyBufferException si se abrió sin escritura.
+     */
+    @Override
+    public void setLibre(int fila, int columna, boolean libre) {
+        long valor = palabra(fila, columna >>> 6);
+        valor = libre ? valor | (1L << columna) : valor & ~(1L << columna);
+        setPalabra(fila, columna >>> 6, valor);
+    }
+
+    /**
+     * Reemplaza 64 columnas de una fila; los bits de columnas fuera de la grilla se descartan.
+     *
+     * @throws java.nio.ReadOnlyBufferException si se abrió sin escritura.
+     */
+    @Override
+    public void setPalabra(int fila, int w, long valor) {
+        int resto = columnas - (w << 6);
+        if (resto < 64) valor &= (1L << resto) - 1;
+        segmentos[fila / filasPorSegmento].putLong(desplazamiento(fila, w), valor);
+    }
+
+    /**
+     * Escribe en disco los cambios pendientes.
+     */
+    public void forzar() {
+        for (MappedByteBuffer segmento : segmentos) {
+            if (!segmento.isReadOnly()) segmento.force();
+        }
+    }
+
+    private int desplazamiento(int fila, int w) {
+        return ((fila % filasPorSegmento) * palabrasPorFila + w) << 3;
+    }
+}
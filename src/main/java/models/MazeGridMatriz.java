@@ -0,0 +1,37 @@
+package models;
+
+/**
+ * Adaptador de una matriz booleana (true = camino, false = muro) a MazeGrid. No copia la matriz:
+ * aMatriz() la devuelve tal cual, así que los algoritmos que trabajan con boolean[][] la usan sin costo extra.
+ */
+public class MazeGridMatriz implements MazeGrid {
+
+    private final boolean[][] maze;
+
+    public MazeGridMatriz(boolean[][] maze) {
+        this.maze = maze;
+    }
+
+    @Override
+    public int getFilas() {
+        return maze.length;
+    }
+
+    @Override
+    public int getColumnas() {
+        return maze[0].length;
+    }
+
+    @Override
+    public boolean esLibre(int fila, int columna) {
+        return maze[fila][columna];
+    }
+
+    /**
+     * @return la misma matriz adaptada, sin copiarla.
+     */
+    @Override
+    public boolean[][] aMatriz() {
+        return maze;
+    }
+}
@@ -0,0 +1,44 @@
+package models;
+
+/**
+ * Laberinto tal como se guarda en un archivo: la grilla de muros, el inicio, el fin y
+ * opcionalmente el costo de paso de cada celda.
+ */
+public class MazeGuardado {
+    private final MazeGridBits grid;
+    private final Cell inicio;
+    private final Cell fin;
+    private final byte[] costos;
+
+    /**
+     * @param grid celdas libres y muros.
+     * @param inicio celda de inicio (null si no hay).
+     * @param fin celda de fin (null si no hay).
+     * @param costos costo de cada celda por filas (fila * columnas + columna), o null si todas cuestan 1.
+     */
+    public MazeGuardado(MazeGridBits grid, Cell inicio, Cell fin, byte[] costos) {
+        this.grid = grid;
+        this.inicio = inicio;
+        this.fin = fin;
+        this.costos = costos;
+    }
+
+    public MazeGridBits getGrid() {
+        return grid;
+    }
+
+    public Cell getInicio() {
+        return inicio;
+    }
+
+    public Cell getFin() {
+        return fin;
+    }
+
+    /**
+     * @return costos por celda, o null si todas cuestan 1.
+     */
+    public byte[] getCostos() {
+        return costos;
+    }
+}
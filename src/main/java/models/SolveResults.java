@@ -1,5 +1,6 @@
 package models;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -7,13 +8,22 @@ import java.util.Set;
  * Clase que encapsula los resultados obtenidos al resolver un laberinto.
  * Incluye el camino encontrado, las celdas visitadas, el tiempo de ejecución
  * y el nombre del algoritmo utilizado.
+ * Un resultado compacto (ver compacto()) guarda el camino y las visitadas como índices lineales en arreglos
+ * de int y entrega las listas y conjuntos de celdas como vistas de solo lectura sobre esos arreglos.
  */
 public class SolveResults {
 
     private final List<Cell> camino;
     private final Set<Cell> visitadas;
+    private final Set<Cell> visitadasDesdeFin; // Celdas descubiertas por un frente que parte del fin
+
+    // Representación compacta (null si el resultado se creó con colecciones de celdas)
+    private final int[] indicesCamino;
+    private final int[] indicesVisitadas;
+    private final int columnas;
     private long tiempo;        // Tiempo de ejecución en nanosegundos
     private String algoritmo;   // Nombre del algoritmo utilizado
+    private int celdasPodadas;  // Celdas descartadas por el preprocesado antes de resolver
 
     /**
      * Crea un objeto de resultados de resolución.
@@ -22,8 +32,47 @@ public class SolveResults {
      * @param visitadas Conjunto de celdas visitadas durante la búsqueda.
      */
     public SolveResults(List<Cell> camino, Set<Cell> visitadas) {
+        this(camino, visitadas, Collections.emptySet());
+    }
+
+    /**
+     * Crea un objeto de resultados para búsquedas que avanzan desde ambos extremos.
+     *
+     * @param camino Lista con el camino resuelto (de inicio a fin).
+     * @param visitadas Conjunto de todas las celdas visitadas durante la búsqueda.
+     * @param visitadasDesdeFin Subconjunto de visitadas que fue descubierto desde la celda de fin.
+     */
+    public SolveResults(List<Cell> camino, Set<Cell> visitadas, Set<Cell> visitadasDesdeFin) {
         this.camino = camino;
         this.visitadas = visitadas;
+        this.visitadasDesdeFin = visitadasDesdeFin;
+        this.indicesCamino = null;
+        this.indicesVisitadas = null;
+        this.columnas = 0;
+    }
+
+    private SolveResults(int columnas, int[] camino, int[] visitadas, int[] visitadasDesdeFin) {
+        this.camino = new ListaCeldasCompacta(camino, columnas);
+        this.visitadas = new ConjuntoCeldasCompacto(visitadas, columnas);
+        this.visitadasDesdeFin = visitadasDesdeFin.length == 0
+                ? Collections.emptySet() : new ConjuntoCeldasCompacto(visitadasDesdeFin, columnas);
+        this.indicesCamino = camino;
+        this.indicesVisitadas = visitadas;
+        this.columnas = columnas;
+    }
+
+    /**
+     * Crea un resultado compacto a partir de índices lineales (fila * columnas + columna). Usa un int por celda
+     * en lugar de un objeto Cell más un nodo de tabla hash, así que en búsquedas grandes ocupa del orden de
+     * diez veces menos memoria. Los arreglos no se copian y no deben modificarse después.
+     *
+     * @param columnas ancho del laberinto.
+     * @param camino celdas del camino, de inicio a fin.
+     * @param visitadas celdas visitadas, distintas y en el orden de la búsqueda.
+     * @param visitadasDesdeFin subconjunto de visitadas descubierto desde el fin (vacío si no hay).
+     */
+    public static SolveResults compacto(int columnas, int[] camino, int[] visitadas, int[] visitadasDesdeFin) {
+        return new SolveResults(columnas, camino, visitadas, visitadasDesdeFin);
     }
 
     /**
@@ -56,6 +105,41 @@ public class SolveResults {
         return visitadas;
     }
 
+    /**
+     * @return celdas visitadas que fueron descubiertas desde el fin (vacío en búsquedas de un solo frente).
+     */
+    public Set<Cell> getVisitedFromEnd() {
+        return visitadasDesdeFin;
+    }
+
+    /**
+     * @return true si el resultado guarda sus celdas como índices lineales.
+     */
+    public boolean isCompacto() {
+        return indicesVisitadas != null;
+    }
+
+    /**
+     * @return índices lineales del camino en un resultado compacto (null si no lo es); no se deben modificar.
+     */
+    public int[] getIndicesCamino() {
+        return indicesCamino;
+    }
+
+    /**
+     * @return índices lineales de las visitadas en un resultado compacto (null si no lo es); no se deben modificar.
+     */
+    public int[] getIndicesVisitadas() {
+        return indicesVisitadas;
+    }
+
+    /**
+     * @return ancho del laberinto con el que se calcularon los índices (0 si el resultado no es compacto).
+     */
+    public int getColumnas() {
+        return columnas;
+    }
+
     /**
      * @return tiempo de ejecución del algoritmo en nanosegundos.
      */
@@ -85,4 +169,19 @@ public class SolveResults {
     public void setAlgoritmo(String algoritmo) {
         this.algoritmo = algoritmo;
     }
+
+    /**
+     * @return cantidad de celdas que el preprocesado convirtió en muro antes de resolver.
+     */
+    public int getCeldasPodadas() {
+        return celdasPodadas;
+    }
+
+    /**
+     * Define la cantidad de celdas descartadas por el preprocesado.
+     * @param celdasPodadas celdas convertidas en muro.
+     */
+    public void setCeldasPodadas(int celdasPodadas) {
+        this.celdasPodadas = celdasPodadas;
+    }
 }
@@ -0,0 +1,62 @@
+package solver;
+
+import models.Cell;
+
+/**
+ * Bloque de celdas consecutivas de un recorrido, todas del mismo tipo. El recorrido se publica en bloques
+ * para que el costo por celda sea el de escribir un int y no el de un mensaje.
+ */
+public final class BloqueRecorrido {
+
+    /**
+     * Qué representan las celdas del bloque.
+     */
+    public enum Tipo {
+        /** Celdas visitadas, en orden. */
+        VISITA,
+        /** Celdas visitadas por el frente que parte del fin. */
+        VISITA_DESDE_FIN,
+        /** Celdas del camino, del inicio al fin (llegan al terminar la búsqueda). */
+        CAMINO
+    }
+
+    private final Tipo tipo;
+    private final int[] celdas;
+    private final int columnas;
+
+    /**
+     * @param tipo tipo de todas las celdas del bloque.
+     * @param celdas índices lineales de las celdas (fila * columnas + columna).
+     * @param columnas ancho del laberinto.
+     */
+    public BloqueRecorrido(Tipo tipo, int[] celdas, int columnas) {
+        this.tipo = tipo;
+        this.celdas = celdas;
+        this.columnas = columnas;
+    }
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    /**
+     * @return cantidad de celdas del bloque.
+     */
+    public int tamano() {
+        return celdas.length;
+    }
+
+    /**
+     * @return índice lineal de la celda i del bloque.
+     */
+    public int indice(int i) {
+        return celdas[i];
+    }
+
+    /**
+     * @return celda i del bloque.
+     */
+    public Cell celda(int i) {
+        return new Cell(celdas[i] / columnas, celdas[i] % columnas);
+    }
+}
@@ -0,0 +1,72 @@
+package solver;
+
+import models.Cell;
+import models.SolveResults;
+
+import java.util.Arrays;
+
+/**
+ * Receptor que materializa el recorrido en un resultado compacto: las visitadas, las visitadas desde el fin
+ * y el camino se guardan como índices lineales en arreglos de int que crecen al doble cuando se llenan.
+ * Es la forma explícita de pedir el conjunto completo de visitadas a un algoritmo que transmite su recorrido.
+ */
+public class ColectorRecorrido implements ReceptorRecorrido {
+
+    private final int columnas;
+
+    private int[] visitadas = new int[64];
+    private int numVisitadas;
+    private int[] visitadasDesdeFin = new int[0];
+    private int numDesdeFin;
+    private int[] camino = new int[64];
+    private int numCamino;
+
+    /**
+     * @param columnas ancho del laberinto con el que se calculan los índices.
+     */
+    public ColectorRecorrido(int columnas) {
+        this.columnas = columnas;
+    }
+
+    /**
+     * Resuelve con el algoritmo transmitiendo el recorrido a un colector y arma el resultado completo.
+     *
+     * @return resultado compacto con el camino y las visitadas, o null si el algoritmo devolvió null.
+     */
+    public static SolveResults resolver(MazeSolver solver, boolean[][] maze, Cell start, Cell end,
+                                        ControlResolucion control) {
+        ColectorRecorrido colector = new ColectorRecorrido(maze[0].length);
+        SolveResults resultado = solver.solve(maze, start, end, control, colector);
+        if (resultado == null) return null;
+        return colector.resultado();
+    }
+
+    @Override
+    public void visitada(int celda) {
+        if (numVisitadas == visitadas.length) visitadas = Arrays.copyOf(visitadas, numVisitadas * 2);
+        visitadas[numVisitadas++] = celda;
+    }
+
+    @Override
+    public void visitadaDesdeFin(int celda) {
+        visitada(celda);
+        if (numDesdeFin == visitadasDesdeFin.length) {
+            visitadasDesdeFin = Arrays.copyOf(visitadasDesdeFin, Math.max(64, numDesdeFin * 2));
+        }
+        visitadasDesdeFin[numDesdeFin++] = celda;
+    }
+
+    @Override
+    public void camino(int celda) {
+        if (numCamino == camino.length) camino = Arrays.copyOf(camino, numCamino * 2);
+        camino[numCamino++] = celda;
+    }
+
+    /**
+     * @return resultado compacto con lo recibido hasta ahora (los arreglos se recortan a su tamaño).
+     */
+    public SolveResults resultado() {
+        return SolveResults.compacto(columnas, Arrays.copyOf(camino, numCamino),
+                Arrays.copyOf(visitadas, numVisitadas), Arrays.copyOf(visitadasDesdeFin, numDesdeFin));
+    }
+}
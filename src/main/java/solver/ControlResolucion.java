@@ -0,0 +1,130 @@
+package solver;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Control cooperativo de una resolución: permite cancelarla desde otro hilo, fijarle un plazo
+ * y recibir avisos de progreso. Los algoritmos llaman a revisar() en cada iteración de su ciclo
+ * principal; la comprobación real (bandera, plazo, interrupción del hilo y progreso) solo se hace
+ * una vez cada 1024 pasos, así que el costo en el ciclo es un incremento y una máscara.
+ * Cuando hay que detenerse se lanza CancellationException.
+ * cancelar() se puede llamar desde cualquier hilo, pero revisar() y comprobar() deben llamarse desde uno solo:
+ * si varios hilos trabajan en la misma resolución, cada uno usa su propio control derivado.
+ */
+public final class ControlResolucion {
+
+    // Pasos entre comprobaciones (potencia de 2 menos 1, para usarlo como máscara)
+    private static final int MASCARA_REVISION = 1023;
+
+    // Tiempo mínimo entre dos avisos de progreso
+    private static final long INTERVALO_PROGRESO = 100_000_000L;
+
+    private final ControlResolucion padre;
+    private final boolean conPlazo;
+    private final long limite;                  // System.nanoTime() en que vence el plazo
+    private final ProgresoResolucion progreso;  // null si nadie escucha
+
+    private volatile boolean cancelado;
+    private volatile boolean plazoVencido;
+    private long proximoAviso;
+
+    /**
+     * Crea un control sin plazo ni progreso: solo se detiene con cancelar() o al interrumpir el hilo.
+     */
+    public ControlResolucion() {
+        this(null, 0, null);
+    }
+
+    /**
+     * @param plazoNanos tiempo máximo de la resolución desde ahora (0 o negativo = sin plazo).
+     * @param progreso receptor de avisos de progreso (puede ser null).
+     */
+    public ControlResolucion(long plazoNanos, ProgresoResolucion progreso) {
+        this(null, plazoNanos, progreso);
+    }
+
+    private ControlResolucion(ControlResolucion padre, long plazoNanos, ProgresoResolucion progreso) {
+        long ahora = System.nanoTime();
+        this.padre = padre;
+        this.conPlazo = plazoNanos > 0;
+        this.limite = ahora + plazoNanos;
+        this.progreso = progreso;
+        this.proximoAviso = ahora + INTERVALO_PROGRESO;
+    }
+
+    /**
+     * Crea un control hijo con el mismo receptor de progreso: se detiene cuando se cancela él
+     * o cuando se detiene este. Sirve para cancelar una parte del trabajo (por ejemplo, los perdedores
+     * de una carrera) sin cancelar el todo.
+     */
+    public ControlResolucion derivado() {
+        return derivado(progreso);
+    }
+
+    /**
+     * Igual que derivado(), pero el hijo avisa su progreso a otro receptor (puede ser null). Sirve cuando
+     * varios hilos trabajan a la vez y cada uno debe informar por separado.
+     */
+    public ControlResolucion derivado(ProgresoResolucion progresoHijo) {
+        return new ControlResolucion(this, 0, progresoHijo);
+    }
+
+    /**
+     * Pide que la resolución se detenga. Se puede llamar desde cualquier hilo.
+     */
+    public void cancelar() {
+        cancelado = true;
+    }
+
+    /**
+     * @return true si se pidió cancelar este control o alguno de sus padres.
+     */
+    public boolean isCancelado() {
+        return cancelado || (padre != null && padre.isCancelado());
+    }
+
+    /**
+     * @return true si la resolución se detuvo por vencerse el plazo (de este control o de un padre).
+     */
+    public boolean isPlazoVencido() {
+        return plazoVencido || (padre != null && padre.isPlazoVencido());
+    }
+
+    /**
+     * Punto de control barato para el ciclo principal de un algoritmo.
+     *
+     * @param pasos iteraciones hechas hasta ahora (se comprueba cuando es múltiplo de 1024).
+     * @param frontera tamaño actual de la frontera, para el aviso de progreso.
+     * @throws CancellationException si hay que detener la resolución.
+     */
+    public void revisar(long pasos, int frontera) {
+        if ((pasos & MASCARA_REVISION) == 0) comprobar(pasos, frontera);
+    }
+
+    /**
+     * Comprueba de inmediato si hay que detenerse y, si toca, avisa el progreso.
+     * Para ciclos cuyas iteraciones ya son costosas (por ejemplo, un nivel completo de BFS).
+     *
+     * @throws CancellationException si hay que detener la resolución.
+     */
+    public void comprobar(long pasos, int frontera) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Resolución interrumpida");
+        }
+        long ahora = System.nanoTime();
+        verificar(ahora);
+        if (progreso != null && ahora - proximoAviso >= 0) {
+            proximoAviso = ahora + INTERVALO_PROGRESO;
+            progreso.informar(pasos, frontera);
+        }
+    }
+
+    private void verificar(long ahora) {
+        if (cancelado) throw new CancellationException("Resolución cancelada");
+        if (conPlazo && ahora - limite >= 0) {
+            plazoVencido = true;
+            throw new CancellationException("Plazo vencido");
+        }
+        if (padre != null) padre.verificar(ahora);
+    }
+}
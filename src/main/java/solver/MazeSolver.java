@@ -1,10 +1,14 @@
 package solver;
 
 import models.Cell;
+import models.MazeGrid;
 import models.SolveResults;
 
 /**
  * Interfaz base para los algoritmos de resolución de laberintos.
+ * Una misma instancia puede usarse desde varios hilos a la vez (por ejemplo, al resolver en lote):
+ * el estado de cada resolución vive en variables locales u objetos creados por llamada, y las
+ * implementaciones que guardan información entre llamadas la sincronizan. Ninguna modifica la matriz recibida.
  */
 public interface MazeSolver {
 
@@ -17,4 +21,42 @@ public interface MazeSolver {
      * @return Objeto SolveResults con el camino encontrado y las celdas visitadas, o null si no hay solución.
      */
     SolveResults solve(boolean[][] maze, Cell start, Cell end);
+
+    /**
+     * Igual que solve, pero se puede cancelar, tiene plazo y avisa su progreso a través del control.
+     * Los algoritmos que lo implementan revisan el control en su ciclo principal; por defecto solo
+     * se revisa antes de empezar.
+     *
+     * @param control control de cancelación, plazo y progreso.
+     * @throws java.util.concurrent.CancellationException si se canceló, venció el plazo o se interrumpió el hilo.
+     */
+    default SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
+        control.comprobar(0, 0);
+        return solve(maze, start, end);
+    }
+
+    /**
+     * Igual que solve con control, pero envía el recorrido al receptor mientras avanza. Los algoritmos que
+     * transmiten de forma nativa no arman el conjunto de visitadas y devuelven un resultado solo con el camino;
+     * por defecto se resuelve normalmente y luego se reproduce el resultado en el receptor.
+     *
+     * @param receptor destino de las celdas visitadas y del camino.
+     */
+    default SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control,
+                               ReceptorRecorrido receptor) {
+        SolveResults resultado = solve(maze, start, end, control);
+        ReceptorRecorrido.reproducir(resultado, maze[0].length, receptor);
+        return resultado;
+    }
+
+    /**
+     * Resuelve un laberinto dado como MazeGrid (por ejemplo, empaquetado en bits o mapeado desde un archivo).
+     * Por defecto se convierte a boolean[][] (un MazeGridMatriz se usa sin copiar); los algoritmos que leen
+     * la grilla directamente lo sobrescriben y pueden resolver grillas que no caben como matriz.
+     *
+     * @throws IllegalStateException si la grilla es demasiado grande para el algoritmo.
+     */
+    default SolveResults solve(MazeGrid grid, Cell start, Cell end) {
+        return solve(grid.aMatriz(), start, end);
+    }
 }
@@ -0,0 +1,35 @@
+package solver;
+
+/**
+ * Interfaz para los algoritmos que conservan información del laberinto entre llamadas
+ * (cachés, grafos precalculados, estado de búsqueda). El controlador les avisa de cada cambio
+ * de muro para que actualicen o descarten solo lo que corresponda.
+ * Los que además pueden resolver sin recibir la matriz implementan MazeSolverSincronizado.
+ */
+public interface MazeSolverIncremental extends MazeSolver {
+
+    /**
+     * Notifica que una celda cambió de estado.
+     *
+     * @param fila fila de la celda.
+     * @param columna columna de la celda.
+     * @param transitable true si la celda quedó libre, false si ahora es muro.
+     */
+    void celdaCambiada(int fila, int columna, boolean transitable);
+
+    /**
+     * Descarta toda la información guardada (por ejemplo, al reiniciar o cambiar de laberinto).
+     */
+    void reiniciar();
+
+    /**
+     * Indica si la misma instancia puede atender varias consultas a la vez sin que se esperen entre sí.
+     * Los que reutilizan su estado de búsqueda de una consulta a otra (como D* Lite) las atienden de a una,
+     * con el candado tomado; repartirles consultas entre varios hilos solo deja hilos esperando.
+     *
+     * @return true si las consultas se resuelven fuera del candado.
+     */
+    default boolean admiteConsultasSimultaneas() {
+        return false;
+    }
+}
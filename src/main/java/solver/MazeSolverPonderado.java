@@ -0,0 +1,33 @@
+package solver;
+
+import models.Cell;
+import models.SolveResults;
+
+/**
+ * Interfaz para los algoritmos que admiten terreno ponderado: cada celda tiene un costo entero
+ * de paso (rampas, pasillos congestionados) en lugar de ser solo libre o muro.
+ */
+public interface MazeSolverPonderado extends MazeSolver {
+
+    /**
+     * Resuelve el laberinto minimizando la suma de costos de las celdas recorridas.
+     *
+     * @param costos costo de entrar a cada celda (0 o negativo = muro, 1 = terreno normal).
+     * @param start Celda de inicio.
+     * @param end Celda de fin.
+     * @return Objeto SolveResults con el camino de menor costo y las celdas visitadas.
+     */
+    SolveResults solve(int[][] costos, Cell start, Cell end);
+
+    /**
+     * Igual que solve con costos, pero se puede cancelar, tiene plazo y avisa su progreso a través del
+     * control. Por defecto solo se revisa antes de empezar.
+     *
+     * @param control control de cancelación, plazo y progreso.
+     * @throws java.util.concurrent.CancellationException si se canceló, venció el plazo o se interrumpió el hilo.
+     */
+    default SolveResults solve(int[][] costos, Cell start, Cell end, ControlResolucion control) {
+        control.comprobar(0, 0);
+        return solve(costos, start, end);
+    }
+}
@@ -0,0 +1,34 @@
+package solver;
+
+import models.Cell;
+import models.SolveResults;
+
+/**
+ * Interfaz para los algoritmos incrementales que conservan una copia al día del laberinto, mantenida con
+ * los avisos de celdaCambiada, y pueden resolver sobre ella sin recibir la matriz completa. El controlador
+ * comprueba esta capacidad con instanceof y, si la copia corresponde al laberinto actual, se ahorra
+ * convertir la matriz en cada resolución.
+ */
+public interface MazeSolverSincronizado extends MazeSolverIncremental {
+
+    /**
+     * Indica si la copia interna corresponde a un laberinto con estas dimensiones.
+     *
+     * @param filas número de filas del laberinto.
+     * @param columnas número de columnas del laberinto.
+     * @return true si se puede usar resolverSincronizado.
+     */
+    boolean estaSincronizado(int filas, int columnas);
+
+    /**
+     * Resuelve sobre la copia interna del laberinto, sin convertir ni recorrer la matriz completa.
+     * Solo debe llamarse cuando estaSincronizado devolvió true.
+     *
+     * @param start celda de inicio.
+     * @param end celda de fin.
+     * @param control control de cancelación, plazo y progreso, revisado en el ciclo principal.
+     * @return Objeto SolveResults con el camino encontrado y las celdas visitadas.
+     * @throws java.util.concurrent.CancellationException si se canceló, venció el plazo o se interrumpió el hilo.
+     */
+    SolveResults resolverSincronizado(Cell start, Cell end, ControlResolucion control);
+}
@@ -0,0 +1,15 @@
+package solver;
+
+/**
+ * Recibe avisos periódicos del avance de una resolución. Se llama desde el hilo que resuelve,
+ * así que una interfaz gráfica debe pasar los datos a su propio hilo.
+ */
+@FunctionalInterface
+public interface ProgresoResolucion {
+
+    /**
+     * @param expandidas celdas (o nodos) procesadas hasta ahora.
+     * @param frontera tamaño actual de la frontera (cola, pila o montículo).
+     */
+    void informar(long expandidas, int frontera);
+}
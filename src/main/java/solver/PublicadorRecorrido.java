@@ -0,0 +1,90 @@
+package solver;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * Receptor que publica el recorrido como un Flow.Publisher de bloques, con contrapresión: cada suscriptor
+ * tiene un búfer de pocos bloques y, cuando se llena, el algoritmo espera dentro de visitada() hasta que el
+ * consumidor pida más. Así una animación o el modo paso a paso consumen el recorrido a su ritmo sin que
+ * nadie guarde el conjunto completo de visitadas.
+ * Lo crea y lo cierra quien lanza la resolución; los algoritmos solo lo usan como receptor.
+ */
+public class PublicadorRecorrido implements ReceptorRecorrido, Flow.Publisher<BloqueRecorrido>, AutoCloseable {
+
+    // Celdas por bloque publicado
+    private static final int TAMANO_BLOQUE = 256;
+
+    private final SubmissionPublisher<BloqueRecorrido> publicador;
+    private final int columnas;
+
+    // Bloque en construcción
+    private final int[] bufer = new int[TAMANO_BLOQUE];
+    private int cantidad;
+    private BloqueRecorrido.Tipo tipoActual;
+
+    /**
+     * @param columnas ancho del laberinto.
+     * @param ejecutor ejecutor en el que corren los suscriptores.
+     * @param bloquesEnEspera bloques que cada suscriptor puede tener pendientes antes de frenar al algoritmo.
+     */
+    public PublicadorRecorrido(int columnas, Executor ejecutor, int bloquesEnEspera) {
+        this.columnas = columnas;
+        this.publicador = new SubmissionPublisher<>(ejecutor, bloquesEnEspera);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super BloqueRecorrido> suscriptor) {
+        publicador.subscribe(suscriptor);
+    }
+
+    @Override
+    public void visitada(int celda) {
+        agregar(BloqueRecorrido.Tipo.VISITA, celda);
+    }
+
+    @Override
+    public void visitadaDesdeFin(int celda) {
+        agregar(BloqueRecorrido.Tipo.VISITA_DESDE_FIN, celda);
+    }
+
+    @Override
+    public void camino(int celda) {
+        agregar(BloqueRecorrido.Tipo.CAMINO, celda);
+    }
+
+    /**
+     * Publica el bloque en construcción, aunque no esté lleno.
+     */
+    public void vaciar() {
+        if (cantidad == 0) return;
+        // submit espera mientras el búfer de algún suscriptor esté lleno (contrapresión)
+        publicador.submit(new BloqueRecorrido(tipoActual, Arrays.copyOf(bufer, cantidad), columnas));
+        cantidad = 0;
+    }
+
+    /**
+     * Publica lo pendiente y avisa a los suscriptores que el recorrido terminó.
+     */
+    @Override
+    public void close() {
+        vaciar();
+        publicador.close();
+    }
+
+    /**
+     * Avisa a los suscriptores que la resolución falló o se canceló; lo pendiente se descarta.
+     */
+    public void cerrarConError(Throwable error) {
+        cantidad = 0;
+        publicador.closeExceptionally(error);
+    }
+
+    private void agregar(BloqueRecorrido.Tipo tipo, int celda) {
+        if (cantidad == TAMANO_BLOQUE || (cantidad > 0 && tipo != tipoActual)) vaciar();
+        tipoActual = tipo;
+        bufer[cantidad++] = celda;
+    }
+}
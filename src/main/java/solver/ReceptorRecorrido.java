@@ -0,0 +1,62 @@
+package solver;
+
+import models.Cell;
+import models.SolveResults;
+
+import java.util.List;
+
+/**
+ * Recibe el recorrido de una búsqueda mientras ocurre: cada celda visitada en orden y, al terminar,
+ * las celdas del camino. Las celdas llegan como índices lineales (fila * columnas + columna) para no
+ * crear objetos por visita; quien crea el receptor conoce el ancho del laberinto.
+ * Se llama desde el hilo que resuelve.
+ */
+public interface ReceptorRecorrido {
+
+    /**
+     * Una celda fue visitada (se llama una sola vez por celda, en el orden de la búsqueda).
+     */
+    void visitada(int celda);
+
+    /**
+     * Una celda fue visitada por un frente que parte del fin (búsquedas bidireccionales).
+     */
+    default void visitadaDesdeFin(int celda) {
+        visitada(celda);
+    }
+
+    /**
+     * Siguiente celda del camino encontrado, del inicio al fin.
+     */
+    void camino(int celda);
+
+    /**
+     * Envía al receptor un resultado ya materializado: primero sus visitadas y luego su camino.
+     * Sirve para los algoritmos que no transmiten el recorrido mientras buscan.
+     */
+    static void reproducir(SolveResults resultado, int columnas, ReceptorRecorrido receptor) {
+        if (resultado == null) return;
+        if (resultado.isCompacto() && resultado.getColumnas() == columnas && resultado.getVisitedFromEnd().isEmpty()) {
+            // Los índices ya están listos: no hace falta crear ninguna celda
+            for (int celda : resultado.getIndicesVisitadas()) receptor.visitada(celda);
+            for (int celda : resultado.getIndicesCamino()) receptor.camino(celda);
+            return;
+        }
+        for (Cell celda : resultado.getVisited()) {
+            int indice = celda.getRow() * columnas + celda.getCol();
+            if (resultado.getVisitedFromEnd().contains(celda)) receptor.visitadaDesdeFin(indice);
+            else receptor.visitada(indice);
+        }
+        enviarCamino(resultado.getPath(), columnas, receptor);
+    }
+
+    /**
+     * Envía las celdas de un camino al receptor, en orden.
+     */
+    static void enviarCamino(List<Cell> camino, int columnas, ReceptorRecorrido receptor) {
+        if (camino == null) return;
+        for (Cell celda : camino) {
+            receptor.camino(celda.getRow() * columnas + celda.getCol());
+        }
+    }
+}
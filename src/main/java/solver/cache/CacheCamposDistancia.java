@@ -0,0 +1,78 @@
+package solver.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Caché LRU de campos de distancias, acotada por la memoria total que ocupan.
+ * Las entradas se identifican por la versión del laberinto y la celda origen;
+ * al superar el presupuesto se descartan las menos usadas recientemente.
+ */
+public class CacheCamposDistancia {
+
+    private final long capacidadBytes;
+    private final LinkedHashMap<Clave, CampoDistancias> campos = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytesUsados = 0;
+
+    /**
+     * @param capacidadBytes memoria máxima que pueden ocupar los campos guardados.
+     */
+    public CacheCamposDistancia(long capacidadBytes) {
+        this.capacidadBytes = capacidadBytes;
+    }
+
+    /**
+     * Busca un campo calculado desde el origen indicado sobre esa versión del laberinto.
+     *
+     * @return el campo, o null si no está en caché.
+     */
+    public synchronized CampoDistancias obtener(long version, int origen) {
+        return campos.get(new Clave(version, origen));
+    }
+
+    /**
+     * Guarda un campo y descarta los menos usados hasta respetar el presupuesto de memoria.
+     * Un campo que por sí solo supera el presupuesto no se guarda.
+     */
+    public synchronized void guardar(CampoDistancias campo) {
+        long bytes = campo.bytesEstimados();
+        if (bytes > capacidadBytes) return;
+
+        CampoDistancias anterior = campos.put(new Clave(campo.getVersion(), campo.getOrigen()), campo);
+        if (anterior != null) bytesUsados -= anterior.bytesEstimados();
+        bytesUsados += bytes;
+
+        Iterator<CampoDistancias> it = campos.values().iterator();
+        while (bytesUsados > capacidadBytes && it.hasNext()) {
+            CampoDistancias eliminado = it.next();  // el menos usado recientemente
+            if (eliminado == campo) continue;
+            bytesUsados -= eliminado.bytesEstimados();
+            it.remove();
+        }
+    }
+
+    /**
+     * Elimina todos los campos guardados.
+     */
+    public synchronized void invalidar() {
+        campos.clear();
+        bytesUsados = 0;
+    }
+
+    /**
+     * @return número de campos guardados.
+     */
+    public synchronized int tamano() {
+        return campos.size();
+    }
+
+    /**
+     * @return memoria aproximada ocupada por los campos guardados, en bytes.
+     */
+    public synchronized long getBytesUsados() {
+        return bytesUsados;
+    }
+
+    private record Clave(long version, int origen) {
+    }
+}
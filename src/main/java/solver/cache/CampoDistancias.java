@@ -0,0 +1,85 @@
+package solver.cache;
+
+import models.Cell;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Campo de distancias y predecesores calculado con BFS desde una celda origen.
+ * Permite responder en O(longitud del camino) cualquier consulta que empiece o termine en el origen.
+ */
+public class CampoDistancias {
+
+    private final long version;       // versión del laberinto sobre la que se calculó
+    private final int columnas;
+    private final int origen;         // índice lineal de la celda origen
+    private final int[] padre;        // celda previa hacia el origen (-1 en el origen o si no es alcanzable)
+    private final int[] distancia;    // distancia al origen (-1 si no es alcanzable)
+
+    /**
+     * @param version versión del laberinto (cambia con cada muro modificado).
+     * @param columnas número de columnas del laberinto.
+     * @param origen índice lineal del origen.
+     * @param padre arreglo de predecesores hacia el origen.
+     * @param distancia arreglo de distancias al origen.
+     */
+    public CampoDistancias(long version, int columnas, int origen, int[] padre, int[] distancia) {
+        this.version = version;
+        this.columnas = columnas;
+        this.origen = origen;
+        this.padre = padre;
+        this.distancia = distancia;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getOrigen() {
+        return origen;
+    }
+
+    /**
+     * @return distancia desde el origen hasta la celda, o -1 si no es alcanzable.
+     */
+    public int distancia(Cell celda) {
+        return distancia[celda.getRow() * columnas + celda.getCol()];
+    }
+
+    /**
+     * Camino desde el origen hasta la celda indicada.
+     *
+     * @return lista de celdas desde el origen, o lista vacía si no es alcanzable.
+     */
+    public List<Cell> caminoHacia(Cell destino) {
+        List<Cell> path = caminoDesde(destino);
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Camino desde la celda indicada hasta el origen (consulta inversa).
+     *
+     * @return lista de celdas que termina en el origen, o lista vacía si no es alcanzable.
+     */
+    public List<Cell> caminoDesde(Cell desde) {
+        List<Cell> path = new ArrayList<>();
+        int at = desde.getRow() * columnas + desde.getCol();
+        if (distancia[at] < 0) return path;
+
+        path = new ArrayList<>(distancia[at] + 1);
+        for (; at != -1; at = padre[at]) {
+            path.add(new Cell(at / columnas, at % columnas));
+        }
+        return path;
+    }
+
+    /**
+     * @return memoria aproximada ocupada por el campo, en bytes.
+     */
+    public long bytesEstimados() {
+        return 64L + 4L * padre.length + 4L * distancia.length;
+    }
+}
@@ -0,0 +1,306 @@
+package solver.conectividad;
+
+import models.Cell;
+
+import java.util.Arrays;
+
+/**
+ * Índice de componentes conexas del laberinto (movimientos en 4 direcciones) que responde
+ * si dos celdas están conectadas sin ejecutar ninguna búsqueda.
+ * Cada celda transitable guarda una etiqueta y las etiquetas se agrupan con union-find
+ * (unión por rango y compresión de caminos). Abrir una celda une las componentes de sus vecinos;
+ * cerrarla puede partir su componente, así que se exploran a la vez las regiones de sus vecinos
+ * y las que quedan separadas reciben una etiqueta nueva. Solo se recorren las partes pequeñas.
+ */
+public class IndiceConectividad {
+
+    private static final int MURO = -1;
+
+    // Vecinos de una celda en el anillo de 3x3, en orden circular: N, NE, E, SE, S, SO, O, NO
+    private static final int[] ANILLO_FILA = {-1, -1, 0, 1, 1, 1, 0, -1};
+    private static final int[] ANILLO_COLUMNA = {0, 1, 1, 1, 0, -1, -1, -1};
+
+    private final int filas;
+    private final int columnas;
+    private final int[] etiqueta;       // etiqueta de cada celda (MURO si no es transitable)
+
+    // Union-find sobre etiquetas
+    private int[] padre = new int[1024];
+    private byte[] rango = new byte[1024];
+    private int numEtiquetas;
+
+    // Exploración simultánea usada al cerrar una celda (se crea la primera vez que hace falta)
+    private int[] marca;                // sello de la búsqueda que alcanzó cada celda
+    private int sello;
+    private final int[][] colas = new int[4][16];
+    private final int[] cabeza = new int[4];
+    private final int[] fondo = new int[4];
+    private final int[] grupo = new int[4];
+
+    /**
+     * Construye el índice en una pasada por filas: cada celda toma la etiqueta de su vecino superior
+     * o izquierdo, y si ambos tienen etiquetas distintas se unen.
+     *
+     * @param maze matriz booleana del laberinto (true = camino, false = muro).
+     */
+    public IndiceConectividad(boolean[][] maze) {
+        this.filas = maze.length;
+        this.columnas = maze[0].length;
+        this.etiqueta = new int[filas * columnas];
+
+        for (int r = 0; r < filas; r++) {
+            for (int c = 0; c < columnas; c++) {
+                int i = r * columnas + c;
+                if (!maze[r][c]) {
+                    etiqueta[i] = MURO;
+                    continue;
+                }
+                int arriba = r > 0 ? etiqueta[i - columnas] : MURO;
+                int izquierda = c > 0 ? etiqueta[i - 1] : MURO;
+                if (arriba == MURO && izquierda == MURO) {
+                    etiqueta[i] = nuevaEtiqueta();
+                } else if (arriba == MURO) {
+                    etiqueta[i] = izquierda;
+                } else {
+                    etiqueta[i] = arriba;
+                    if (izquierda != MURO) unir(arriba, izquierda);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true si ambas celdas son transitables y pertenecen a la misma componente.
+     */
+    public synchronized boolean conectadas(Cell a, Cell b) {
+        int ea = etiqueta[a.getRow() * columnas + a.getCol()];
+        int eb = etiqueta[b.getRow() * columnas + b.getCol()];
+        return ea != MURO && eb != MURO && buscar(ea) == buscar(eb);
+    }
+
+    /**
+     * Actualiza el índice cuando una celda cambia entre muro y libre.
+     *
+     * @param fila fila de la celda.
+     * @param columna columna de la celda.
+     * @param transitable true si la celda quedó libre, false si ahora es muro.
+     */
+    public synchronized void celdaCambiada(int fila, int columna, boolean transitable) {
+        if (fila < 0 || fila >= filas || columna < 0 || columna >= columnas) return;
+        int i = fila * columnas + columna;
+        if ((etiqueta[i] != MURO) == transitable) return;
+        if (transitable) abrir(i);
+        else cerrar(i);
+    }
+
+    public int getFilas() {
+        return filas;
+    }
+
+    public int getColumnas() {
+        return columnas;
+    }
+
+    /**
+     * La celda abierta une las componentes de todos sus vecinos transitables.
+     */
+    private void abrir(int i) {
+        int r = i / columnas;
+        int c = i - r * columnas;
+        int raiz = MURO;
+        if (r > 0) raiz = unirCon(raiz, i - columnas);
+        if (r < filas - 1) raiz = unirCon(raiz, i + columnas);
+        if (c > 0) raiz = unirCon(raiz, i - 1);
+        if (c < columnas - 1) raiz = unirCon(raiz, i + 1);
+        etiqueta[i] = raiz == MURO ? nuevaEtiqueta() : raiz;
+    }
+
+    private int unirCon(int raiz, int vecino) {
+        if (etiqueta[vecino] == MURO) return raiz;
+        return raiz == MURO ? buscar(etiqueta[vecino]) : unir(raiz, etiqueta[vecino]);
+    }
+
+    /**
+     * La celda cerrada puede separar a sus vecinos. Si siguen unidos alrededor de ella no hay nada que hacer;
+     * si no, se comprueba con búsquedas simultáneas desde cada vecino.
+     */
+    private void cerrar(int i) {
+        etiqueta[i] = MURO;
+        int r = i / columnas;
+        int c = i - r * columnas;
+
+        int[] vecinos = new int[4];
+        int k = 0;
+        if (r > 0 && etiqueta[i - columnas] != MURO) vecinos[k++] = i - columnas;
+        if (r < filas - 1 && etiqueta[i + columnas] != MURO) vecinos[k++] = i + columnas;
+        if (c > 0 && etiqueta[i - 1] != MURO) vecinos[k++] = i - 1;
+        if (c < columnas - 1 && etiqueta[i + 1] != MURO) vecinos[k++] = i + 1;
+
+        if (k <= 1 || unidosPorAnillo(r, c)) return;
+        separar(vecinos, k);
+    }
+
+    /**
+     * Indica si los vecinos transitables de la celda quedan en un mismo tramo abierto del anillo
+     * de 3x3 que la rodea; en ese caso siguen conectados sin pasar por ella.
+     */
+    private boolean unidosPorAnillo(int r, int c) {
+        boolean[] abierto = new boolean[8];
+        int cerrado = -1;
+        for (int p = 0; p < 8; p++) {
+            int rr = r + ANILLO_FILA[p], cc = c + ANILLO_COLUMNA[p];
+            abierto[p] = rr >= 0 && rr < filas && cc >= 0 && cc < columnas && etiqueta[rr * columnas + cc] != MURO;
+            if (!abierto[p]) cerrado = p;
+        }
+        if (cerrado < 0) return true;
+
+        // Se recorre el anillo desde una posición cerrada contando tramos abiertos
+        int tramo = 0, tramoVecinos = -1;
+        boolean enTramo = false;
+        for (int paso = 1; paso <= 8; paso++) {
+            int p = (cerrado + paso) & 7;
+            if (!abierto[p]) {
+                enTramo = false;
+                continue;
+            }
+            if (!enTramo) {
+                tramo++;
+                enTramo = true;
+            }
+            if ((p & 1) == 0) {             // posiciones pares: vecinos ortogonales
+                if (tramoVecinos < 0) tramoVecinos = tramo;
+                else if (tramoVecinos != tramo) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Expande una búsqueda desde cada vecino, un paso por turno. Cuando dos búsquedas se tocan pasan
+     * a formar un mismo grupo; cuando un grupo se agota sin tocar a los demás, su región quedó aislada
+     * y recibe una etiqueta nueva. Se termina cuando queda un solo grupo sin resolver, que conserva la
+     * etiqueta original, así que el trabajo es proporcional a las regiones pequeñas.
+     */
+    private void separar(int[] vecinos, int k) {
+        if (marca == null) marca = new int[etiqueta.length];
+        if (sello > Integer.MAX_VALUE - 8) {
+            Arrays.fill(marca, 0);
+            sello = 0;
+        }
+        int base = sello + 1;   // la búsqueda j marca con base + j
+        sello += k;
+
+        for (int j = 0; j < k; j++) {
+            colas[j][0] = vecinos[j];
+            cabeza[j] = 0;
+            fondo[j] = 1;
+            grupo[j] = j;
+            marca[vecinos[j]] = base + j;
+        }
+        int pendientes = k;     // grupos sin resolver
+
+        while (pendientes > 1) {
+            for (int j = 0; j < k && pendientes > 1; j++) {
+                if (cabeza[j] == fondo[j]) continue;
+
+                int u = colas[j][cabeza[j]++];
+                int r = u / columnas;
+                int c = u - r * columnas;
+                if (r > 0) pendientes -= visitar(j, u - columnas, base, k);
+                if (r < filas - 1) pendientes -= visitar(j, u + columnas, base, k);
+                if (c > 0) pendientes -= visitar(j, u - 1, base, k);
+                if (c < columnas - 1) pendientes -= visitar(j, u + 1, base, k);
+
+                if (pendientes > 1 && grupoAgotado(j, k)) {
+                    reetiquetar(grupoDe(j), k);
+                    pendientes--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Visita una celda desde la búsqueda j.
+     *
+     * @return 1 si la celda pertenecía a otro grupo y ambos se unieron, 0 si no.
+     */
+    private int visitar(int j, int celda, int base, int k) {
+        if (etiqueta[celda] == MURO) return 0;
+        int m = marca[celda] - base;
+        if (m < 0 || m >= k) {
+            marca[celda] = base + j;
+            if (fondo[j] == colas[j].length) colas[j] = Arrays.copyOf(colas[j], fondo[j] * 2);
+            colas[j][fondo[j]++] = celda;
+            return 0;
+        }
+        int gj = grupoDe(j), gm = grupoDe(m);
+        if (gj == gm) return 0;
+        grupo[gm] = gj;
+        return 1;
+    }
+
+    private int grupoDe(int j) {
+        while (grupo[j] != j) j = grupo[j];
+        return j;
+    }
+
+    private boolean grupoAgotado(int j, int k) {
+        int g = grupoDe(j);
+        for (int m = 0; m < k; m++) {
+            if (grupoDe(m) == g && cabeza[m] < fondo[m]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Asigna una etiqueta nueva a todas las celdas alcanzadas por las búsquedas del grupo.
+     */
+    private void reetiquetar(int g, int k) {
+        int nueva = nuevaEtiqueta();
+        for (int m = 0; m < k; m++) {
+            if (grupoDe(m) != g) continue;
+            int[] cola = colas[m];
+            for (int x = 0; x < fondo[m]; x++) {
+                etiqueta[cola[x]] = nueva;
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Union-find sobre etiquetas
+    // ------------------------------------------------------------------
+
+    private int nuevaEtiqueta() {
+        if (numEtiquetas == padre.length) {
+            padre = Arrays.copyOf(padre, numEtiquetas * 2);
+            rango = Arrays.copyOf(rango, numEtiquetas * 2);
+        }
+        padre[numEtiquetas] = numEtiquetas;
+        return numEtiquetas++;
+    }
+
+    private int buscar(int e) {
+        while (padre[e] != e) {
+            padre[e] = padre[padre[e]];   // compresión por mitades
+            e = padre[e];
+        }
+        return e;
+    }
+
+    /**
+     * @return raíz del conjunto resultante.
+     */
+    private int unir(int a, int b) {
+        a = buscar(a);
+        b = buscar(b);
+        if (a == b) return a;
+        if (rango[a] < rango[b]) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        padre[b] = a;
+        if (rango[a] == rango[b]) rango[a]++;
+        return a;
+    }
+}
@@ -0,0 +1,222 @@
+package solver.impl;
+
+import models.Cell;
+import models.MazeGrid;
+import solver.ControlResolucion;
+import solver.ReceptorRecorrido;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A* sobre un MazeGrid cuyo estado vive en una tabla hash de direccionamiento abierto con claves long,
+ * así que ocupa memoria proporcional a las celdas alcanzadas y no al tamaño de la grilla, y admite
+ * grillas de más de 2^31 celdas. Por celda se guardan 13 bytes: la clave, g y un byte con la dirección
+ * por la que se llegó (en lugar del índice del padre) y la marca de expandida.
+ * La cola de prioridad es un montículo binario con eliminación perezosa: una entrada obsoleta se
+ * descarta al salir si su celda ya fue expandida.
+ */
+final class AStarDisperso {
+
+    // Bits de la prioridad reservados para desempatar por h (f ocupa los bits superiores)
+    private static final int BITS_DESEMPATE = 24;
+    private static final long MAXIMO_DESEMPATE = (1L << BITS_DESEMPATE) - 1;
+
+    // Byte de estado: dirección de llegada (0 arriba, 1 abajo, 2 izquierda, 3 derecha, INICIO) y marca de expandida
+    private static final byte INICIO = 4;
+    private static final byte DIRECCION = 7;
+    private static final byte CERRADA = 8;
+
+    private final MazeGrid grid;
+    private final int filas;
+    private final int columnas;
+
+    // Tabla hash: celda (índice long) -> posición; -1 marca una posición libre
+    private long[] claves;
+    private int[] g;
+    private byte[] estado;
+    private int ocupadas;
+
+    // Montículo de (prioridad, celda)
+    private long[] prioridades = new long[1024];
+    private long[] celdas = new long[1024];
+    private int tamano;
+
+    AStarDisperso(MazeGrid grid) {
+        this.grid = grid;
+        this.filas = grid.getFilas();
+        this.columnas = grid.getColumnas();
+        crearTabla(1 << 12);
+    }
+
+    /**
+     * Busca un camino más corto en 4 direcciones.
+     *
+     * @param receptor recibe cada celda expandida y el camino como índices int; puede ser null, y debe serlo
+     *                 si la grilla tiene más celdas que las que caben en un int.
+     * @return camino del inicio al fin (vacío si no hay).
+     */
+    List<Cell> buscar(Cell start, Cell end, ControlResolucion control, ReceptorRecorrido receptor) {
+        List<Cell> path = new ArrayList<>();
+        if (!grid.esLibre(start.getRow(), start.getCol()) || !grid.esLibre(end.getRow(), end.getCol())) return path;
+
+        int finFila = end.getRow();
+        int finCol = end.getCol();
+        long inicio = indice(start.getRow(), start.getCol());
+        long fin = indice(finFila, finCol);
+
+        int p = posicion(inicio, true);
+        g[p] = 0;
+        estado[p] = INICIO;
+        insertar(prioridad(0, heuristica(start.getRow(), start.getCol(), finFila, finCol)), inicio);
+
+        boolean found = false;
+        long expandidas = 0;
+        while (tamano > 0) {
+            long actual = extraerMinimo();
+            int pa = posicion(actual, false);
+            if ((estado[pa] & CERRADA) != 0) continue; // entrada obsoleta
+            estado[pa] |= CERRADA;
+            control.revisar(++expandidas, tamano);
+            if (receptor != null) receptor.visitada((int) actual);
+
+            if (actual == fin) {
+                found = true;
+                break;
+            }
+
+            int r = (int) (actual / columnas);
+            int c = (int) (actual - (long) r * columnas);
+            int gVecino = g[pa] + 1;
+            if (r > 0 && grid.esLibre(r - 1, c)) relajar(actual - columnas, r - 1, c, 0, gVecino, finFila, finCol);
+            if (r < filas - 1 && grid.esLibre(r + 1, c)) relajar(actual + columnas, r + 1, c, 1, gVecino, finFila, finCol);
+            if (c > 0 && grid.esLibre(r, c - 1)) relajar(actual - 1, r, c - 1, 2, gVecino, finFila, finCol);
+            if (c < columnas - 1 && grid.esLibre(r, c + 1)) relajar(actual + 1, r, c + 1, 3, gVecino, finFila, finCol);
+        }
+
+        if (found) {
+            // Se retrocede deshaciendo la dirección con la que se llegó a cada celda
+            long at = fin;
+            while (true) {
+                path.add(new Cell((int) (at / columnas), (int) (at % columnas)));
+                int d = estado[posicion(at, false)] & DIRECCION;
+                if (d == INICIO) break;
+                at -= d == 0 ? -columnas : d == 1 ? columnas : d == 2 ? -1 : 1;
+            }
+            Collections.reverse(path);
+        }
+        if (receptor != null) ReceptorRecorrido.enviarCamino(path, columnas, receptor);
+        return path;
+    }
+
+    private void relajar(long vecino, int fila, int col, int direccion, int gVecino, int finFila, int finCol) {
+        int p = posicion(vecino, true);
+        if ((estado[p] & CERRADA) != 0 || gVecino >= g[p]) return; // ya expandido o no mejora
+        g[p] = gVecino;
+        estado[p] = (byte) direccion;
+        insertar(prioridad(gVecino, heuristica(fila, col, finFila, finCol)), vecino);
+    }
+
+    private long indice(int fila, int col) {
+        return (long) fila * columnas + col;
+    }
+
+    private static long heuristica(int fila, int col, int finFila, int finCol) {
+        return (long) Math.abs(fila - finFila) + Math.abs(col - finCol);
+    }
+
+    /**
+     * Combina f = g + h con h como desempate; h se satura si no cabe, y entonces solo desempata cerca de la meta.
+     */
+    private static long prioridad(int g, long h) {
+        return ((g + h) << BITS_DESEMPATE) | Math.min(h, MAXIMO_DESEMPATE);
+    }
+
+    // ---- Tabla hash ----
+
+    private void crearTabla(int capacidad) {
+        claves = new long[capacidad];
+        g = new int[capacidad];
+        estado = new byte[capacidad];
+        Arrays.fill(claves, -1);
+        Arrays.fill(g, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param crear si es true y la celda no está, se agrega con costo infinito.
+     * @return posición de la celda en la tabla.
+     */
+    private int posicion(long celda, boolean crear) {
+        int mascara = claves.length - 1;
+        int p = (int) ((celda * 0x9E3779B97F4A7C15L) >>> 32) & mascara;
+        while (claves[p] != celda) {
+            if (claves[p] == -1) {
+                if (!crear) throw new IllegalStateException("Celda fuera de la tabla: " + celda);
+                if (ocupadas + 1 > claves.length - (claves.length >>> 2)) { // carga máxima de 3/4
+                    crecer();
+                    return posicion(celda, true);
+                }
+                claves[p] = celda;
+                ocupadas++;
+                return p;
+            }
+            p = (p + 1) & mascara;
+        }
+        return p;
+    }
+
+    private void crecer() {
+        long[] viejasClaves = claves;
+        int[] viejoG = g;
+        byte[] viejoEstado = estado;
+        crearTabla(viejasClaves.length * 2);
+        ocupadas = 0;
+        for (int i = 0; i < viejasClaves.length; i++) {
+            if (viejasClaves[i] == -1) continue;
+            int p = posicion(viejasClaves[i], true);
+            g[p] = viejoG[i];
+            estado[p] = viejoEstado[i];
+        }
+    }
+
+    // ---- Montículo ----
+
+    private void insertar(long prioridad, long celda) {
+        if (tamano == prioridades.length) {
+            prioridades = Arrays.copyOf(prioridades, tamano * 2);
+            celdas = Arrays.copyOf(celdas, tamano * 2);
+        }
+        int i = tamano++;
+        while (i > 0) {
+            int arriba = (i - 1) >>> 1;
+            if (prioridades[arriba] <= prioridad) break;
+            prioridades[i] = prioridades[arriba];
+            celdas[i] = celdas[arriba];
+            i = arriba;
+        }
+        prioridades[i] = prioridad;
+        celdas[i] = celda;
+    }
+
+    private long extraerMinimo() {
+        long minimo = celdas[0];
+        tamano--;
+        long prioridad = prioridades[tamano];
+        long celda = celdas[tamano];
+        int i = 0;
+        while (true) {
+            int hijo = 2 * i + 1;
+            if (hijo >= tamano) break;
+            if (hijo + 1 < tamano && prioridades[hijo + 1] < prioridades[hijo]) hijo++;
+            if (prioridades[hijo] >= prioridad) break;
+            prioridades[i] = prioridades[hijo];
+            celdas[i] = celdas[hijo];
+            i = hijo;
+        }
+        prioridades[i] = prioridad;
+        celdas[i] = celda;
+        return minimo;
+    }
+}
@@ -0,0 +1,245 @@
+package solver.impl;
+
+import solver.ControlResolucion;
+
+import java.util.Arrays;
+
+/**
+ * Grafo ponderado compilado a partir del laberinto: los nodos son cruces (3 o más vecinos libres)
+ * y callejones (1 o ninguno), y cada corredor de una celda de ancho entre dos nodos se colapsa en una
+ * sola arista que guarda su longitud y la secuencia de celdas interiores. Todo se guarda en arreglos
+ * primitivos (adyacencia en formato CSR) para que la búsqueda no cree objetos.
+ * El inicio y el fin no forman parte del grafo: si caen dentro de un corredor se ubican por la arista
+ * y la posición en ella, así que el mismo grafo sirve para cualquier consulta mientras no cambien los muros.
+ */
+final class GrafoCorredores {
+
+    final int filas;
+    final int columnas;
+
+    // Nodos
+    int numNodos;
+    int[] celdaNodo;            // celda de cada nodo
+    final int[] nodoDeCelda;    // nodo de cada celda (-1 si no es nodo)
+
+    // Aristas: extremos a y b, longitud en pasos y celdas interiores ordenadas de a hacia b
+    int numAristas;
+    int[] aristaA;
+    int[] aristaB;
+    int[] longitud;
+    int[] inicioInterior;       // las celdas interiores de la arista e son interior[inicioInterior[e] .. inicioInterior[e+1])
+    int[] interior;
+
+    // Ubicación de las celdas de corredor
+    final int[] aristaDeCelda;  // arista a la que pertenece cada celda interior (-1 si no lo es)
+    final int[] posicionEnArista;
+
+    // Adyacencia CSR: para el nodo u, posiciones [inicioAdyacencia[u], inicioAdyacencia[u+1])
+    int[] inicioAdyacencia;
+    int[] adyacenteNodo;
+    int[] adyacenteArista;      // arista * 2 + sentido (0: de a hacia b, 1: de b hacia a)
+
+    private long[] abierto;       // bitset de celdas transitables; solo se usa durante la compilación
+    private int numInteriores;
+
+    /**
+     * Compila el laberinto en un grafo de corredores. El costo es lineal en el número de celdas.
+     *
+     * @param abierto bitset de celdas transitables, por índice fila * columnas + columna.
+     * @param filas número de filas del laberinto.
+     * @param columnas número de columnas del laberinto.
+     * @param control control revisado por cada celda y cada nodo recorridos.
+     * @return grafo compilado.
+     */
+    static GrafoCorredores compilar(long[] abierto, int filas, int columnas, ControlResolucion control) {
+        GrafoCorredores grafo = new GrafoCorredores(abierto, filas, columnas);
+        grafo.construir(control);
+        return grafo;
+    }
+
+    private GrafoCorredores(long[] abierto, int filas, int columnas) {
+        this.abierto = abierto;
+        this.filas = filas;
+        this.columnas = columnas;
+        int total = filas * columnas;
+        this.nodoDeCelda = new int[total];
+        this.aristaDeCelda = new int[total];
+        this.posicionEnArista = new int[total];
+    }
+
+    private void construir(ControlResolucion control) {
+        int total = filas * columnas;
+        Arrays.fill(nodoDeCelda, -1);
+        Arrays.fill(aristaDeCelda, -1);
+        celdaNodo = new int[64];
+        aristaA = new int[64];
+        aristaB = new int[64];
+        longitud = new int[64];
+        inicioInterior = new int[65];
+        interior = new int[64];
+
+        for (int i = 0; i < total; i++) {
+            control.revisar(i + 1, 0);
+            if (libre(i) && grado(i) != 2) agregarNodo(i);
+        }
+
+        // Cada corredor se recorre desde sus dos extremos; se guarda solo desde el extremo canónico
+        int[] vecinos = new int[4];
+        for (int u = 0; u < numNodos; u++) {
+            control.revisar(u + 1, numNodos - u);
+            int celda = celdaNodo[u];
+            int k = vecinos(celda, vecinos);
+            for (int v = 0; v < k; v++) {
+                recorrerCorredor(celda, vecinos[v], true);
+            }
+        }
+
+        // Celdas de grado 2 que no quedaron en ninguna arista forman ciclos sin cruces:
+        // una celda de cada ciclo pasa a ser nodo y el ciclo, una arista de ese nodo a sí mismo
+        for (int i = 0; i < total; i++) {
+            if (libre(i) && nodoDeCelda[i] < 0 && aristaDeCelda[i] < 0) {
+                agregarNodo(i);
+                vecinos(i, vecinos);
+                recorrerCorredor(i, vecinos[0], false);
+            }
+        }
+
+        construirAdyacencia();
+        abierto = null;
+    }
+
+    /**
+     * Avanza por el corredor que sale del nodo en la celda origen hacia la celda primera
+     * hasta llegar a otro nodo.
+     *
+     * @param canonico si es true, la arista solo se agrega cuando este es su extremo canónico.
+     */
+    private void recorrerCorredor(int origen, int primera, boolean canonico) {
+        int marca = numInteriores;  // las celdas se escriben provisionalmente al final del arreglo interior
+        int anterior = origen, actual = primera;
+        while (nodoDeCelda[actual] < 0) {
+            agregarInterior(actual);
+            int siguiente = otroVecino(actual, anterior);
+            anterior = actual;
+            actual = siguiente;
+        }
+        int destino = actual;
+        int cantidad = numInteriores - marca;
+
+        // Extremo canónico: nodo de menor celda; en un bucle, el sentido cuya primera celda es menor
+        boolean agregar = !canonico || origen < destino
+                || (origen == destino && cantidad > 0 && interior[marca] < interior[numInteriores - 1]);
+        if (!agregar) {
+            numInteriores = marca;
+            return;
+        }
+
+        int e = numAristas++;
+        if (e == aristaA.length) {
+            aristaA = Arrays.copyOf(aristaA, e * 2);
+            aristaB = Arrays.copyOf(aristaB, e * 2);
+            longitud = Arrays.copyOf(longitud, e * 2);
+            inicioInterior = Arrays.copyOf(inicioInterior, e * 2 + 1);
+        }
+        aristaA[e] = nodoDeCelda[origen];
+        aristaB[e] = nodoDeCelda[destino];
+        longitud[e] = cantidad + 1;
+        inicioInterior[e] = marca;
+        inicioInterior[e + 1] = numInteriores;
+        for (int p = 0; p < cantidad; p++) {
+            int celda = interior[marca + p];
+            aristaDeCelda[celda] = e;
+            posicionEnArista[celda] = p;
+        }
+    }
+
+    private void construirAdyacencia() {
+        inicioAdyacencia = new int[numNodos + 1];
+        for (int e = 0; e < numAristas; e++) {
+            inicioAdyacencia[aristaA[e] + 1]++;
+            inicioAdyacencia[aristaB[e] + 1]++;
+        }
+        for (int u = 0; u < numNodos; u++) {
+            inicioAdyacencia[u + 1] += inicioAdyacencia[u];
+        }
+        adyacenteNodo = new int[2 * numAristas];
+        adyacenteArista = new int[2 * numAristas];
+        int[] siguiente = Arrays.copyOf(inicioAdyacencia, numNodos);
+        for (int e = 0; e < numAristas; e++) {
+            int p = siguiente[aristaA[e]]++;
+            adyacenteNodo[p] = aristaB[e];
+            adyacenteArista[p] = e * 2;
+            p = siguiente[aristaB[e]]++;
+            adyacenteNodo[p] = aristaA[e];
+            adyacenteArista[p] = e * 2 + 1;
+        }
+    }
+
+    /**
+     * @return cantidad de celdas interiores de la arista.
+     */
+    int interiores(int e) {
+        return inicioInterior[e + 1] - inicioInterior[e];
+    }
+
+    /**
+     * @return celda interior p de la arista (contando desde el extremo a).
+     */
+    int celdaInterior(int e, int p) {
+        return interior[inicioInterior[e] + p];
+    }
+
+    private void agregarNodo(int celda) {
+        if (numNodos == celdaNodo.length) celdaNodo = Arrays.copyOf(celdaNodo, numNodos * 2);
+        nodoDeCelda[celda] = numNodos;
+        celdaNodo[numNodos++] = celda;
+    }
+
+    private void agregarInterior(int celda) {
+        if (numInteriores == interior.length) interior = Arrays.copyOf(interior, numInteriores * 2);
+        interior[numInteriores++] = celda;
+    }
+
+    private boolean libre(int i) {
+        return (abierto[i >>> 6] & (1L << i)) != 0;
+    }
+
+    private int grado(int i) {
+        int r = i / columnas;
+        int c = i - r * columnas;
+        int g = 0;
+        if (r > 0 && libre(i - columnas)) g++;
+        if (r < filas - 1 && libre(i + columnas)) g++;
+        if (c > 0 && libre(i - 1)) g++;
+        if (c < columnas - 1 && libre(i + 1)) g++;
+        return g;
+    }
+
+    /**
+     * Escribe los vecinos libres de la celda (arriba, abajo, izquierda, derecha).
+     *
+     * @return cantidad de vecinos.
+     */
+    private int vecinos(int i, int[] salida) {
+        int r = i / columnas;
+        int c = i - r * columnas;
+        int n = 0;
+        if (r > 0 && libre(i - columnas)) salida[n++] = i - columnas;
+        if (r < filas - 1 && libre(i + columnas)) salida[n++] = i + columnas;
+        if (c > 0 && libre(i - 1)) salida[n++] = i - 1;
+        if (c < columnas - 1 && libre(i + 1)) salida[n++] = i + 1;
+        return n;
+    }
+
+    /**
+     * @return el vecino libre de una celda de corredor (grado 2) distinto de anterior.
+     */
+    private int otroVecino(int i, int anterior) {
+        int r = i / columnas;
+        int c = i - r * columnas;
+        if (r > 0 && libre(i - columnas) && i - columnas != anterior) return i - columnas;
+        if (r < filas - 1 && libre(i + columnas) && i + columnas != anterior) return i + columnas;
+        if (c > 0 && libre(i - 1) && i - 1 != anterior) return i - 1;
+        return i + 1;
+    }
+}
@@ -0,0 +1,159 @@
+package solver.impl;
+
+import java.util.Arrays;
+
+/**
+ * Montículo binario mínimo sobre índices enteros (0..capacidad-1) respaldado por arreglos.
+ * Cada índice tiene a lo sumo una entrada y su prioridad puede modificarse en O(log n),
+ * lo que evita los duplicados y la creación de objetos de PriorityQueue.
+ */
+final class IndexedMinHeap {
+
+    private final int[] heap;       // índices ordenados como montículo
+    private final int[] posicion;   // posición de cada índice dentro del montículo (-1 si no está)
+    private final long[] clave;     // prioridad asociada a cada índice
+    private int tamano;             // número de elementos en el montículo
+
+    /**
+     * Crea un montículo vacío para índices entre 0 y capacidad - 1.
+     *
+     * @param capacidad número máximo de índices distintos.
+     */
+    IndexedMinHeap(int capacidad) {
+        this.heap = new int[capacidad];
+        this.posicion = new int[capacidad];
+        this.clave = new long[capacidad];
+        Arrays.fill(posicion, -1);
+    }
+
+    /**
+     * @return true si el montículo no tiene elementos.
+     */
+    boolean estaVacio() {
+        return tamano == 0;
+    }
+
+    /**
+     * @return número de elementos en el montículo.
+     */
+    int tamano() {
+        return tamano;
+    }
+
+    /**
+     * @return true si el índice está actualmente en el montículo.
+     */
+    boolean contiene(int indice) {
+        return posicion[indice] >= 0;
+    }
+
+    /**
+     * @return prioridad actual del índice (solo válida si está en el montículo).
+     */
+    long clave(int indice) {
+        return clave[indice];
+    }
+
+    /**
+     * @return prioridad mínima del montículo (no debe estar vacío).
+     */
+    long claveMinima() {
+        return clave[heap[0]];
+    }
+
+    /**
+     * Inserta el índice o, si ya está presente, actualiza su prioridad.
+     *
+     * @param indice índice del elemento.
+     * @param prioridad nueva prioridad.
+     */
+    void insertarOActualizar(int indice, long prioridad) {
+        int p = posicion[indice];
+        if (p < 0) {
+            clave[indice] = prioridad;
+            heap[tamano] = indice;
+            posicion[indice] = tamano;
+            subir(tamano++);
+        } else {
+            long anterior = clave[indice];
+            clave[indice] = prioridad;
+            if (prioridad < anterior) subir(p);
+            else bajar(p);
+        }
+    }
+
+    /**
+     * Extrae el índice con menor prioridad.
+     *
+     * @return índice extraído.
+     */
+    int extraerMinimo() {
+        int minimo = heap[0];
+        eliminarEn(0);
+        return minimo;
+    }
+
+    /**
+     * Elimina el índice del montículo si está presente.
+     */
+    void eliminar(int indice) {
+        int p = posicion[indice];
+        if (p >= 0) eliminarEn(p);
+    }
+
+    /**
+     * Vacía el montículo dejando todos los índices fuera de él.
+     */
+    void limpiar() {
+        for (int i = 0; i < tamano; i++) {
+            posicion[heap[i]] = -1;
+        }
+        tamano = 0;
+    }
+
+    private void eliminarEn(int p) {
+        int indice = heap[p];
+        posicion[indice] = -1;
+        tamano--;
+        if (p == tamano) return;
+
+        // Se mueve el último elemento al hueco y se reacomoda en la dirección que corresponda
+        int ultimo = heap[tamano];
+        heap[p] = ultimo;
+        posicion[ultimo] = p;
+        subir(p);
+        bajar(posicion[ultimo]);
+    }
+
+    private void subir(int p) {
+        int indice = heap[p];
+        long k = clave[indice];
+        while (p > 0) {
+            int padre = (p - 1) >>> 1;
+            int indicePadre = heap[padre];
+            if (clave[indicePadre] <= k) break;
+            heap[p] = indicePadre;
+            posicion[indicePadre] = p;
+            p = padre;
+        }
+        heap[p] = indice;
+        posicion[indice] = p;
+    }
+
+    private void bajar(int p) {
+        int indice = heap[p];
+        long k = clave[indice];
+        int mitad = tamano >>> 1;
+        while (p < mitad) {
+            int hijo = 2 * p + 1;
+            int derecho = hijo + 1;
+            if (derecho < tamano && clave[heap[derecho]] < clave[heap[hijo]]) hijo = derecho;
+            if (k <= clave[heap[hijo]]) break;
+            heap[p] = heap[hijo];
+            posicion[heap[p]] = p;
+            p = hijo;
+        }
+        heap[p] = indice;
+        posicion[indice] = p;
+    }
+}
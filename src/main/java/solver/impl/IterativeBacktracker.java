@@ -0,0 +1,144 @@
+package solver.impl;
+
+import models.Cell;
+
+import solver.ControlResolucion;
+import solver.ReceptorRecorrido;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Motor de backtracking iterativo usado por los solucionadores recursivos.
+ * Reemplaza la pila de llamadas por una pila explícita de marcos en el heap (celda + siguiente dirección),
+ * por lo que no depende del tamaño de pila del hilo, y usa bitmaps para saber en O(1)
+ * si una celda está en el camino actual o ya fue visitada.
+ * Recorre las direcciones en el mismo orden que la versión recursiva (abajo, arriba, derecha, izquierda),
+ * de modo que el orden de visita y el camino son idénticos.
+ * La variante simple puede tardar un tiempo exponencial, así que cada paso pasa por el control de la
+ * resolución, que permite cancelarla, darle un plazo o detenerla al interrumpir el hilo.
+ */
+final class IterativeBacktracker {
+
+    private final boolean[][] maze;
+    private final int filas;
+    private final int columnas;
+    private final boolean visitadoGlobal;  // true: no se reentra a una celda ya visitada (variante BT)
+    private final ControlResolucion control;
+    private final ReceptorRecorrido receptor;   // recibe cada celda en su primera visita
+
+    private final long[] enCamino;         // bitmap de celdas en el camino actual
+    private final long[] vista;            // bitmap de celdas visitadas al menos una vez
+
+    // Pila explícita de marcos: celda y próxima dirección a intentar
+    private int[] pilaCeldas = new int[64];
+    private byte[] pilaDirecciones = new byte[64];
+    private int tope = 0;
+
+    /**
+     * @param maze matriz booleana del laberinto (true = camino, false = muro).
+     * @param visitadoGlobal si es true, una celda visitada no se vuelve a explorar aunque se haya retrocedido;
+     *                       si es false, solo se evita repetir celdas del camino actual.
+     * @param control control de cancelación, plazo y progreso.
+     * @param receptor destino de las celdas en el orden de su primera visita.
+     */
+    IterativeBacktracker(boolean[][] maze, boolean visitadoGlobal, ControlResolucion control,
+                         ReceptorRecorrido receptor) {
+        this.maze = maze;
+        this.filas = maze.length;
+        this.columnas = maze[0].length;
+        this.visitadoGlobal = visitadoGlobal;
+        this.control = control;
+        this.receptor = receptor;
+
+        int palabras = (filas * columnas + 63) >>> 6;
+        this.enCamino = new long[palabras];
+        this.vista = new long[palabras];
+    }
+
+    /**
+     * Ejecuta la búsqueda desde start hasta end.
+     *
+     * @return true si se encontró un camino.
+     * @throws CancellationException si el control pidió detener la búsqueda.
+     */
+    boolean buscar(Cell start, Cell end) {
+        int finFila = end.getRow();
+        int finCol = end.getCol();
+
+        if (!entrar(start.getRow(), start.getCol())) return false;
+        if (start.getRow() == finFila && start.getCol() == finCol) return true;
+
+        long pasos = 0;
+        while (tope > 0) {
+            control.revisar(++pasos, tope);
+            int marco = tope - 1;
+            int actual = pilaCeldas[marco];
+            int direccion = pilaDirecciones[marco]++;
+
+            if (direccion == 4) {
+                // Se agotaron las direcciones → retroceder (backtracking)
+                enCamino[actual >>> 6] &= ~(1L << actual);
+                tope--;
+                continue;
+            }
+
+            int row = actual / columnas;
+            int col = actual - row * columnas;
+            switch (direccion) {
+                case 0 -> row++;    // abajo
+                case 1 -> row--;    // arriba
+                case 2 -> col++;    // derecha
+                default -> col--;   // izquierda
+            }
+
+            if (entrar(row, col) && row == finFila && col == finCol) {
+                return true; // Si llegamos a la meta → éxito
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Intenta avanzar a una celda: la valida, la registra como visitada y apila su marco.
+     *
+     * @return true si se entró a la celda.
+     */
+    private boolean entrar(int row, int col) {
+        // Fuera del laberinto o muro → no seguir
+        if (row < 0 || row >= filas || col < 0 || col >= columnas || !maze[row][col]) return false;
+
+        int indice = row * columnas + col;
+        long bit = 1L << indice;
+        int palabra = indice >>> 6;
+
+        // Variante BT: ya visitada; variante simple: ya está en el camino actual
+        if (visitadoGlobal ? (vista[palabra] & bit) != 0 : (enCamino[palabra] & bit) != 0) return false;
+
+        if ((vista[palabra] & bit) == 0) {
+            vista[palabra] |= bit;
+            receptor.visitada(indice);
+        }
+
+        enCamino[palabra] |= bit;
+        if (tope == pilaCeldas.length) {
+            pilaCeldas = Arrays.copyOf(pilaCeldas, tope * 2);
+            pilaDirecciones = Arrays.copyOf(pilaDirecciones, tope * 2);
+        }
+        pilaCeldas[tope] = indice;
+        pilaDirecciones[tope] = 0;
+        tope++;
+        return true;
+    }
+
+    /**
+     * @return camino actual desde el inicio (completo hasta la meta si buscar devolvió true).
+     */
+    List<Cell> getCamino() {
+        List<Cell> path = new ArrayList<>(tope);
+        for (int i = 0; i < tope; i++) {
+            path.add(new Cell(pilaCeldas[i] / columnas, pilaCeldas[i] % columnas));
+        }
+        return path;
+    }
+}
@@ -0,0 +1,152 @@
+package solver.impl;
+
+import models.Cell;
+import models.MazeGrid;
+import models.MazeGridMatriz;
+import models.SolveResults;
+import solver.ColectorRecorrido;
+import solver.ControlResolucion;
+import solver.MazeSolver;
+import solver.ReceptorRecorrido;
+
+import java.util.*;
+
+/**
+ * Implementación del algoritmo A* con heurística de distancia Manhattan.
+ * Trabaja sobre índices lineales y un montículo binario indexado con disminución de clave,
+ * por lo que garantiza el camino más corto expandiendo muchas menos celdas que BFS
+ * cuando el laberinto es mayormente abierto.
+ */
+public class MazeSolverAStar implements MazeSolver {
+
+    /**
+     * Resuelve el laberinto con A*. Las celdas visitadas son las expandidas, en orden de expansión.
+     *
+     * @param maze matriz booleana del laberinto (true = camino, false = muro).
+     * @param start celda de inicio.
+     * @param end celda de fin.
+     * @return SolveResults con el camino más corto y las celdas expandidas.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end) {
+        return solve(maze, start, end, new ControlResolucion());
+    }
+
+    /**
+     * Igual que solve, revisando el control por cada celda expandida.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
+        return ColectorRecorrido.resolver(this, maze, start, end, control);
+    }
+
+    /**
+     * Transmite cada celda expandida al receptor en lugar de guardarla; el resultado solo trae el camino.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control,
+                              ReceptorRecorrido receptor) {
+        int filas = maze.length;
+        int columnas = maze[0].length;
+        int total = filas * columnas;
+
+        int[] g = new int[total];                       // costo desde el inicio
+        int[] padre = new int[total];                   // celda anterior en el mejor camino
+        long[] cerrado = new long[(total + 63) >>> 6];  // bitset de celdas ya expandidas
+        Arrays.fill(g, Integer.MAX_VALUE);
+
+        IndexedMinHeap abiertos = new IndexedMinHeap(total);
+
+        int finFila = end.getRow();
+        int finCol = end.getCol();
+        int inicio = start.getRow() * columnas + start.getCol();
+        int fin = finFila * columnas + finCol;
+
+        g[inicio] = 0;
+        padre[inicio] = -1;
+        abiertos.insertarOActualizar(inicio, prioridad(0, heuristica(start.getRow(), start.getCol(), finFila, finCol)));
+
+        boolean found = false;
+        long expandidas = 0;
+
+        while (!abiertos.estaVacio()) {
+            control.revisar(++expandidas, abiertos.tamano());
+            int actual = abiertos.extraerMinimo();
+            cerrado[actual >>> 6] |= 1L << actual;
+
+            int r = actual / columnas;
+            int c = actual - r * columnas;
+            receptor.visitada(actual); // celda expandida
+
+            if (actual == fin) {
+                found = true;
+                break;
+            }
+
+            int gVecino = g[actual] + 1;
+
+            // Vecinos en las 4 direcciones: arriba, abajo, izquierda, derecha
+            if (r > 0 && maze[r - 1][c]) relajar(actual - columnas, r - 1, c, actual, gVecino, finFila, finCol, g, padre, cerrado, abiertos);
+            if (r < filas - 1 && maze[r + 1][c]) relajar(actual + columnas, r + 1, c, actual, gVecino, finFila, finCol, g, padre, cerrado, abiertos);
+            if (c > 0 && maze[r][c - 1]) relajar(actual - 1, r, c - 1, actual, gVecino, finFila, finCol, g, padre, cerrado, abiertos);
+            if (c < columnas - 1 && maze[r][c + 1]) relajar(actual + 1, r, c + 1, actual, gVecino, finFila, finCol, g, padre, cerrado, abiertos);
+        }
+
+        List<Cell> path = new ArrayList<>();
+        if (found) {
+            for (int at = fin; at != -1; at = padre[at]) {
+                path.add(new Cell(at / columnas, at % columnas));
+            }
+            Collections.reverse(path);
+        }
+        ReceptorRecorrido.enviarCamino(path, columnas, receptor);
+
+        return new SolveResults(path, new LinkedHashSet<>());
+    }
+
+    /**
+     * Resuelve con A* leyendo la grilla directamente, sin convertirla en matriz. El estado de la búsqueda se
+     * guarda en una tabla hash de las celdas alcanzadas, así que la memoria depende de lo explorado y no del
+     * tamaño de la grilla: sirve para grillas mapeadas desde archivos más grandes que el heap. Las visitadas
+     * solo se devuelven si la grilla tiene menos de 2^31 celdas.
+     */
+    @Override
+    public SolveResults solve(MazeGrid grid, Cell start, Cell end) {
+        if (grid instanceof MazeGridMatriz) return solve(grid.aMatriz(), start, end);
+
+        AStarDisperso busqueda = new AStarDisperso(grid);
+        if (grid.celdas() > MazeGrid.MAXIMO_CELDAS_MATRIZ) {
+            return new SolveResults(busqueda.buscar(start, end, new ControlResolucion(), null), new LinkedHashSet<>());
+        }
+        ColectorRecorrido colector = new ColectorRecorrido(grid.getColumnas());
+        busqueda.buscar(start, end, new ControlResolucion(), colector);
+        return colector.resultado();
+    }
+
+    /**
+     * Actualiza el costo de un vecino si se encontró un camino más corto hacia él.
+     */
+    private static void relajar(int vecino, int fila, int col, int actual, int gVecino, int finFila, int finCol,
+                                int[] g, int[] padre, long[] cerrado, IndexedMinHeap abiertos) {
+        if ((cerrado[vecino >>> 6] & (1L << vecino)) != 0) return; // ya expandido
+        if (gVecino >= g[vecino]) return;                           // no mejora
+
+        g[vecino] = gVecino;
+        padre[vecino] = actual;
+        abiertos.insertarOActualizar(vecino, prioridad(gVecino, heuristica(fila, col, finFila, finCol)));
+    }
+
+    /**
+     * Distancia Manhattan entre dos celdas; es admisible en una grilla de 4 direcciones.
+     */
+    private static int heuristica(int fila, int col, int finFila, int finCol) {
+        return Math.abs(fila - finFila) + Math.abs(col - finCol);
+    }
+
+    /**
+     * Combina f = g + h con h como desempate: a igual f se prefiere la celda más cercana a la meta.
+     */
+    private static long prioridad(int g, int h) {
+        return ((long) (g + h) << 32) | h;
+    }
+}
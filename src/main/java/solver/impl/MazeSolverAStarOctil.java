@@ -0,0 +1,173 @@
+package solver.impl;
+
+import models.Cell;
+import models.SolveResults;
+import solver.ControlResolucion;
+import solver.MazeSolver;
+
+import java.util.*;
+
+/**
+ * Implementación de A* con movimiento en 8 direcciones y heurística octil.
+ * Los costos son de punto fijo (1000 en recto y 1414 en diagonal, es decir, 1 y √2 con tres decimales),
+ * así que el ciclo principal solo usa aritmética entera. Los caminos diagonales evitan la "escalera"
+ * de la vecindad de 4 direcciones. Una regla de esquinas decide si se puede avanzar en diagonal
+ * pasando junto a un muro.
+ */
+public class MazeSolverAStarOctil implements MazeSolver {
+
+    private static final int COSTO_RECTO = 1000;
+    private static final int COSTO_DIAGONAL = 1414;
+
+    // Bits para desempatar por h dentro de la prioridad (f ocupa los bits superiores)
+    private static final int BITS_DESEMPATE = 23;
+    private static final long MAXIMO_DESEMPATE = (1L << BITS_DESEMPATE) - 1;
+
+    // Direcciones: primero las 4 rectas (arriba, abajo, izquierda, derecha) y luego las diagonales
+    private static final int[] DF = {-1, 1, 0, 0, -1, -1, 1, 1};
+    private static final int[] DC = {0, 0, -1, 1, -1, 1, -1, 1};
+
+    /**
+     * Regla para los movimientos diagonales junto a muros.
+     */
+    public enum ReglaEsquinas {
+        /** La diagonal solo se permite si las dos celdas rectas que rodea están libres. */
+        SIN_CORTAR,
+        /** La diagonal se permite si al menos una de las dos celdas rectas está libre. */
+        CORTAR_SI_UNA_LIBRE
+    }
+
+    private final ReglaEsquinas regla;
+
+    /**
+     * Crea el solucionador sin cortar esquinas (la opción segura para un robot con cuerpo).
+     */
+    public MazeSolverAStarOctil() {
+        this(ReglaEsquinas.SIN_CORTAR);
+    }
+
+    /**
+     * @param regla regla para los movimientos diagonales junto a muros.
+     */
+    public MazeSolverAStarOctil(ReglaEsquinas regla) {
+        this.regla = regla;
+    }
+
+    public ReglaEsquinas getRegla() {
+        return regla;
+    }
+
+    /**
+     * Resuelve el laberinto con A* en 8 direcciones. Las celdas visitadas son las expandidas, en orden.
+     *
+     * @param maze matriz booleana del laberinto (true = camino, false = muro).
+     * @param start celda de inicio.
+     * @param end celda de fin.
+     * @return SolveResults con el camino de menor longitud euclidiana (con pasos rectos y diagonales)
+     *         y las celdas expandidas.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end) {
+        return solve(maze, start, end, new ControlResolucion());
+    }
+
+    /**
+     * Igual que solve, revisando el control por cada celda expandida.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
+        int filas = maze.length;
+        int columnas = maze[0].length;
+        int total = filas * columnas;
+
+        long[] g = new long[total];                     // costo desde el inicio en punto fijo
+        int[] padre = new int[total];
+        long[] cerrado = new long[(total + 63) >>> 6];  // bitset de celdas ya expandidas
+        Arrays.fill(g, Long.MAX_VALUE);
+
+        IndexedMinHeap abiertos = new IndexedMinHeap(total);
+        Set<Cell> visited = new LinkedHashSet<>();
+
+        int finFila = end.getRow();
+        int finCol = end.getCol();
+        int inicio = start.getRow() * columnas + start.getCol();
+        int fin = finFila * columnas + finCol;
+        boolean soloRectas = regla == ReglaEsquinas.SIN_CORTAR;
+
+        g[inicio] = 0;
+        padre[inicio] = -1;
+        abiertos.insertarOActualizar(inicio, prioridad(0, heuristica(start.getRow(), start.getCol(), finFila, finCol)));
+
+        boolean found = false;
+        long expandidas = 0;
+
+        while (!abiertos.estaVacio()) {
+            control.revisar(++expandidas, abiertos.tamano());
+            int actual = abiertos.extraerMinimo();
+            cerrado[actual >>> 6] |= 1L << actual;
+
+            int r = actual / columnas;
+            int c = actual - r * columnas;
+            visited.add(new Cell(r, c)); // celda expandida
+
+            if (actual == fin) {
+                found = true;
+                break;
+            }
+
+            for (int d = 0; d < 8; d++) {
+                int nr = r + DF[d];
+                int nc = c + DC[d];
+                if (nr < 0 || nr >= filas || nc < 0 || nc >= columnas || !maze[nr][nc]) continue;
+
+                int costo = COSTO_RECTO;
+                if (d >= 4) {
+                    // Diagonal: se revisan las dos celdas rectas que la rodean
+                    boolean vertical = maze[nr][c];
+                    boolean horizontal = maze[r][nc];
+                    if (soloRectas ? !(vertical && horizontal) : !(vertical || horizontal)) continue;
+                    costo = COSTO_DIAGONAL;
+                }
+
+                int vecino = nr * columnas + nc;
+                if ((cerrado[vecino >>> 6] & (1L << vecino)) != 0) continue; // ya expandido
+                long gVecino = g[actual] + costo;
+                if (gVecino >= g[vecino]) continue;                           // no mejora
+
+                g[vecino] = gVecino;
+                padre[vecino] = actual;
+                abiertos.insertarOActualizar(vecino, prioridad(gVecino, heuristica(nr, nc, finFila, finCol)));
+            }
+        }
+
+        List<Cell> path = new ArrayList<>();
+        if (found) {
+            for (int at = fin; at != -1; at = padre[at]) {
+                path.add(new Cell(at / columnas, at % columnas));
+            }
+            Collections.reverse(path);
+        }
+
+        return new SolveResults(path, visited);
+    }
+
+    /**
+     * Distancia octil: tantos pasos diagonales como el menor desplazamiento y el resto en recto.
+     * Es admisible y consistente con los costos de punto fijo.
+     */
+    private static long heuristica(int fila, int col, int finFila, int finCol) {
+        int df = Math.abs(fila - finFila);
+        int dc = Math.abs(col - finCol);
+        int menor = Math.min(df, dc);
+        int mayor = Math.max(df, dc);
+        return (long) COSTO_DIAGONAL * menor + (long) COSTO_RECTO * (mayor - menor);
+    }
+
+    /**
+     * Combina f = g + h con h como desempate: a igual f se prefiere la celda más cercana a la meta.
+     * f usa los bits superiores; h se satura si no cabe, y entonces solo desempata cerca de la meta.
+     */
+    private static long prioridad(long g, long h) {
+        return ((g + h) << BITS_DESEMPATE) | Math.min(h, MAXIMO_DESEMPATE);
+    }
+}
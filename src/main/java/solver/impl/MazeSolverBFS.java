@@ -2,6 +2,7 @@ package solver.impl;
 
 import models.Cell;
 import models.SolveResults;
+import solver.ControlResolucion;
 import solver.MazeSolver;
 
 import java.util.*;
@@ -22,6 +23,14 @@ public class MazeSolverBFS implements MazeSolver {
      */
     @Override
     public SolveResults solve(boolean[][] maze, Cell start, Cell end) {
+        return solve(maze, start, end, new ControlResolucion());
+    }
+
+    /**
+     * Igual que solve, revisando el control por cada celda extraída de la cola.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
         Queue<Cell> queue = new LinkedList<>();          // Cola para BFS
         Map<Cell, Cell> parentMap = new HashMap<>();     // Para reconstruir el camino
         Set<Cell> visited = new LinkedHashSet<>();       // Celdas visitadas en orden
@@ -30,9 +39,11 @@ public class MazeSolverBFS implements MazeSolver {
         visited.add(start);     // Marca como visitada
 
         boolean found = false;  // Bandera para indicar si se encontró el final
+        long pasos = 0;         // Celdas extraídas, para el control de la resolución
 
         // Bucle principal BFS
         while (!queue.isEmpty()) {
+            control.revisar(++pasos, queue.size());  // Permite cancelar o vencer el plazo
             Cell current = queue.poll();  // Extrae la siguiente celda de la cola
 
             if (current.equals(end)) {    // Si se llegó al destino
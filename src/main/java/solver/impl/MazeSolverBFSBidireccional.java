@@ -0,0 +1,155 @@
+package solver.impl;
+
+import models.Cell;
+import models.SolveResults;
+import solver.ControlResolucion;
+import solver.MazeSolver;
+
+import java.util.*;
+
+/**
+ * Implementación de BFS bidireccional: crece dos frentes, uno desde el inicio y otro desde el fin,
+ * y se detiene cuando se encuentran. Garantiza un camino de la misma longitud que BFS
+ * explorando aproximadamente la mitad del área cuando el inicio y el fin están lejos.
+ * Las celdas descubiertas desde el fin se devuelven aparte para poder pintar ambos frentes.
+ */
+public class MazeSolverBFSBidireccional implements MazeSolver {
+
+    private static final byte SIN_VISITAR = 0;
+    private static final byte DESDE_INICIO = 1;
+    private static final byte DESDE_FIN = 2;
+
+    /**
+     * Resuelve el laberinto expandiendo por niveles el frente más pequeño en cada paso.
+     *
+     * @param maze matriz booleana del laberinto (true = camino, false = muro).
+     * @param start celda de inicio.
+     * @param end celda de fin.
+     * @return SolveResults con el camino más corto, todas las celdas descubiertas
+     *         y las descubiertas desde el fin.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end) {
+        return solve(maze, start, end, new ControlResolucion());
+    }
+
+    /**
+     * Igual que solve, revisando el control por cada celda expandida de cualquiera de los dos frentes.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
+        int filas = maze.length;
+        int columnas = maze[0].length;
+        int total = filas * columnas;
+
+        byte[] lado = new byte[total];      // qué frente descubrió cada celda
+        int[] distancia = new int[total];   // distancia al origen de su frente
+        int[] padre = new int[total];       // celda previa hacia el origen de su frente
+        int[] orden = new int[total];       // orden global de descubrimiento
+        int descubiertas = 0;
+
+        // Cada frente usa su propia cola; como ninguna celda entra dos veces, basta con el tamaño total
+        int[] colaInicio = new int[total];
+        int[] colaFin = new int[total];
+        int[] estadoInicio = {0, 0};        // {cabeza, fondo}
+        int[] estadoFin = {0, 0};
+
+        int inicio = start.getRow() * columnas + start.getCol();
+        int fin = end.getRow() * columnas + end.getCol();
+
+        lado[inicio] = DESDE_INICIO;
+        padre[inicio] = -1;
+        colaInicio[estadoInicio[1]++] = inicio;
+        orden[descubiertas++] = inicio;
+
+        int encuentroA = -1, encuentroB = -1;   // arista donde se unen los frentes (A: lado inicio)
+
+        if (inicio == fin) {
+            encuentroA = inicio;
+        } else {
+            lado[fin] = DESDE_FIN;
+            padre[fin] = -1;
+            colaFin[estadoFin[1]++] = fin;
+            orden[descubiertas++] = fin;
+        }
+
+        int[] vecinos = new int[4];
+        long expandidas = 0;    // celdas expandidas entre los dos frentes, para el control
+
+        while (encuentroA < 0 && estadoInicio[0] < estadoInicio[1] && estadoFin[0] < estadoFin[1]) {
+            // Se expande el frente con menos celdas pendientes
+            boolean desdeInicio = estadoInicio[1] - estadoInicio[0] <= estadoFin[1] - estadoFin[0];
+            byte propio = desdeInicio ? DESDE_INICIO : DESDE_FIN;
+            byte otro = desdeInicio ? DESDE_FIN : DESDE_INICIO;
+            int[] cola = desdeInicio ? colaInicio : colaFin;
+            int[] estado = desdeInicio ? estadoInicio : estadoFin;
+
+            int finNivel = estado[1];
+            int mejor = Integer.MAX_VALUE;
+
+            // Se completa el nivel entero para quedarse con el encuentro de menor longitud
+            while (estado[0] < finNivel) {
+                control.revisar(++expandidas, finNivel - estado[0]);
+                int actual = cola[estado[0]++];
+                int cantidad = vecinos(maze, actual, filas, columnas, vecinos);
+
+                for (int i = 0; i < cantidad; i++) {
+                    int vecino = vecinos[i];
+                    if (lado[vecino] == SIN_VISITAR) {
+                        lado[vecino] = propio;
+                        distancia[vecino] = distancia[actual] + 1;
+                        padre[vecino] = actual;
+                        cola[estado[1]++] = vecino;
+                        orden[descubiertas++] = vecino;
+                    } else if (lado[vecino] == otro) {
+                        int longitud = distancia[actual] + 1 + distancia[vecino];
+                        if (longitud < mejor) {
+                            mejor = longitud;
+                            encuentroA = desdeInicio ? actual : vecino;
+                            encuentroB = desdeInicio ? vecino : actual;
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Cell> path = new ArrayList<>();
+        if (encuentroA >= 0) {
+            // Mitad del inicio: se recorre hacia atrás y se invierte
+            for (int at = encuentroA; at != -1; at = padre[at]) {
+                path.add(new Cell(at / columnas, at % columnas));
+            }
+            Collections.reverse(path);
+            // Mitad del fin: los padres ya apuntan hacia el fin
+            for (int at = encuentroB; at != -1; at = padre[at]) {
+                path.add(new Cell(at / columnas, at % columnas));
+            }
+        }
+
+        Set<Cell> visited = new LinkedHashSet<>();
+        Set<Cell> visitedFromEnd = new LinkedHashSet<>();
+        for (int i = 0; i < descubiertas; i++) {
+            Cell cell = new Cell(orden[i] / columnas, orden[i] % columnas);
+            visited.add(cell);
+            if (lado[orden[i]] == DESDE_FIN) visitedFromEnd.add(cell);
+        }
+
+        return new SolveResults(path, visited, visitedFromEnd);
+    }
+
+    /**
+     * Escribe en el arreglo los vecinos transitables (arriba, abajo, izquierda, derecha).
+     *
+     * @return cantidad de vecinos escritos.
+     */
+    private static int vecinos(boolean[][] maze, int actual, int filas, int columnas, int[] salida) {
+        int r = actual / columnas;
+        int c = actual - r * columnas;
+        int n = 0;
+        if (r > 0 && maze[r - 1][c]) salida[n++] = actual - columnas;
+        if (r < filas - 1 && maze[r + 1][c]) salida[n++] = actual + columnas;
+        if (c > 0 && maze[r][c - 1]) salida[n++] = actual - 1;
+        if (c < columnas - 1 && maze[r][c + 1]) salida[n++] = actual + 1;
+        return n;
+    }
+}
@@ -0,0 +1,139 @@
+package solver.impl;
+
+import models.Cell;
+import models.SolveResults;
+import solver.ColectorRecorrido;
+import solver.ControlResolucion;
+import solver.MazeSolver;
+import solver.ReceptorRecorrido;
+
+import java.util.*;
+
+/**
+ * Variante del algoritmo BFS que trabaja sobre índices lineales (fila * columnas + columna).
+ * Usa arreglos primitivos para la cola, los padres y un bitset para los visitados,
+ * de modo que solo se crean objetos Cell al construir el resultado final.
+ * Devuelve exactamente el mismo camino y orden de visita que MazeSolverBFS.
+ */
+public class MazeSolverBFSIndexado implements MazeSolver {
+
+    /**
+     * Resuelve el laberinto con BFS usando estructuras primitivas.
+     *
+     * @param maze matriz booleana que representa el laberinto (true = camino libre, false = muro).
+     * @param start celda de inicio.
+     * @param end celda de fin.
+     * @return objeto SolveResults con el camino encontrado y las celdas visitadas.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end) {
+        return ColectorRecorrido.resolver(this, maze, start, end, new ControlResolucion());
+    }
+
+    /**
+     * Igual que solve, revisando el control por cada celda extraída de la cola.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
+        return ColectorRecorrido.resolver(this, maze, start, end, control);
+    }
+
+    /**
+     * Transmite las celdas en el orden de la cola en lugar de guardarlas; el resultado solo trae el camino.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control,
+                              ReceptorRecorrido receptor) {
+        int filas = maze.length;            // número de filas
+        int columnas = maze[0].length;      // número de columnas
+        int total = filas * columnas;       // número total de celdas
+
+        // Cada celda entra a la cola como máximo una vez, por lo que el arreglo nunca da la vuelta
+        // y, al terminar, sus primeras posiciones guardan el orden en que se visitaron las celdas.
+        int[] cola = new int[total];
+        int[] padre = new int[total];                   // índice de la celda de la que se vino
+        long[] visitado = new long[(total + 63) >>> 6]; // bitset de celdas visitadas
+
+        int inicio = start.getRow() * columnas + start.getCol();
+        int fin = estaDentro(end, filas, columnas) ? end.getRow() * columnas + end.getCol() : -1;
+
+        int cabeza = 0;     // siguiente posición a extraer
+        int fondo = 0;      // siguiente posición libre
+        cola[fondo++] = inicio;
+        visitado[inicio >>> 6] |= 1L << inicio;
+        padre[inicio] = -1;
+
+        boolean found = false;
+
+        // Bucle principal BFS
+        while (cabeza < fondo) {
+            control.revisar(cabeza + 1, fondo - cabeza);
+            int actual = cola[cabeza++];
+            receptor.visitada(actual);  // el orden de la cola es el orden de visita
+
+            if (actual == fin) {    // Si se llegó al destino
+                found = true;
+                break;
+            }
+
+            int r = actual / columnas;
+            int c = actual - r * columnas;
+
+            // Mismo orden que MazeSolverBFS: arriba, abajo, izquierda, derecha
+            if (r > 0) fondo = encolar(maze[r - 1][c], actual - columnas, actual, cola, fondo, padre, visitado);
+            if (r < filas - 1) fondo = encolar(maze[r + 1][c], actual + columnas, actual, cola, fondo, padre, visitado);
+            if (c > 0) fondo = encolar(maze[r][c - 1], actual - 1, actual, cola, fondo, padre, visitado);
+            if (c < columnas - 1) fondo = encolar(maze[r][c + 1], actual + 1, actual, cola, fondo, padre, visitado);
+        }
+
+        // Las celdas que quedaron en la cola también se marcaron como visitadas
+        for (int i = cabeza; i < fondo; i++) {
+            receptor.visitada(cola[i]);
+        }
+
+        // Solo aquí se crean los objetos Cell
+        List<Cell> path = found ? buildPath(fin, padre, columnas) : Collections.emptyList();
+        ReceptorRecorrido.enviarCamino(path, columnas, receptor);
+
+        return new SolveResults(path, new LinkedHashSet<>());
+    }
+
+    /**
+     * Añade un vecino a la cola si es transitable y aún no fue visitado.
+     *
+     * @return nueva posición libre de la cola.
+     */
+    private static int encolar(boolean libre, int vecino, int actual, int[] cola, int fondo,
+                               int[] padre, long[] visitado) {
+        if (!libre || (visitado[vecino >>> 6] & (1L << vecino)) != 0) return fondo;
+
+        visitado[vecino >>> 6] |= 1L << vecino; // se marca como visitado
+        padre[vecino] = actual;                 // se guarda de dónde vino
+        cola[fondo] = vecino;                   // se añade a la cola
+        return fondo + 1;
+    }
+
+    /**
+     * Reconstruye el camino desde el índice final siguiendo el arreglo de padres.
+     *
+     * @param fin índice de la celda final.
+     * @param padre arreglo de padres por índice lineal.
+     * @param columnas número de columnas del laberinto.
+     * @return lista ordenada del camino desde el inicio hasta el fin.
+     */
+    private List<Cell> buildPath(int fin, int[] padre, int columnas) {
+        List<Cell> path = new ArrayList<>();
+        for (int at = fin; at != -1; at = padre[at]) {
+            path.add(new Cell(at / columnas, at % columnas));
+        }
+        Collections.reverse(path); // Se invierte para que vaya de inicio a fin
+        return path;
+    }
+
+    /**
+     * Verifica si una celda está dentro de los límites del laberinto.
+     */
+    private static boolean estaDentro(Cell cell, int filas, int columnas) {
+        return cell.getRow() >= 0 && cell.getRow() < filas && cell.getCol() >= 0 && cell.getCol() < columnas;
+    }
+}
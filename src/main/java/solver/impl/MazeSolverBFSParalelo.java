@@ -0,0 +1,276 @@
+package solver.impl;
+
+import models.Cell;
+import models.SolveResults;
+import solver.ControlResolucion;
+import solver.MazeSolver;
+
+import java.io.Serial;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Implementación de BFS paralelo sincronizado por niveles sobre un ForkJoinPool.
+ * Cada frente se reparte en bloques entre los hilos del pool; las celdas se reclaman con
+ * compareAndSet sobre un arreglo atómico de padres (sin candados), y cada bloque escribe sus
+ * celdas nuevas en un búfer propio que luego se concatena para formar el siguiente frente.
+ * Al avanzar por niveles completos, el camino devuelto es tan corto como el de MazeSolverBFS.
+ * Las visitadas se devuelven en un resultado compacto (el mismo arreglo de índices del orden de descubrimiento),
+ * así que no se crea ninguna Cell por celda descubierta salvo que alguien recorra el conjunto.
+ * Con el constructor por defecto usa el pool común y no hay nada que cerrar; con un paralelismo fijo crea su
+ * propio pool, que se libera con close().
+ */
+public class MazeSolverBFSParalelo implements MazeSolver, AutoCloseable {
+
+    // Frentes más pequeños que esto se expanden en el hilo que llama, sin repartir tareas
+    private static final int UMBRAL_SECUENCIAL = 2048;
+
+    // Tamaño mínimo de un bloque del frente asignado a una tarea
+    private static final int BLOQUE_MINIMO = 512;
+
+    private final ForkJoinPool pool;
+    private final boolean poolPropio;   // true si el pool se creó aquí y hay que cerrarlo
+    private final int paralelismo;
+
+    /**
+     * Crea el solucionador sobre el pool común, repartiendo cada frente entre todos los procesadores
+     * (el hilo que llama ayuda a expandirlo mientras espera).
+     */
+    public MazeSolverBFSParalelo() {
+        this.pool = ForkJoinPool.commonPool();
+        this.poolPropio = false;
+        this.paralelismo = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Crea el solucionador con un nivel de paralelismo fijo y un pool propio, que se libera con close().
+     *
+     * @param paralelismo número de hilos del pool (mínimo 1).
+     */
+    public MazeSolverBFSParalelo(int paralelismo) {
+        if (paralelismo < 1) {
+            throw new IllegalArgumentException("El paralelismo debe ser al menos 1: " + paralelismo);
+        }
+        this.paralelismo = paralelismo;
+        this.pool = new ForkJoinPool(paralelismo);
+        this.poolPropio = true;
+    }
+
+    /**
+     * Termina los hilos del pool propio. Con el pool común no hace nada.
+     */
+    @Override
+    public void close() {
+        if (poolPropio) pool.shutdown();
+    }
+
+    /**
+     * @return número de hilos usados para expandir cada frente.
+     */
+    public int getParalelismo() {
+        return paralelismo;
+    }
+
+    /**
+     * Resuelve el laberinto con BFS por niveles, expandiendo cada frente en paralelo.
+     *
+     * @param maze matriz booleana del laberinto (true = camino, false = muro).
+     * @param start celda de inicio.
+     * @param end celda de fin.
+     * @return SolveResults con un camino más corto y las celdas descubiertas nivel por nivel.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end) {
+        return solve(maze, start, end, new ControlResolucion());
+    }
+
+    /**
+     * Igual que solve, revisando el control entre niveles desde el hilo que llama (los hilos del pool no
+     * lo tocan). Se comprueba cada vez que se expanden otras 1024 celdas, así que un nivel grande se revisa
+     * siempre y muchos niveles chicos, como los de un pasillo, no pagan una comprobación cada uno.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
+        int filas = maze.length;
+        int columnas = maze[0].length;
+        int total = filas * columnas;
+
+        // padre + 1 de cada celda; 0 significa que todavía no fue reclamada
+        AtomicIntegerArray padre = new AtomicIntegerArray(total);
+        int[] orden = new int[total];   // celdas descubiertas, nivel por nivel
+        int descubiertas = 0;
+
+        int inicio = start.getRow() * columnas + start.getCol();
+        int fin = end.getRow() * columnas + end.getCol();
+
+        padre.set(inicio, inicio + 1);  // el inicio se reclama a sí mismo
+        orden[descubiertas++] = inicio;
+
+        int desdeNivel = 0;             // el frente actual es orden[desdeNivel, descubiertas)
+        Nivel nivel = new Nivel(maze, filas, columnas, padre);
+
+        while (padre.get(fin) == 0 && desdeNivel < descubiertas) {
+            int tamano = descubiertas - desdeNivel;
+            if ((desdeNivel >>> 10) != (descubiertas >>> 10)) control.comprobar(descubiertas, tamano);
+            int nuevas;
+            if (tamano < UMBRAL_SECUENCIAL || paralelismo == 1) {
+                nuevas = nivel.expandirSecuencial(orden, desdeNivel, descubiertas, orden, descubiertas);
+            } else {
+                nuevas = nivel.expandirParalelo(pool, paralelismo, orden, desdeNivel, descubiertas, descubiertas);
+            }
+            desdeNivel = descubiertas;
+            descubiertas += nuevas;
+        }
+
+        int[] camino = new int[0];
+        if (padre.get(fin) != 0) {
+            // Primero se cuenta el largo para llenar el camino desde el fin hacia atrás
+            int largo = 1;
+            for (int at = fin; padre.get(at) - 1 != at; at = padre.get(at) - 1) {
+                largo++;
+            }
+            camino = new int[largo];
+            for (int at = fin, i = largo - 1; i >= 0; at = padre.get(at) - 1, i--) {
+                camino[i] = at;
+            }
+        }
+
+        // orden ya tiene las visitadas en orden de descubrimiento: se recorta en lugar de copiarlo a un conjunto
+        int[] visitadas = descubiertas == total ? orden : Arrays.copyOf(orden, descubiertas);
+        return SolveResults.compacto(columnas, camino, visitadas, new int[0]);
+    }
+
+    /**
+     * Expansión de un nivel. Guarda los búferes por bloque para reutilizarlos entre niveles.
+     */
+    private static final class Nivel {
+        private final boolean[][] maze;
+        private final int filas;
+        private final int columnas;
+        private final AtomicIntegerArray padre;
+
+        private int[][] buferes = new int[0][];
+        private int[] cantidades = new int[0];
+
+        Nivel(boolean[][] maze, int filas, int columnas, AtomicIntegerArray padre) {
+            this.maze = maze;
+            this.filas = filas;
+            this.columnas = columnas;
+            this.padre = padre;
+        }
+
+        /**
+         * Expande el frente [desde, hasta) en el hilo actual escribiendo en destino a partir de offset.
+         *
+         * @return cantidad de celdas nuevas.
+         */
+        int expandirSecuencial(int[] frente, int desde, int hasta, int[] destino, int offset) {
+            int escritas = offset;
+            for (int i = desde; i < hasta; i++) {
+                escritas = expandirCelda(frente[i], destino, escritas);
+            }
+            return escritas - offset;
+        }
+
+        /**
+         * Reparte el frente en bloques, los expande en el pool y concatena los resultados en orden.
+         *
+         * @return cantidad de celdas nuevas escritas en orden a partir de offset.
+         */
+        int expandirParalelo(ForkJoinPool pool, int paralelismo, int[] orden, int desde, int hasta, int offset) {
+            int tamano = hasta - desde;
+            int bloques = Math.max(1, Math.min(paralelismo * 4, tamano / BLOQUE_MINIMO));
+            if (buferes.length < bloques) {
+                buferes = Arrays.copyOf(buferes, bloques);
+                cantidades = new int[bloques];
+            }
+
+            pool.invoke(new ExpandirBloques(this, orden, desde, tamano, bloques, 0, bloques));
+
+            // Concatenación sin candado global: cada bloque ya tiene su tamaño
+            int escritas = offset;
+            for (int b = 0; b < bloques; b++) {
+                System.arraycopy(buferes[b], 0, orden, escritas, cantidades[b]);
+                escritas += cantidades[b];
+            }
+            return escritas - offset;
+        }
+
+        /**
+         * Expande el bloque b del frente en su búfer propio.
+         */
+        void expandirBloque(int[] orden, int desde, int tamano, int bloques, int b) {
+            int inicio = desde + (int) ((long) tamano * b / bloques);
+            int fin = desde + (int) ((long) tamano * (b + 1) / bloques);
+
+            int[] bufer = buferes[b];
+            int capacidad = (fin - inicio) * 3 + 1;     // cada celda aporta a lo sumo 3 vecinos nuevos
+            if (bufer == null || bufer.length < capacidad) {
+                bufer = new int[capacidad];
+                buferes[b] = bufer;
+            }
+
+            int escritas = 0;
+            for (int i = inicio; i < fin; i++) {
+                escritas = expandirCelda(orden[i], bufer, escritas);
+            }
+            cantidades[b] = escritas;
+        }
+
+        /**
+         * Reclama los vecinos libres de una celda y los escribe en el destino.
+         *
+         * @return nueva cantidad de posiciones escritas.
+         */
+        private int expandirCelda(int actual, int[] destino, int escritas) {
+            int r = actual / columnas;
+            int c = actual - r * columnas;
+            int marca = actual + 1;
+            if (r > 0 && maze[r - 1][c] && padre.compareAndSet(actual - columnas, 0, marca)) destino[escritas++] = actual - columnas;
+            if (r < filas - 1 && maze[r + 1][c] && padre.compareAndSet(actual + columnas, 0, marca)) destino[escritas++] = actual + columnas;
+            if (c > 0 && maze[r][c - 1] && padre.compareAndSet(actual - 1, 0, marca)) destino[escritas++] = actual - 1;
+            if (c < columnas - 1 && maze[r][c + 1] && padre.compareAndSet(actual + 1, 0, marca)) destino[escritas++] = actual + 1;
+            return escritas;
+        }
+    }
+
+    /**
+     * Tarea que divide el rango de bloques [desde, hasta) hasta llegar a un bloque por tarea.
+     */
+    private static final class ExpandirBloques extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // Las tareas nunca se serializan: el nivel solo vive mientras se expande el frente
+        private final transient Nivel nivel;
+        private final int[] orden;
+        private final int inicioFrente;
+        private final int tamano;
+        private final int bloques;
+        private final int desde;
+        private final int hasta;
+
+        ExpandirBloques(Nivel nivel, int[] orden, int inicioFrente, int tamano, int bloques, int desde, int hasta) {
+            this.nivel = nivel;
+            this.orden = orden;
+            this.inicioFrente = inicioFrente;
+            this.tamano = tamano;
+            this.bloques = bloques;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde == 1) {
+                nivel.expandirBloque(orden, inicioFrente, tamano, bloques, desde);
+                return;
+            }
+            int mitad = (desde + hasta) >>> 1;
+            invokeAll(new ExpandirBloques(nivel, orden, inicioFrente, tamano, bloques, desde, mitad),
+                    new ExpandirBloques(nivel, orden, inicioFrente, tamano, bloques, mitad, hasta));
+        }
+    }
+}
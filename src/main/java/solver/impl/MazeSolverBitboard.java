@@ -0,0 +1,250 @@
+package solver.impl;
+
+import models.Cell;
+import models.MazeGrid;
+import models.MazeGridMatriz;
+import models.SolveResults;
+import solver.ColectorRecorrido;
+import solver.ControlResolucion;
+import solver.MazeSolver;
+import solver.ReceptorRecorrido;
+
+import java.util.*;
+
+/**
+ * Implementación de BFS bit-paralela ("bitboard"): el laberinto, el frente y las celdas visitadas
+ * se guardan como filas de bits empaquetadas en arreglos long[]. Cada nivel del BFS se expande
+ * 64 celdas por operación: cada palabra del frente empuja sus celdas a la misma palabra (desplazada a
+ * izquierda y derecha), a las palabras vecinas de la fila (el bit que cruza el borde) y a las de las filas
+ * de arriba y abajo, siempre con un AND con la máscara de celdas abiertas. Cada fila tiene al menos un bit
+ * de relleno (siempre muro) al final, así que un bit que cruza a otra fila cae en el relleno y se descarta
+ * sin comparar columnas.
+ * En lugar de la distancia de cada celda se guarda, también de a 64 celdas, el nivel módulo 3 en dos planos
+ * de bits: los vecinos de una celda del nivel d están en d - 1, d o d + 1, que difieren módulo 3, así que
+ * alcanza para reconstruir un camino más corto desde el fin. Ocupa 3 bits por celda (visitado y los dos
+ * planos) en vez de los 32 de un arreglo de distancias, y ninguna celda se convierte en Cell: el camino se
+ * devuelve como índices lineales.
+ * Con el frente en diagonal de una grilla abierta cada palabra recibe una o dos celdas por nivel y el tiempo
+ * queda parejo con BFS Indexado; donde más se nota es en la memoria, de 1,6 a 10 veces menos en 4096x4096
+ * (ver BitboardBenchmark).
+ */
+public class MazeSolverBitboard implements MazeSolver {
+
+    /**
+     * Resuelve el laberinto con BFS por niveles sobre palabras de 64 bits.
+     *
+     * @param maze matriz booleana del laberinto (true = camino, false = muro).
+     * @param start celda de inicio.
+     * @param end celda de fin.
+     * @return SolveResults con un camino más corto y las celdas descubiertas nivel por nivel.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end) {
+        return solve(maze, start, end, new ControlResolucion());
+    }
+
+    /**
+     * Igual que solve, comprobando el control al empezar cada nivel (cada nivel procesa muchas celdas).
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
+        return ColectorRecorrido.resolver(this, maze, start, end, control);
+    }
+
+    /**
+     * Transmite cada celda al descubrirla en lugar de guardarla; el resultado solo trae el camino.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control,
+                              ReceptorRecorrido receptor) {
+        int filas = maze.length;
+        int columnas = maze[0].length;
+        int palabras = palabrasPorFila(columnas);
+
+        // Bit j de la palabra w de una fila representa la columna w * 64 + j
+        long[] abierto = new long[filas * palabras];
+        for (int r = 0; r < filas; r++) {
+            boolean[] fila = maze[r];
+            int base = r * palabras;
+            for (int w = 0; w << 6 < columnas; w++) {
+                // Cada palabra se arma en un registro y se escribe una sola vez, sin saltos por celda
+                long bits = 0;
+                int hasta = Math.min(columnas, (w + 1) << 6);
+                for (int c = w << 6; c < hasta; c++) {
+                    bits |= (fila[c] ? 1L : 0L) << c;
+                }
+                abierto[base + w] = bits;
+            }
+        }
+        return buscar(abierto, filas, columnas, start, end, control, receptor);
+    }
+
+    /**
+     * Resuelve tomando las filas de la grilla de a 64 columnas con palabra(), que ya tienen el formato
+     * de los bitboards: no se arma la matriz booleana (un byte por celda) como paso intermedio.
+     */
+    @Override
+    public SolveResults solve(MazeGrid grid, Cell start, Cell end) {
+        if (grid instanceof MazeGridMatriz) return solve(grid.aMatriz(), start, end);
+        if (grid.celdas() > MazeGrid.MAXIMO_CELDAS_MATRIZ) {
+            throw new IllegalStateException("BFS Bitboard necesita una grilla de menos de 2^31 celdas");
+        }
+
+        int filas = grid.getFilas();
+        int columnas = grid.getColumnas();
+        int palabras = palabrasPorFila(columnas);
+        long[] abierto = new long[filas * palabras];
+        for (int r = 0; r < filas; r++) {
+            for (int w = 0; w << 6 < columnas; w++) {
+                abierto[r * palabras + w] = grid.palabra(r, w);
+            }
+        }
+
+        ColectorRecorrido colector = new ColectorRecorrido(columnas);
+        buscar(abierto, filas, columnas, start, end, new ControlResolucion(), colector);
+        return colector.resultado();
+    }
+
+    /**
+     * @return palabras de 64 bits por fila, con al menos un bit de relleno después de la última columna.
+     */
+    private static int palabrasPorFila(int columnas) {
+        return (columnas >>> 6) + 1;
+    }
+
+    /**
+     * BFS por niveles sobre la máscara de celdas abiertas (filas de palabras de 64 bits con relleno).
+     */
+    private SolveResults buscar(long[] abierto, int filas, int columnas, Cell start, Cell end,
+                                ControlResolucion control, ReceptorRecorrido receptor) {
+        int palabras = palabrasPorFila(columnas);
+
+        int totalPalabras = filas * palabras;
+        long[] visitado = new long[totalPalabras];
+        long[] frente = new long[totalPalabras];
+        long[] siguiente = new long[totalPalabras];
+        long[] capaBaja = new long[totalPalabras];  // bit 0 del nivel módulo 3 (solo válido en visitadas)
+        long[] capaAlta = new long[totalPalabras];  // bit 1 del nivel módulo 3
+        int descubiertas = 0;                       // celdas descubiertas (se transmiten al receptor)
+
+        // Solo se procesan las palabras del frente, no filas enteras
+        int[] activas = new int[64];            // palabras no vacías del frente actual
+        int[] nuevas = new int[64];             // palabras que recibieron celdas en este nivel
+        int numActivas = 0;
+
+        int finFila = end.getRow();
+        int finCol = end.getCol();
+        int finPalabra = finFila * palabras + (finCol >>> 6);
+        long finBit = 1L << finCol;
+
+        int palabraInicio = start.getRow() * palabras + (start.getCol() >>> 6);
+        frente[palabraInicio] |= 1L << start.getCol();
+        visitado[palabraInicio] |= 1L << start.getCol();
+        activas[numActivas++] = palabraInicio;
+        receptor.visitada(start.getRow() * columnas + start.getCol());
+        descubiertas++;
+
+        int nivel = 0;
+        int capa = 0;                           // nivel módulo 3
+        boolean found = palabraInicio == finPalabra && start.getCol() == finCol;
+
+        while (!found && numActivas > 0) {
+            control.comprobar(descubiertas, numActivas);
+            nivel++;
+            capa = capa == 2 ? 0 : capa + 1;
+
+            // Cada palabra del frente empuja sus celdas a la misma palabra y a sus cuatro vecinas
+            int numNuevas = 0;
+            for (int i = 0; i < numActivas; i++) {
+                int p = activas[i];
+                long actual = frente[p];
+                if (nuevas.length < numNuevas + 5) nuevas = Arrays.copyOf(nuevas, nuevas.length * 2);
+                // Columna + 1 y columna - 1 dentro de la palabra
+                numNuevas = empujar(p, (actual << 1) | (actual >>> 1), abierto, visitado, siguiente, nuevas, numNuevas);
+                // El bit 0 pasa al bit 63 de la palabra anterior y el bit 63 al bit 0 de la siguiente
+                if (p > 0) numNuevas = empujar(p - 1, actual << 63, abierto, visitado, siguiente, nuevas, numNuevas);
+                if (p + 1 < totalPalabras) numNuevas = empujar(p + 1, actual >>> 63, abierto, visitado, siguiente, nuevas, numNuevas);
+                // Fila de arriba y fila de abajo
+                if (p >= palabras) numNuevas = empujar(p - palabras, actual, abierto, visitado, siguiente, nuevas, numNuevas);
+                if (p + palabras < totalPalabras) numNuevas = empujar(p + palabras, actual, abierto, visitado, siguiente, nuevas, numNuevas);
+            }
+
+            // Las celdas nuevas pasan a visitadas y se anota su nivel módulo 3
+            for (int i = 0; i < numNuevas; i++) {
+                int p = nuevas[i];
+                long nuevo = siguiente[p];
+                visitado[p] |= nuevo;
+                if ((capa & 1) != 0) capaBaja[p] |= nuevo;
+                if ((capa & 2) != 0) capaAlta[p] |= nuevo;
+
+                // Solo el receptor recibe las celdas de a una
+                int columnaBase = (p / palabras) * columnas + ((p % palabras) << 6);
+                descubiertas += Long.bitCount(nuevo);
+                while (nuevo != 0) {
+                    receptor.visitada(columnaBase + Long.numberOfTrailingZeros(nuevo));
+                    nuevo &= nuevo - 1;
+                }
+            }
+
+            // Se limpia el frente anterior (solo sus palabras activas) y se intercambian los arreglos
+            for (int i = 0; i < numActivas; i++) {
+                frente[activas[i]] = 0L;
+            }
+            long[] temporal = frente;
+            frente = siguiente;
+            siguiente = temporal;
+
+            int[] intercambio = activas;
+            activas = nuevas;
+            nuevas = intercambio;
+            numActivas = numNuevas;
+
+            found = (visitado[finPalabra] & finBit) != 0;
+        }
+
+        int[] camino = new int[0];
+        if (found) {
+            // Se retrocede desde el fin buscando siempre un vecino de la capa anterior
+            camino = new int[nivel + 1];
+            int r = finFila, c = finCol;
+            for (int d = nivel; ; d--) {
+                camino[d] = r * columnas + c;
+                if (d == 0) break;
+                capa = capa == 0 ? 2 : capa - 1;
+                if (r > 0 && enCapa(visitado, capaBaja, capaAlta, (r - 1) * palabras + (c >>> 6), 1L << c, capa)) r--;
+                else if (r < filas - 1 && enCapa(visitado, capaBaja, capaAlta, (r + 1) * palabras + (c >>> 6), 1L << c, capa)) r++;
+                else if (c > 0 && enCapa(visitado, capaBaja, capaAlta, r * palabras + ((c - 1) >>> 6), 1L << (c - 1), capa)) c--;
+                else c++;
+            }
+        }
+
+        for (int celda : camino) {
+            receptor.camino(celda);
+        }
+        return SolveResults.compacto(columnas, camino, new int[0], new int[0]);
+    }
+
+    /**
+     * Agrega a la palabra q del siguiente frente las celdas abiertas y no visitadas de bits, y la anota
+     * en la lista de nuevas la primera vez que recibe algo en este nivel.
+     *
+     * @return nueva cantidad de palabras nuevas.
+     */
+    private static int empujar(int q, long bits, long[] abierto, long[] visitado, long[] siguiente,
+                               int[] nuevas, int numNuevas) {
+        long nuevo = bits & abierto[q] & ~visitado[q];
+        if (nuevo == 0) return numNuevas;
+        if (siguiente[q] == 0) nuevas[numNuevas++] = q;
+        siguiente[q] |= nuevo;
+        return numNuevas;
+    }
+
+    /**
+     * Indica si la celda (palabra y bit) fue visitada en un nivel congruente con capa módulo 3.
+     */
+    private static boolean enCapa(long[] visitado, long[] capaBaja, long[] capaAlta, int palabra, long bit, int capa) {
+        long baja = (capa & 1) != 0 ? capaBaja[palabra] : ~capaBaja[palabra];
+        long alta = (capa & 2) != 0 ? capaAlta[palabra] : ~capaAlta[palabra];
+        return (visitado[palabra] & baja & alta & bit) != 0;
+    }
+}
@@ -0,0 +1,250 @@
+package solver.impl;
+
+import models.Cell;
+import models.SolveResults;
+import solver.ControlResolucion;
+import solver.MazeSolverSincronizado;
+import solver.cache.CacheCamposDistancia;
+import solver.cache.CampoDistancias;
+
+import java.util.*;
+
+/**
+ * Motor de consultas basado en campos de distancias: la primera vez que se resuelve desde un origen,
+ * calcula con BFS la distancia y el predecesor de todas las celdas alcanzables y lo guarda en caché.
+ * Las consultas siguientes sobre el mismo laberinto que parten de ese origen, o que terminan en él,
+ * se responden en O(longitud del camino).
+ * Guarda una copia del laberinto en bits, mantenida con celdaCambiada, y una versión que avanza con cada
+ * cambio: los campos se guardan con la versión sobre la que se calcularon, así que una consulta nunca
+ * recorre la matriz para saber si el laberinto cambió. Al recibir una matriz distinta de la última
+ * (otro arreglo) se copia y se empieza una versión nueva; se asume que una misma matriz solo cambia con
+ * avisos a celdaCambiada.
+ */
+public class MazeSolverCampoDistancias implements MazeSolverSincronizado {
+
+    // Presupuesto por defecto: unos 8 campos de 1000x1000 celdas
+    private static final long CAPACIDAD_POR_DEFECTO = 64L * 1024 * 1024;
+
+    private final CacheCamposDistancia cache;
+
+    // Copia del laberinto (protegida por this). El bitset nunca se modifica después de publicarlo:
+    // celdaCambiada trabaja sobre un clon, así que las consultas lo leen fuera del candado
+    private boolean[][] matriz;     // última matriz copiada, comparada por identidad
+    private long[] abierto;         // bitset de celdas transitables (null si no hay laberinto cargado)
+    private int filas;
+    private int columnas;
+    private long version;
+
+    /**
+     * Crea el motor con el presupuesto de memoria por defecto (64 MB).
+     */
+    public MazeSolverCampoDistancias() {
+        this(CAPACIDAD_POR_DEFECTO);
+    }
+
+    /**
+     * @param capacidadBytes memoria máxima que pueden ocupar los campos en caché.
+     */
+    public MazeSolverCampoDistancias(long capacidadBytes) {
+        this.cache = new CacheCamposDistancia(capacidadBytes);
+    }
+
+    /**
+     * Resuelve la consulta usando un campo en caché si existe; si no, calcula el campo desde el inicio.
+     * En un acierto de caché las celdas visitadas son solo las del camino, porque no se explora nada.
+     *
+     * @param maze matriz booleana del laberinto (true = camino, false = muro).
+     * @param start celda de inicio.
+     * @param end celda de fin.
+     * @return SolveResults con el camino más corto (vacío si no hay) y las celdas visitadas.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end) {
+        return solve(maze, start, end, new ControlResolucion());
+    }
+
+    /**
+     * Igual que solve, revisando el control por cada celda extraída mientras se calcula un campo.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
+        Laberinto laberinto;
+        synchronized (this) {
+            if (maze != matriz || abierto == null) cargar(maze);
+            laberinto = actual();
+        }
+        return consultar(laberinto, start, end, control);
+    }
+
+    @Override
+    public synchronized boolean estaSincronizado(int filas, int columnas) {
+        return abierto != null && this.filas == filas && this.columnas == columnas;
+    }
+
+    @Override
+    public SolveResults resolverSincronizado(Cell start, Cell end, ControlResolucion control) {
+        Laberinto laberinto;
+        synchronized (this) {
+            laberinto = actual();
+        }
+        return consultar(laberinto, start, end, control);
+    }
+
+    /**
+     * Cada consulta toma con el candado el bitset vigente, que ya no cambia, y la caché tiene su propio
+     * candado, así que varias pueden calcular campos a la vez.
+     */
+    @Override
+    public boolean admiteConsultasSimultaneas() {
+        return true;
+    }
+
+    /**
+     * Actualiza la copia y pasa a una versión nueva: una sola celda puede cambiar las distancias
+     * de todo el laberinto, así que ningún campo anterior sirve. El cambio se hace sobre un clon del
+     * bitset para no alterar el que están leyendo las consultas en curso.
+     */
+    @Override
+    public synchronized void celdaCambiada(int fila, int columna, boolean transitable) {
+        if (abierto == null || fila < 0 || fila >= filas || columna < 0 || columna >= columnas) return;
+        int i = fila * columnas + columna;
+        abierto = abierto.clone();
+        if (transitable) abierto[i >>> 6] |= 1L << i;
+        else abierto[i >>> 6] &= ~(1L << i);
+        version++;
+        cache.invalidar();
+    }
+
+    @Override
+    public synchronized void reiniciar() {
+        matriz = null;
+        abierto = null;
+        version++;
+        cache.invalidar();
+    }
+
+    /**
+     * @return la caché de campos usada por este motor.
+     */
+    public CacheCamposDistancia getCache() {
+        return cache;
+    }
+
+    /**
+     * Copia la matriz en el bitset y empieza una versión nueva.
+     */
+    private void cargar(boolean[][] maze) {
+        filas = maze.length;
+        columnas = maze[0].length;
+        abierto = new long[(int) (((long) filas * columnas + 63) >>> 6)];
+        for (int r = 0; r < filas; r++) {
+            for (int c = 0; c < columnas; c++) {
+                if (maze[r][c]) {
+                    int i = r * columnas + c;
+                    abierto[i >>> 6] |= 1L << i;
+                }
+            }
+        }
+        matriz = maze;
+        version++;
+        cache.invalidar();
+    }
+
+    private Laberinto actual() {
+        if (abierto == null) throw new IllegalStateException("No hay laberinto cargado");
+        return new Laberinto(abierto, filas, columnas, version);
+    }
+
+    private SolveResults consultar(Laberinto laberinto, Cell start, Cell end, ControlResolucion control) {
+        int columnas = laberinto.columnas();
+
+        // Consulta que parte de un origen ya calculado
+        CampoDistancias campo = cache.obtener(laberinto.version(), start.getRow() * columnas + start.getCol());
+        if (campo != null) {
+            List<Cell> path = campo.caminoHacia(end);
+            return new SolveResults(path, new LinkedHashSet<>(path));
+        }
+
+        // Consulta inversa: termina en un origen ya calculado
+        campo = cache.obtener(laberinto.version(), end.getRow() * columnas + end.getCol());
+        if (campo != null) {
+            List<Cell> path = campo.caminoDesde(start);
+            return new SolveResults(path, new LinkedHashSet<>(path));
+        }
+
+        // Sin caché: se calcula el campo completo desde el inicio
+        Set<Cell> visited = new LinkedHashSet<>();
+        campo = calcularCampo(laberinto, start, visited, control);
+        guardarSiVigente(campo);
+        return new SolveResults(campo.caminoHacia(end), visited);
+    }
+
+    /**
+     * Guarda el campo solo si el laberinto no cambió mientras se calculaba: uno de una versión vieja
+     * no lo pediría ninguna consulta y solo ocuparía lugar en la caché.
+     */
+    private synchronized void guardarSiVigente(CampoDistancias campo) {
+        if (abierto != null && campo.getVersion() == version) cache.guardar(campo);
+    }
+
+    /**
+     * Ejecuta un BFS completo (sin detenerse en el fin) desde el origen.
+     *
+     * @param visited conjunto donde se registran las celdas alcanzadas en orden.
+     * @return campo de distancias y predecesores.
+     */
+    private static CampoDistancias calcularCampo(Laberinto laberinto, Cell origen, Set<Cell> visited,
+                                                 ControlResolucion control) {
+        int filas = laberinto.filas();
+        int columnas = laberinto.columnas();
+        int total = filas * columnas;
+
+        int[] padre = new int[total];
+        int[] distancia = new int[total];
+        int[] cola = new int[total];
+        Arrays.fill(distancia, -1);
+
+        int inicio = origen.getRow() * columnas + origen.getCol();
+        int cabeza = 0, fondo = 0;
+        cola[fondo++] = inicio;
+        distancia[inicio] = 0;
+        padre[inicio] = -1;
+
+        while (cabeza < fondo) {
+            control.revisar(cabeza + 1, fondo - cabeza);
+            int actual = cola[cabeza++];
+            int r = actual / columnas;
+            int c = actual - r * columnas;
+            int d = distancia[actual] + 1;
+
+            // Mismo orden que MazeSolverBFS: arriba, abajo, izquierda, derecha
+            if (r > 0 && laberinto.libre(actual - columnas) && distancia[actual - columnas] < 0) {
+                distancia[actual - columnas] = d; padre[actual - columnas] = actual; cola[fondo++] = actual - columnas;
+            }
+            if (r < filas - 1 && laberinto.libre(actual + columnas) && distancia[actual + columnas] < 0) {
+                distancia[actual + columnas] = d; padre[actual + columnas] = actual; cola[fondo++] = actual + columnas;
+            }
+            if (c > 0 && laberinto.libre(actual - 1) && distancia[actual - 1] < 0) {
+                distancia[actual - 1] = d; padre[actual - 1] = actual; cola[fondo++] = actual - 1;
+            }
+            if (c < columnas - 1 && laberinto.libre(actual + 1) && distancia[actual + 1] < 0) {
+                distancia[actual + 1] = d; padre[actual + 1] = actual; cola[fondo++] = actual + 1;
+            }
+        }
+
+        for (int i = 0; i < fondo; i++) {
+            visited.add(new Cell(cola[i] / columnas, cola[i] % columnas));
+        }
+        return new CampoDistancias(laberinto.version(), columnas, inicio, padre, distancia);
+    }
+
+    /**
+     * Bitset vigente al empezar una consulta, con la versión a la que corresponde. Como celdaCambiada
+     * reemplaza el bitset en lugar de modificarlo, la consulta ve siempre el laberinto de esa versión.
+     */
+    private record Laberinto(long[] abierto, int filas, int columnas, long version) {
+        boolean libre(int i) {
+            return (abierto[i >>> 6] & (1L << i)) != 0;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package solver.impl;
+
+import models.Cell;
+import models.SolveResults;
+import solver.ControlResolucion;
+import solver.MazeSolver;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Modo portafolio: ejecuta varios algoritmos a la vez sobre el mismo laberinto y devuelve el primer
+ * camino válido que llegue. Ningún algoritmo gana en todas las formas de laberinto (DFS en corredores,
+ * BFS en salas abiertas, el recursivo a veces al instante), así que la latencia queda acotada por la
+ * mejor estrategia para ese laberinto. Cada participante corre con su propio control, derivado del de la
+ * carrera: al llegar el ganador se cancelan todos (y sus hilos se interrumpen), así que los perdedores que
+ * lo revisan se detienen en milisegundos; el resto termina en segundo plano y su resultado se descarta.
+ * Si un participante completo (uno que siempre encuentra el camino cuando existe, como BFS o A*) termina
+ * sin camino, eso prueba que no lo hay y la carrera termina sin esperar a los demás, que pueden ser
+ * exponenciales en ese caso. Cancelar la carrera o vencer su plazo detiene a todos.
+ * El progreso que se informa es la suma de las celdas expandidas y de las fronteras de los participantes.
+ * El nombre del ganador se devuelve en SolveResults.getAlgoritmo().
+ * Con pocos procesadores los participantes se reparten el tiempo de CPU, por lo que conviene
+ * mantener el portafolio corto.
+ */
+public class MazeSolverCarrera implements MazeSolver {
+
+    // Espera entre dos revisiones del control de la carrera mientras no llega nadie
+    private static final long ESPERA_MILLIS = 50;
+
+    private final Map<String, MazeSolver> participantes;
+    private final Set<String> completos;
+
+    /**
+     * Crea una carrera en la que todos los participantes se consideran completos: el primero que termine
+     * sin camino la da por terminada.
+     *
+     * @param participantes algoritmos que compiten, por nombre (el orden se conserva al lanzarlos).
+     */
+    public MazeSolverCarrera(Map<String, MazeSolver> participantes) {
+        this(participantes, participantes.keySet());
+    }
+
+    /**
+     * @param participantes algoritmos que compiten, por nombre (el orden se conserva al lanzarlos).
+     * @param completos nombres de los participantes cuyo resultado sin camino prueba que no hay camino.
+     */
+    public MazeSolverCarrera(Map<String, MazeSolver> participantes, Set<String> completos) {
+        if (participantes.isEmpty()) {
+            throw new IllegalArgumentException("La carrera necesita al menos un participante");
+        }
+        if (!participantes.keySet().containsAll(completos)) {
+            throw new IllegalArgumentException("Hay completos que no participan: " + completos);
+        }
+        this.participantes = Collections.unmodifiableMap(new LinkedHashMap<>(participantes));
+        this.completos = Set.copyOf(completos);
+    }
+
+    /**
+     * @return algoritmos que compiten, por nombre.
+     */
+    public Map<String, MazeSolver> getParticipantes() {
+        return participantes;
+    }
+
+    /**
+     * Lanza todos los participantes y espera al primero que devuelva un camino válido.
+     *
+     * @param maze matriz booleana del laberinto (true = camino, false = muro).
+     * @param start celda de inicio.
+     * @param end celda de fin.
+     * @return resultados del ganador con su nombre en getAlgoritmo(), o un resultado vacío si no hay camino.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end) {
+        return solve(maze, start, end, new ControlResolucion());
+    }
+
+    /**
+     * Igual que solve; cancelar el control o vencer su plazo detiene a todos los participantes.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
+        int cantidad = participantes.size();
+        ControlResolucion carrera = control.derivado(null);
+        // Último progreso de cada participante: expandidas en 2 * i y frontera en 2 * i + 1
+        AtomicLongArray avances = new AtomicLongArray(2 * cantidad);
+
+        // Un grupo de hilos por carrera; los hilos son daemon para que un perdedor que sigue corriendo
+        // no impida cerrar la aplicación
+        ExecutorService hilos = Executors.newFixedThreadPool(cantidad, tarea -> {
+            Thread hilo = new Thread(tarea, "carrera-laberinto");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        CompletionService<Llegada> llegadas = new ExecutorCompletionService<>(hilos);
+        int i = 0;
+        for (Map.Entry<String, MazeSolver> participante : participantes.entrySet()) {
+            String nombre = participante.getKey();
+            MazeSolver solver = participante.getValue();
+            int slot = i++;
+            ControlResolucion propio = carrera.derivado((expandidas, frontera) -> {
+                avances.set(2 * slot, expandidas);
+                avances.set(2 * slot + 1, frontera);
+            });
+            llegadas.submit(() -> new Llegada(nombre, solver.solve(maze, start, end, propio)));
+        }
+
+        try {
+            for (int pendientes = cantidad; pendientes > 0; ) {
+                Future<Llegada> futuro = llegadas.poll(ESPERA_MILLIS, TimeUnit.MILLISECONDS);
+                if (futuro == null) {
+                    control.comprobar(sumar(avances, 0), (int) Math.min(Integer.MAX_VALUE, sumar(avances, 1)));
+                    continue;
+                }
+                pendientes--;
+                Llegada llegada;
+                try {
+                    llegada = futuro.get();
+                } catch (ExecutionException e) {
+                    continue; // un participante que falla no detiene la carrera
+                }
+                if (esCaminoValido(maze, llegada.resultado(), start, end)) {
+                    llegada.resultado().setAlgoritmo(llegada.nombre());
+                    return llegada.resultado();
+                }
+                if (completos.contains(llegada.nombre())) break; // no hay camino: no se espera a los demás
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Detiene a los que siguen corriendo y libera los hilos cuando terminen
+            carrera.cancelar();
+            hilos.shutdownNow();
+        }
+        // Si nadie llegó porque se canceló la carrera o venció su plazo, se informa como tal
+        control.comprobar(0, 0);
+        return new SolveResults(new ArrayList<>(), new LinkedHashSet<>());
+    }
+
+    private static long sumar(AtomicLongArray avances, int desde) {
+        long total = 0;
+        for (int i = desde; i < avances.length(); i += 2) {
+            total += avances.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Revisa que el camino vaya del inicio al fin por celdas libres y vecinas (se aceptan pasos diagonales
+     * para los participantes de 8 direcciones).
+     */
+    static boolean esCaminoValido(boolean[][] maze, SolveResults resultado, Cell start, Cell end) {
+        if (resultado == null || resultado.getPath() == null || resultado.getPath().isEmpty()) return false;
+        List<Cell> path = resultado.getPath();
+        if (!path.get(0).equals(start) || !path.get(path.size() - 1).equals(end)) return false;
+
+        Cell anterior = null;
+        for (Cell celda : path) {
+            int r = celda.getRow();
+            int c = celda.getCol();
+            if (r < 0 || r >= maze.length || c < 0 || c >= maze[0].length || !maze[r][c]) return false;
+            if (anterior != null) {
+                int df = Math.abs(r - anterior.getRow());
+                int dc = Math.abs(c - anterior.getCol());
+                if (df > 1 || dc > 1 || df + dc == 0) return false;
+            }
+            anterior = celda;
+        }
+        return true;
+    }
+
+    /**
+     * Resultado de un participante junto a su nombre.
+     */
+    private record Llegada(String nombre, SolveResults resultado) {
+    }
+}
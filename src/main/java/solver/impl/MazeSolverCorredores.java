@@ -0,0 +1,339 @@
+package solver.impl;
+
+import models.Cell;
+import models.SolveResults;
+import solver.ControlResolucion;
+import solver.MazeSolverSincronizado;
+
+import java.util.*;
+
+/**
+ * Implementación de Dijkstra sobre el grafo de corredores comprimidos (GrafoCorredores).
+ * En lugar de avanzar celda por celda, cada corredor se recorre en un solo paso con su longitud como peso,
+ * y al final el camino se expande a celdas para pintarlo. Guarda una copia del laberinto en bits,
+ * mantenida con celdaCambiada, y compila el grafo desde ella; el grafo se reutiliza en todas las consultas
+ * hasta que un aviso de cambio lo descarta. Al recibir una matriz distinta de la última (otro arreglo) se
+ * copia de nuevo; se asume que una misma matriz solo cambia con avisos a celdaCambiada.
+ * El grafo compilado no se modifica, así que las búsquedas corren fuera del candado y varias consultas
+ * pueden atenderse a la vez. El camino devuelto es uno de los más cortos.
+ */
+public class MazeSolverCorredores implements MazeSolverSincronizado {
+
+    private static final int INFINITO = Integer.MAX_VALUE;
+
+    // Copia del laberinto
+    private boolean[][] matriz;     // última matriz copiada, comparada por identidad
+    private long[] abierto;         // bitset de celdas transitables (null si no hay laberinto cargado)
+    private int filas;
+    private int columnas;
+
+    private GrafoCorredores grafo;  // null si hay que compilarlo de nuevo
+
+    /**
+     * Resuelve con Dijkstra sobre el grafo compilado, copiando antes el laberinto si es otra matriz.
+     * Las celdas visitadas son las de los nodos (cruces y callejones) asentados, en orden.
+     *
+     * @param maze matriz booleana del laberinto (true = camino, false = muro).
+     * @param start celda de inicio.
+     * @param end celda de fin.
+     * @return SolveResults con el camino más corto expandido a celdas (vacío si no hay).
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end) {
+        return solve(maze, start, end, new ControlResolucion());
+    }
+
+    /**
+     * Igual que solve, revisando el control mientras se compila el grafo y por cada nodo asentado.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
+        GrafoCorredores compilado;
+        synchronized (this) {
+            if (maze != matriz || abierto == null) cargar(maze);
+            compilado = grafoPara(start, end, control);
+        }
+        return resolver(compilado, start, end, control);
+    }
+
+    @Override
+    public synchronized boolean estaSincronizado(int filas, int columnas) {
+        return abierto != null && this.filas == filas && this.columnas == columnas;
+    }
+
+    @Override
+    public SolveResults resolverSincronizado(Cell start, Cell end, ControlResolucion control) {
+        GrafoCorredores compilado;
+        synchronized (this) {
+            compilado = grafoPara(start, end, control);
+        }
+        return resolver(compilado, start, end, control);
+    }
+
+    /**
+     * Las búsquedas solo leen el grafo compilado, así que no se esperan entre sí.
+     */
+    @Override
+    public boolean admiteConsultasSimultaneas() {
+        return true;
+    }
+
+    /**
+     * Actualiza la copia y descarta el grafo: un muro puede partir o unir corredores.
+     */
+    @Override
+    public synchronized void celdaCambiada(int fila, int columna, boolean transitable) {
+        if (abierto == null || fila < 0 || fila >= filas || columna < 0 || columna >= columnas) return;
+        int i = fila * columnas + columna;
+        if (transitable) abierto[i >>> 6] |= 1L << i;
+        else abierto[i >>> 6] &= ~(1L << i);
+        grafo = null;
+    }
+
+    @Override
+    public synchronized void reiniciar() {
+        matriz = null;
+        abierto = null;
+        grafo = null;
+    }
+
+    /**
+     * Copia la matriz en el bitset y descarta el grafo.
+     */
+    private void cargar(boolean[][] maze) {
+        filas = maze.length;
+        columnas = maze[0].length;
+        abierto = new long[(int) (((long) filas * columnas + 63) >>> 6)];
+        for (int r = 0; r < filas; r++) {
+            for (int c = 0; c < columnas; c++) {
+                if (maze[r][c]) {
+                    int i = r * columnas + c;
+                    abierto[i >>> 6] |= 1L << i;
+                }
+            }
+        }
+        matriz = maze;
+        grafo = null;
+    }
+
+    /**
+     * Compila el grafo si hace falta; se llama con el candado tomado.
+     *
+     * @return el grafo actual, o null si el inicio o el fin no son celdas libres.
+     */
+    private GrafoCorredores grafoPara(Cell start, Cell end, ControlResolucion control) {
+        if (grafo == null) grafo = GrafoCorredores.compilar(abierto, filas, columnas, control);
+        return libre(start) && libre(end) ? grafo : null;
+    }
+
+    private static SolveResults resolver(GrafoCorredores compilado, Cell start, Cell end, ControlResolucion control) {
+        if (compilado == null) {
+            return new SolveResults(new ArrayList<>(), new LinkedHashSet<>());
+        }
+        return new Busqueda(compilado, start, end).ejecutar(control);
+    }
+
+    private boolean libre(Cell celda) {
+        int r = celda.getRow(), c = celda.getCol();
+        if (r < 0 || r >= filas || c < 0 || c >= columnas) return false;
+        int i = r * columnas + c;
+        return (abierto[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * Estado de una consulta sobre el grafo.
+     */
+    private static final class Busqueda {
+        private final GrafoCorredores grafo;
+        private final int columnas;
+        private final int inicio;
+        private final int fin;
+
+        private final int[] distancia;
+        private final int[] padre;          // nodo anterior (-1: se llegó directamente desde el inicio)
+        private final int[] padreArista;    // arista * 2 + sentido usada para llegar (-1 si el inicio es el nodo)
+        private final IndexedMinHeap cola;
+        private final List<Integer> asentados = new ArrayList<>();
+
+        // Mejor forma conocida de llegar al fin
+        private int mejor = INFINITO;
+        private int nodoFinal = -1;         // último nodo antes del fin (-1: el inicio y el fin comparten corredor)
+        private boolean finPorA;            // el fin se alcanza desde el extremo a de su arista
+
+        Busqueda(GrafoCorredores grafo, Cell start, Cell end) {
+            this.grafo = grafo;
+            this.columnas = grafo.columnas;
+            this.inicio = start.getRow() * columnas + start.getCol();
+            this.fin = end.getRow() * columnas + end.getCol();
+            this.distancia = new int[grafo.numNodos];
+            this.padre = new int[grafo.numNodos];
+            this.padreArista = new int[grafo.numNodos];
+            this.cola = new IndexedMinHeap(grafo.numNodos);
+            Arrays.fill(distancia, INFINITO);
+        }
+
+        SolveResults ejecutar(ControlResolucion control) {
+            sembrarInicio();
+
+            int aristaFin = grafo.aristaDeCelda[fin];
+            int nodoFin = grafo.nodoDeCelda[fin];
+
+            while (!cola.estaVacio() && cola.claveMinima() < mejor) {
+                control.revisar(asentados.size() + 1, cola.tamano());
+                int u = cola.extraerMinimo();
+                asentados.add(grafo.celdaNodo[u]);
+                int du = distancia[u];
+
+                if (u == nodoFin) {
+                    mejor = du;
+                    nodoFinal = u;
+                    break;
+                }
+                // El fin está dentro de un corredor que toca este nodo
+                if (aristaFin >= 0) revisarFinDesde(u, aristaFin);
+
+                for (int p = grafo.inicioAdyacencia[u]; p < grafo.inicioAdyacencia[u + 1]; p++) {
+                    int v = grafo.adyacenteNodo[p];
+                    int arista = grafo.adyacenteArista[p];
+                    int dv = du + grafo.longitud[arista >>> 1];
+                    if (dv < distancia[v]) {
+                        distancia[v] = dv;
+                        padre[v] = u;
+                        padreArista[v] = arista;
+                        cola.insertarOActualizar(v, dv);
+                    }
+                }
+            }
+
+            List<Cell> path = mejor == INFINITO ? new ArrayList<>() : construirCamino();
+            Set<Cell> visited = new LinkedHashSet<>();
+            for (int celda : asentados) {
+                visited.add(new Cell(celda / columnas, celda % columnas));
+            }
+            if (visited.isEmpty()) visited.addAll(path);
+            return new SolveResults(path, visited);
+        }
+
+        /**
+         * Coloca en la cola los nodos alcanzables directamente desde el inicio.
+         */
+        private void sembrarInicio() {
+            int nodo = grafo.nodoDeCelda[inicio];
+            if (nodo >= 0) {
+                distancia[nodo] = 0;
+                padre[nodo] = -1;
+                padreArista[nodo] = -1;
+                cola.insertarOActualizar(nodo, 0);
+                return;
+            }
+
+            // El inicio está dentro de un corredor: se sale hacia sus dos extremos
+            int e = grafo.aristaDeCelda[inicio];
+            int p = grafo.posicionEnArista[inicio];
+            sembrar(grafo.aristaA[e], p + 1, e * 2 + 1);
+            sembrar(grafo.aristaB[e], grafo.longitud[e] - (p + 1), e * 2);
+
+            // Inicio y fin en el mismo corredor: el tramo directo es candidato
+            if (grafo.aristaDeCelda[fin] == e) {
+                mejor = Math.abs(grafo.posicionEnArista[fin] - p);
+                nodoFinal = -1;
+            }
+        }
+
+        private void sembrar(int nodo, int d, int arista) {
+            if (d < distancia[nodo]) {
+                distancia[nodo] = d;
+                padre[nodo] = -1;
+                padreArista[nodo] = arista;
+                cola.insertarOActualizar(nodo, d);
+            }
+        }
+
+        /**
+         * Actualiza el mejor candidato si el fin se alcanza desde el nodo u por su corredor.
+         */
+        private void revisarFinDesde(int u, int e) {
+            int p = grafo.posicionEnArista[fin];
+            if (grafo.aristaA[e] == u && distancia[u] + p + 1 < mejor) {
+                mejor = distancia[u] + p + 1;
+                nodoFinal = u;
+                finPorA = true;
+            }
+            if (grafo.aristaB[e] == u && distancia[u] + grafo.longitud[e] - (p + 1) < mejor) {
+                mejor = distancia[u] + grafo.longitud[e] - (p + 1);
+                nodoFinal = u;
+                finPorA = false;
+            }
+        }
+
+        /**
+         * Expande la secuencia de nodos y aristas a la lista de celdas del inicio al fin.
+         */
+        private List<Cell> construirCamino() {
+            List<Integer> celdas = new ArrayList<>();
+
+            if (nodoFinal < 0) {
+                // Tramo directo dentro del corredor compartido
+                int e = grafo.aristaDeCelda[inicio];
+                agregarTramo(celdas, e, grafo.posicionEnArista[inicio], grafo.posicionEnArista[fin]);
+                return aCeldas(celdas);
+            }
+
+            // Nodos desde el último hasta el primero
+            List<Integer> nodos = new ArrayList<>();
+            for (int v = nodoFinal; v >= 0; v = padre[v]) {
+                nodos.add(v);
+            }
+            Collections.reverse(nodos);
+
+            // Del inicio al primer nodo
+            int primero = nodos.get(0);
+            int salida = padreArista[primero];
+            if (salida >= 0) {
+                int e = salida >>> 1;
+                int p = grafo.posicionEnArista[inicio];
+                agregarTramo(celdas, e, p, (salida & 1) == 1 ? 0 : grafo.interiores(e) - 1);
+            }
+            celdas.add(grafo.celdaNodo[primero]);
+
+            // Cada arista entre nodos consecutivos
+            for (int i = 1; i < nodos.size(); i++) {
+                int v = nodos.get(i);
+                int arista = padreArista[v];
+                int e = arista >>> 1;
+                int n = grafo.interiores(e);
+                if (n > 0) {
+                    if ((arista & 1) == 0) agregarTramo(celdas, e, 0, n - 1);
+                    else agregarTramo(celdas, e, n - 1, 0);
+                }
+                celdas.add(grafo.celdaNodo[v]);
+            }
+
+            // Del último nodo al fin
+            if (grafo.nodoDeCelda[fin] != nodoFinal) {
+                int e = grafo.aristaDeCelda[fin];
+                int p = grafo.posicionEnArista[fin];
+                agregarTramo(celdas, e, finPorA ? 0 : grafo.interiores(e) - 1, p);
+            }
+            return aCeldas(celdas);
+        }
+
+        /**
+         * Agrega las celdas interiores de la arista entre las posiciones desde y hasta (ambas incluidas).
+         */
+        private void agregarTramo(List<Integer> celdas, int e, int desde, int hasta) {
+            int paso = desde <= hasta ? 1 : -1;
+            for (int p = desde; p != hasta + paso; p += paso) {
+                celdas.add(grafo.celdaInterior(e, p));
+            }
+        }
+
+        private List<Cell> aCeldas(List<Integer> celdas) {
+            List<Cell> path = new ArrayList<>(celdas.size());
+            for (int celda : celdas) {
+                path.add(new Cell(celda / columnas, celda % columnas));
+            }
+            return path;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package solver.impl;
 
 import models.Cell;
 import models.SolveResults;
+import solver.ControlResolucion;
 import solver.MazeSolver;
 
 import java.util.*;
@@ -22,6 +23,14 @@ public class MazeSolverDFS implements MazeSolver {
      */
     @Override
     public SolveResults solve(boolean[][] maze, Cell start, Cell end) {
+        return solve(maze, start, end, new ControlResolucion());
+    }
+
+    /**
+     * Igual que solve, revisando el control por cada celda sacada de la pila.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
         int rows = maze.length;            // número de filas
         int cols = maze[0].length;         // número de columnas
 
@@ -34,9 +43,11 @@ public class MazeSolverDFS implements MazeSolver {
         visited.add(start);     // marca la celda como visitada
 
         boolean found = false;  // bandera para saber si se encontró el camino
+        long pasos = 0;         // celdas sacadas, para el control de la resolución
 
         // Bucle principal DFS
         while (!stack.isEmpty()) {
+            control.revisar(++pasos, stack.size());  // permite cancelar o vencer el plazo
             Cell current = stack.pop();  // obtiene la celda del tope de la pila
 
             if (current.equals(end)) {   // si llegamos al final
@@ -0,0 +1,306 @@
+package solver.impl;
+
+import models.Cell;
+import models.SolveResults;
+import solver.ControlResolucion;
+import solver.MazeSolverSincronizado;
+
+import java.util.*;
+
+/**
+ * Implementación de D* Lite (la variante de LPA* que busca desde el fin hacia el inicio) para
+ * replanificar mientras se editan los muros. Entre llamadas conserva los valores g y rhs de cada celda
+ * y la cola de prioridad; al cambiar un muro solo se reparan las celdas cuya distancia al fin cambia,
+ * en lugar de repetir la búsqueda completa. Si se mueve el inicio la búsqueda se reutiliza corrigiendo
+ * la heurística con km; si cambia el fin se empieza de cero. El camino devuelto es siempre uno de los más cortos.
+ */
+public class MazeSolverDStarLite implements MazeSolverSincronizado {
+
+    // Distancia de una celda sin camino al fin; deja margen para sumar heurística y km sin desbordar
+    private static final int INFINITO = Integer.MAX_VALUE / 4;
+
+    // Copia del laberinto
+    private int filas;
+    private int columnas;
+    private long[] abierto;         // bitset de celdas transitables (null si no hay laberinto cargado)
+
+    // Estado de la búsqueda que se conserva entre llamadas
+    private int[] g;                // distancia al fin calculada
+    private int[] rhs;              // distancia al fin según los vecinos (lookahead)
+    private IndexedMinHeap cola;    // celdas inconsistentes (g != rhs)
+    private int fin = -1;           // fin de la búsqueda actual (-1: no hay búsqueda)
+    private int ultimoInicio;       // inicio con el que se calcularon las claves
+    private int km;                 // corrección acumulada de la heurística por movimientos del inicio
+
+    // Celdas expandidas en la llamada actual, en orden
+    private int[] expandidas = new int[64];
+    private int numExpandidas;
+
+    /**
+     * Sincroniza la copia del laberinto y resuelve reutilizando la búsqueda anterior.
+     * Si las dimensiones coinciden con las del laberinto anterior, solo se reparan las celdas que cambiaron.
+     *
+     * @param maze matriz booleana del laberinto (true = camino, false = muro).
+     * @param start celda de inicio.
+     * @param end celda de fin.
+     * @return SolveResults con el camino más corto (vacío si no hay) y las celdas expandidas en esta llamada.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end) {
+        return solve(maze, start, end, new ControlResolucion());
+    }
+
+    /**
+     * Igual que solve, revisando el control por cada celda extraída de la cola. Si se detiene a mitad,
+     * la cola sigue teniendo todas las celdas inconsistentes, así que la próxima llamada retoma la búsqueda.
+     */
+    @Override
+    public synchronized SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
+        if (abierto == null || maze.length != filas || maze[0].length != columnas) {
+            cargar(maze);
+        } else {
+            for (int r = 0; r < filas; r++) {
+                boolean[] fila = maze[r];
+                for (int c = 0; c < columnas; c++) {
+                    int i = r * columnas + c;
+                    if (fila[c] != libre(i)) aplicarCambio(i, fila[c]);
+                }
+            }
+        }
+        return resolver(start, end, control);
+    }
+
+    /**
+     * Repara la búsqueda alrededor de la celda que cambió.
+     */
+    @Override
+    public synchronized void celdaCambiada(int fila, int columna, boolean transitable) {
+        if (abierto == null || fila < 0 || fila >= filas || columna < 0 || columna >= columnas) return;
+        int i = fila * columnas + columna;
+        if (libre(i) != transitable) aplicarCambio(i, transitable);
+    }
+
+    @Override
+    public synchronized void reiniciar() {
+        abierto = null;
+        g = null;
+        rhs = null;
+        cola = null;
+        fin = -1;
+    }
+
+    @Override
+    public synchronized boolean estaSincronizado(int filas, int columnas) {
+        return abierto != null && this.filas == filas && this.columnas == columnas;
+    }
+
+    @Override
+    public synchronized SolveResults resolverSincronizado(Cell start, Cell end, ControlResolucion control) {
+        return resolver(start, end, control);
+    }
+
+    /**
+     * Copia el laberinto y descarta la búsqueda anterior.
+     */
+    private void cargar(boolean[][] maze) {
+        filas = maze.length;
+        columnas = maze[0].length;
+        abierto = new long[(int) (((long) filas * columnas + 63) >>> 6)];
+        for (int r = 0; r < filas; r++) {
+            for (int c = 0; c < columnas; c++) {
+                if (maze[r][c]) {
+                    int i = r * columnas + c;
+                    abierto[i >>> 6] |= 1L << i;
+                }
+            }
+        }
+        fin = -1;
+    }
+
+    /**
+     * Actualiza el bitset y, si hay una búsqueda en curso, recalcula la celda y sus vecinos,
+     * que son los únicos cuyas aristas cambiaron.
+     */
+    private void aplicarCambio(int i, boolean transitable) {
+        if (transitable) abierto[i >>> 6] |= 1L << i;
+        else abierto[i >>> 6] &= ~(1L << i);
+
+        if (fin < 0) return;
+        actualizarCelda(i);
+        int r = i / columnas;
+        int c = i - r * columnas;
+        if (r > 0) actualizarCelda(i - columnas);
+        if (r < filas - 1) actualizarCelda(i + columnas);
+        if (c > 0) actualizarCelda(i - 1);
+        if (c < columnas - 1) actualizarCelda(i + 1);
+    }
+
+    private SolveResults resolver(Cell start, Cell end, ControlResolucion control) {
+        int inicio = start.getRow() * columnas + start.getCol();
+        int objetivo = end.getRow() * columnas + end.getCol();
+        numExpandidas = 0;
+
+        if (objetivo != fin) {
+            iniciarBusqueda(objetivo, inicio);
+        } else {
+            // El inicio se movió: las claves ya guardadas quedan como cotas inferiores
+            km += heuristica(ultimoInicio, inicio);
+            ultimoInicio = inicio;
+        }
+        calcularCaminoMasCorto(inicio, control);
+
+        List<Cell> path = new ArrayList<>();
+        if (g[inicio] < INFINITO) {
+            // Se baja por el gradiente de g: cada paso va a un vecino con g una unidad menor. Si g quedara
+            // inconsistente (sin vecino con g finito, o un recorrido más largo que la grilla) no hay camino
+            int at = inicio;
+            path.add(new Cell(at / columnas, at % columnas));
+            int pasosMaximos = filas * columnas;
+            while (at != fin) {
+                at = mejorVecino(at);
+                if (at < 0 || path.size() == pasosMaximos) {
+                    path.clear();
+                    break;
+                }
+                path.add(new Cell(at / columnas, at % columnas));
+            }
+        }
+
+        // Si la búsqueda anterior seguía siendo válida no se expande nada: se muestran solo las celdas del camino
+        if (numExpandidas == 0) return new SolveResults(path, new LinkedHashSet<>(path));
+
+        Set<Cell> visited = new LinkedHashSet<>();
+        for (int i = 0; i < numExpandidas; i++) {
+            visited.add(new Cell(expandidas[i] / columnas, expandidas[i] % columnas));
+        }
+        return new SolveResults(path, visited);
+    }
+
+    /**
+     * Empieza una búsqueda nueva hacia el fin indicado.
+     */
+    private void iniciarBusqueda(int objetivo, int inicio) {
+        int total = filas * columnas;
+        if (g == null || g.length != total) {
+            g = new int[total];
+            rhs = new int[total];
+            cola = new IndexedMinHeap(total);
+        } else {
+            cola.limpiar();
+        }
+        Arrays.fill(g, INFINITO);
+        Arrays.fill(rhs, INFINITO);
+
+        fin = objetivo;
+        ultimoInicio = inicio;
+        km = 0;
+        rhs[fin] = 0;
+        cola.insertarOActualizar(fin, clave(fin));
+    }
+
+    /**
+     * Procesa celdas inconsistentes hasta que la distancia del inicio es correcta y ninguna
+     * celda pendiente puede mejorarla.
+     */
+    private void calcularCaminoMasCorto(int inicio, ControlResolucion control) {
+        long extraidas = 0;
+        while (!cola.estaVacio() && (cola.claveMinima() < clave(inicio) || rhs[inicio] != g[inicio])) {
+            control.revisar(++extraidas, cola.tamano());
+            long anterior = cola.claveMinima();
+            int u = cola.extraerMinimo();
+            long nueva = clave(u);
+
+            if (anterior < nueva) {
+                // Clave calculada con un km anterior: se reinserta con el valor actual
+                cola.insertarOActualizar(u, nueva);
+            } else if (g[u] > rhs[u]) {
+                // Sobreconsistente: se fija su distancia y se propaga a los vecinos
+                g[u] = rhs[u];
+                registrarExpansion(u);
+                actualizarVecinos(u);
+            } else {
+                // Subconsistente: su distancia empeoró, se invalida y se recalcula junto a sus vecinos
+                g[u] = INFINITO;
+                registrarExpansion(u);
+                actualizarCelda(u);
+                actualizarVecinos(u);
+            }
+        }
+    }
+
+    private void actualizarVecinos(int u) {
+        int r = u / columnas;
+        int c = u - r * columnas;
+        if (r > 0) actualizarCelda(u - columnas);
+        if (r < filas - 1) actualizarCelda(u + columnas);
+        if (c > 0) actualizarCelda(u - 1);
+        if (c < columnas - 1) actualizarCelda(u + 1);
+    }
+
+    /**
+     * Recalcula rhs de la celda a partir de sus vecinos y la agrega a la cola si quedó inconsistente.
+     */
+    private void actualizarCelda(int u) {
+        if (u != fin) {
+            int mejor = INFINITO;
+            if (libre(u)) {
+                int r = u / columnas;
+                int c = u - r * columnas;
+                if (r > 0) mejor = mejorDistancia(mejor, u - columnas);
+                if (r < filas - 1) mejor = mejorDistancia(mejor, u + columnas);
+                if (c > 0) mejor = mejorDistancia(mejor, u - 1);
+                if (c < columnas - 1) mejor = mejorDistancia(mejor, u + 1);
+            }
+            rhs[u] = mejor;
+        }
+        if (g[u] != rhs[u]) cola.insertarOActualizar(u, clave(u));
+        else cola.eliminar(u);
+    }
+
+    private int mejorDistancia(int mejor, int vecino) {
+        if (!libre(vecino)) return mejor;
+        return Math.min(mejor, g[vecino] + 1);
+    }
+
+    /**
+     * @return vecino transitable con menor g (arriba, abajo, izquierda, derecha en caso de empate),
+     *         o -1 si ninguno tiene g finito.
+     */
+    private int mejorVecino(int u) {
+        int r = u / columnas;
+        int c = u - r * columnas;
+        int mejor = -1;
+        int mejorG = INFINITO;
+        if (r > 0 && libre(u - columnas) && g[u - columnas] < mejorG) { mejor = u - columnas; mejorG = g[mejor]; }
+        if (r < filas - 1 && libre(u + columnas) && g[u + columnas] < mejorG) { mejor = u + columnas; mejorG = g[mejor]; }
+        if (c > 0 && libre(u - 1) && g[u - 1] < mejorG) { mejor = u - 1; mejorG = g[mejor]; }
+        if (c < columnas - 1 && libre(u + 1) && g[u + 1] < mejorG) { mejor = u + 1; }
+        return mejor;
+    }
+
+    /**
+     * Clave de prioridad [min(g, rhs) + h + km; min(g, rhs)] empaquetada en un long para
+     * comparar lexicográficamente.
+     */
+    private long clave(int u) {
+        int minimo = Math.min(g[u], rhs[u]);
+        long primera = (long) minimo + heuristica(ultimoInicio, u) + km;
+        return (primera << 32) | minimo;
+    }
+
+    // Distancia Manhattan: admisible y consistente con movimientos de costo 1 en 4 direcciones
+    private int heuristica(int a, int b) {
+        int ra = a / columnas, ca = a - ra * columnas;
+        int rb = b / columnas, cb = b - rb * columnas;
+        return Math.abs(ra - rb) + Math.abs(ca - cb);
+    }
+
+    private void registrarExpansion(int u) {
+        if (numExpandidas == expandidas.length) expandidas = Arrays.copyOf(expandidas, numExpandidas * 2);
+        expandidas[numExpandidas++] = u;
+    }
+
+    private boolean libre(int i) {
+        return (abierto[i >>> 6] & (1L << i)) != 0;
+    }
+}
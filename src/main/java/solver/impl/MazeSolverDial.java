@@ -0,0 +1,154 @@
+package solver.impl;
+
+import models.Cell;
+import models.SolveResults;
+import solver.ControlResolucion;
+import solver.MazeSolverPonderado;
+
+import java.util.*;
+
+/**
+ * Implementación de Dijkstra con la cola de cubetas de Dial para terreno con costos enteros pequeños.
+ * Como todo costo está entre 1 y C, las distancias pendientes siempre caen en una ventana de C + 1 valores,
+ * así que basta un arreglo circular de C + 1 cubetas indexadas por distancia: insertar es O(1) y extraer
+ * recorre las cubetas en orden, sin comparaciones. El costo total es O(celdas + distancia máxima).
+ * Sin costos (laberinto booleano) se comporta como BFS.
+ */
+public class MazeSolverDial implements MazeSolverPonderado {
+
+    /**
+     * Resuelve con costo 1 en todas las celdas libres.
+     *
+     * @param maze matriz booleana del laberinto (true = camino, false = muro).
+     * @param start celda de inicio.
+     * @param end celda de fin.
+     * @return SolveResults con un camino más corto y las celdas asentadas en orden.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end) {
+        return solve(maze, start, end, new ControlResolucion());
+    }
+
+    /**
+     * Igual que solve, revisando el control por cada entrada extraída de las cubetas.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
+        int[][] costos = new int[maze.length][maze[0].length];
+        for (int r = 0; r < maze.length; r++) {
+            for (int c = 0; c < maze[0].length; c++) {
+                costos[r][c] = maze[r][c] ? 1 : 0;
+            }
+        }
+        return solve(costos, start, end, control);
+    }
+
+    /**
+     * Resuelve minimizando la suma de costos de las celdas a las que se entra (el inicio no cuenta).
+     *
+     * @param costos costo de entrar a cada celda (0 o negativo = muro).
+     * @param start celda de inicio.
+     * @param end celda de fin.
+     * @return SolveResults con el camino de menor costo y las celdas asentadas, en orden de distancia.
+     */
+    @Override
+    public SolveResults solve(int[][] costos, Cell start, Cell end) {
+        return solve(costos, start, end, new ControlResolucion());
+    }
+
+    /**
+     * Igual que solve con costos, revisando el control por cada entrada extraída de las cubetas.
+     */
+    @Override
+    public SolveResults solve(int[][] costos, Cell start, Cell end, ControlResolucion control) {
+        int filas = costos.length;
+        int columnas = costos[0].length;
+        int total = filas * columnas;
+
+        int costoMaximo = 1;
+        for (int[] fila : costos) {
+            for (int costo : fila) {
+                costoMaximo = Math.max(costoMaximo, costo);
+            }
+        }
+
+        // Cubetas circulares: la distancia d va en la cubeta d % (C + 1); se admiten entradas
+        // obsoletas (se descartan al extraerlas si la distancia de la celda ya bajó)
+        int numCubetas = costoMaximo + 1;
+        int[][] cubetas = new int[numCubetas][16];
+        int[] tamanos = new int[numCubetas];
+        int pendientes = 0;
+
+        int[] distancia = new int[total];
+        int[] padre = new int[total];
+        int[] orden = new int[total];   // celdas asentadas en orden de distancia
+        int asentadas = 0;
+        Arrays.fill(distancia, Integer.MAX_VALUE);
+
+        int inicio = start.getRow() * columnas + start.getCol();
+        int fin = end.getRow() * columnas + end.getCol();
+        distancia[inicio] = 0;
+        padre[inicio] = -1;
+        cubetas[0][tamanos[0]++] = inicio;
+        pendientes++;
+
+        boolean found = false;
+        long extraidas = 0;     // entradas extraídas, para el control
+        for (int d = 0; pendientes > 0 && !found; d++) {
+            int b = d % numCubetas;
+            int[] cubeta = cubetas[b];  // no crece mientras se vacía: los vecinos siempre van a otra cubeta
+            while (tamanos[b] > 0) {
+                control.revisar(++extraidas, pendientes);
+                int actual = cubeta[--tamanos[b]];
+                pendientes--;
+                if (distancia[actual] != d) continue; // entrada obsoleta
+
+                orden[asentadas++] = actual;
+                if (actual == fin) {
+                    found = true;
+                    break;
+                }
+
+                int r = actual / columnas;
+                int c = actual - r * columnas;
+                if (r > 0) pendientes += relajar(costos[r - 1][c], actual - columnas, actual, d, distancia, padre, cubetas, tamanos);
+                if (r < filas - 1) pendientes += relajar(costos[r + 1][c], actual + columnas, actual, d, distancia, padre, cubetas, tamanos);
+                if (c > 0) pendientes += relajar(costos[r][c - 1], actual - 1, actual, d, distancia, padre, cubetas, tamanos);
+                if (c < columnas - 1) pendientes += relajar(costos[r][c + 1], actual + 1, actual, d, distancia, padre, cubetas, tamanos);
+            }
+        }
+
+        List<Cell> path = new ArrayList<>();
+        if (found) {
+            for (int at = fin; at != -1; at = padre[at]) {
+                path.add(new Cell(at / columnas, at % columnas));
+            }
+            Collections.reverse(path);
+        }
+
+        Set<Cell> visited = new LinkedHashSet<>();
+        for (int i = 0; i < asentadas; i++) {
+            visited.add(new Cell(orden[i] / columnas, orden[i] % columnas));
+        }
+        return new SolveResults(path, visited);
+    }
+
+    /**
+     * Intenta mejorar la distancia del vecino pasando por la celda actual.
+     *
+     * @return 1 si se agregó una entrada a las cubetas, 0 si no.
+     */
+    private static int relajar(int costo, int vecino, int actual, int d, int[] distancia, int[] padre,
+                               int[][] cubetas, int[] tamanos) {
+        if (costo <= 0) return 0; // muro
+        int nueva = d + costo;
+        if (nueva >= distancia[vecino]) return 0;
+        distancia[vecino] = nueva;
+        padre[vecino] = actual;
+
+        int b = nueva % cubetas.length;
+        if (tamanos[b] == cubetas[b].length) cubetas[b] = Arrays.copyOf(cubetas[b], tamanos[b] * 2);
+        cubetas[b][tamanos[b]++] = vecino;
+        return 1;
+    }
+}
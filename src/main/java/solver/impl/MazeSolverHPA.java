@@ -0,0 +1,639 @@
+package solver.impl;
+
+import models.Cell;
+import models.SolveResults;
+import solver.ControlResolucion;
+import solver.MazeSolverSincronizado;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Implementación de búsqueda jerárquica HPA* para laberintos muy grandes.
+ * La grilla se divide en clusters cuadrados de tamaño fijo; en cada borde entre clusters se ubican
+ * entradas, y dentro de cada cluster se precalculan las distancias entre sus entradas, formando un grafo
+ * abstracto pequeño. Cada consulta busca en ese grafo y luego refina con BFS solo los clusters del recorrido.
+ * Al cambiar un muro solo se reconstruyen el cluster afectado y los bordes que comparte con sus vecinos:
+ * los avisos de celdaCambiada marcan qué reconstruir, y una matriz ya recibida no se vuelve a recorrer.
+ * La búsqueda abstracta usa arreglos primitivos reutilizados entre consultas y un montículo indexado,
+ * sin mapas ni objetos por nodo.
+ * El camino es casi óptimo (no siempre el más corto), a cambio de no explorar la grilla completa.
+ */
+public class MazeSolverHPA implements MazeSolverSincronizado {
+
+    private static final int TAMANO_POR_DEFECTO = 16;
+
+    // Un tramo de borde más largo que esto recibe dos entradas (una en cada extremo)
+    private static final int TRAMO_LARGO = 6;
+
+    private final int tamano;         // lado de cada cluster en celdas
+
+    // Estado del laberinto precalculado
+    private boolean[][] matriz;       // última matriz recibida, comparada por identidad
+    private int filas;
+    private int columnas;
+    private long[] abierto;           // bitset de celdas transitables
+    private int clustersX;
+    private int clustersY;
+    private int[][] bordeDerecho;     // pares (celda en el cluster, celda en el vecino derecho)
+    private int[][] bordeInferior;    // pares (celda en el cluster, celda en el vecino inferior)
+    private Cluster[] clusters;
+
+    // Numeración de los nodos abstractos: las entradas del cluster k son base[k] .. base[k + 1] - 1;
+    // el inicio y el fin de cada consulta usan los dos números siguientes
+    private int[] base;
+    private int totalNodos;
+
+    // Estado de la búsqueda abstracta, reutilizado entre consultas. Un nodo solo vale si su marca es de la
+    // consulta actual (2 * consulta: abierto, 2 * consulta + 1: cerrado), así que no hay que limpiarlos
+    private int[] g;
+    private int[] padre;
+    private int[] celda;
+    private int[] marca;
+    private int consulta;
+    private IndexedMinHeap abiertos;
+
+    // Clusters y bordes pendientes de reconstruir
+    private final Set<Integer> clustersSucios = new HashSet<>();
+    private final Set<Integer> bordesDerechosSucios = new HashSet<>();
+    private final Set<Integer> bordesInferioresSucios = new HashSet<>();
+
+    /**
+     * Crea el solucionador con clusters de 16x16 celdas.
+     */
+    public MazeSolverHPA() {
+        this(TAMANO_POR_DEFECTO);
+    }
+
+    /**
+     * @param tamano lado de cada cluster en celdas (mínimo 2).
+     */
+    public MazeSolverHPA(int tamano) {
+        if (tamano < 2) {
+            throw new IllegalArgumentException("El tamaño de cluster debe ser al menos 2: " + tamano);
+        }
+        this.tamano = tamano;
+    }
+
+    /**
+     * Sincroniza el grafo abstracto con el laberinto y resuelve la consulta.
+     * Con la misma matriz que la llamada anterior solo se reconstruyen los clusters avisados por
+     * celdaCambiada; con otra matriz de las mismas dimensiones se compara celda por celda y se
+     * reconstruyen los clusters que cambiaron.
+     *
+     * @param maze matriz booleana del laberinto (true = camino, false = muro).
+     * @param start celda de inicio.
+     * @param end celda de fin.
+     * @return SolveResults con el camino refinado y los nodos abstractos expandidos.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end) {
+        return solve(maze, start, end, new ControlResolucion());
+    }
+
+    /**
+     * Igual que solve, revisando el control por cada cluster construido y por cada nodo abstracto expandido.
+     */
+    @Override
+    public synchronized SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
+        sincronizar(maze, control);
+        return resolver(start, end, control);
+    }
+
+    @Override
+    public synchronized void celdaCambiada(int fila, int columna, boolean transitable) {
+        if (abierto == null || fila < 0 || fila >= filas || columna < 0 || columna >= columnas) return;
+        marcarCambio(fila, columna, transitable);
+    }
+
+    @Override
+    public synchronized boolean estaSincronizado(int filas, int columnas) {
+        return abierto != null && this.filas == filas && this.columnas == columnas;
+    }
+
+    /**
+     * Reconstruye los clusters marcados por celdaCambiada y resuelve sin revisar la grilla completa.
+     */
+    @Override
+    public synchronized SolveResults resolverSincronizado(Cell start, Cell end, ControlResolucion control) {
+        reconstruirSucios();
+        return resolver(start, end, control);
+    }
+
+    @Override
+    public synchronized void reiniciar() {
+        matriz = null;
+        abierto = null;
+        clusters = null;
+        clustersSucios.clear();
+        bordesDerechosSucios.clear();
+        bordesInferioresSucios.clear();
+    }
+
+    // ------------------------------------------------------------------
+    // Construcción y actualización del grafo abstracto
+    // ------------------------------------------------------------------
+
+    /**
+     * Construye todo el grafo si cambió el tamaño del laberinto. Si es otra matriz, compara celda por celda
+     * y marca como sucios solo los clusters y bordes afectados; si es la misma, los cambios ya llegaron
+     * por celdaCambiada.
+     */
+    private void sincronizar(boolean[][] maze, ControlResolucion control) {
+        if (abierto == null || maze.length != filas || maze[0].length != columnas) {
+            try {
+                construir(maze, control);
+            } catch (CancellationException e) {
+                reiniciar(); // el grafo quedó a medias: se construye de nuevo en la próxima llamada
+                throw e;
+            }
+            matriz = maze;
+            return;
+        }
+        if (maze != matriz) {
+            for (int r = 0; r < filas; r++) {
+                boolean[] fila = maze[r];
+                for (int c = 0; c < columnas; c++) {
+                    if (fila[c] != libre(r, c)) marcarCambio(r, c, fila[c]);
+                }
+            }
+            matriz = maze;
+        }
+        reconstruirSucios();
+    }
+
+    private void construir(boolean[][] maze, ControlResolucion control) {
+        filas = maze.length;
+        columnas = maze[0].length;
+        abierto = new long[(int) (((long) filas * columnas + 63) >>> 6)];
+        for (int r = 0; r < filas; r++) {
+            for (int c = 0; c < columnas; c++) {
+                if (maze[r][c]) {
+                    int i = r * columnas + c;
+                    abierto[i >>> 6] |= 1L << i;
+                }
+            }
+        }
+
+        clustersX = (columnas + tamano - 1) / tamano;
+        clustersY = (filas + tamano - 1) / tamano;
+        int total = clustersX * clustersY;
+        bordeDerecho = new int[total][];
+        bordeInferior = new int[total][];
+        clusters = new Cluster[total];
+        clustersSucios.clear();
+        bordesDerechosSucios.clear();
+        bordesInferioresSucios.clear();
+
+        for (int k = 0; k < total; k++) {
+            control.revisar(k + 1, total - k);
+            bordeDerecho[k] = calcularBordeDerecho(k);
+            bordeInferior[k] = calcularBordeInferior(k);
+        }
+        for (int k = 0; k < total; k++) {
+            control.revisar(k + 1, total - k);
+            clusters[k] = construirCluster(k);
+        }
+        numerarNodos();
+    }
+
+    /**
+     * Actualiza una celda y marca los bordes y clusters que dependen de ella.
+     */
+    private void marcarCambio(int r, int c, boolean transitable) {
+        int i = r * columnas + c;
+        if (transitable) abierto[i >>> 6] |= 1L << i;
+        else abierto[i >>> 6] &= ~(1L << i);
+
+        int cy = r / tamano, cx = c / tamano;
+        int k = cy * clustersX + cx;
+        clustersSucios.add(k);
+
+        // Bordes que tocan la celda: se reconstruyen y también el cluster vecino que los comparte
+        if (c % tamano == tamano - 1 && cx + 1 < clustersX) {
+            bordesDerechosSucios.add(k);
+            clustersSucios.add(k + 1);
+        }
+        if (c % tamano == 0 && cx > 0) {
+            bordesDerechosSucios.add(k - 1);
+            clustersSucios.add(k - 1);
+        }
+        if (r % tamano == tamano - 1 && cy + 1 < clustersY) {
+            bordesInferioresSucios.add(k);
+            clustersSucios.add(k + clustersX);
+        }
+        if (r % tamano == 0 && cy > 0) {
+            bordesInferioresSucios.add(k - clustersX);
+            clustersSucios.add(k - clustersX);
+        }
+    }
+
+    private void reconstruirSucios() {
+        if (clustersSucios.isEmpty()) return;   // todo borde sucio ensucia también sus dos clusters
+        for (int k : bordesDerechosSucios) bordeDerecho[k] = calcularBordeDerecho(k);
+        for (int k : bordesInferioresSucios) bordeInferior[k] = calcularBordeInferior(k);
+        for (int k : clustersSucios) clusters[k] = construirCluster(k);
+        bordesDerechosSucios.clear();
+        bordesInferioresSucios.clear();
+        clustersSucios.clear();
+        numerarNodos();
+    }
+
+    /**
+     * Asigna números consecutivos a las entradas de todos los clusters y agranda el estado de la búsqueda
+     * si no alcanza. Recorre solo los clusters, no sus celdas.
+     */
+    private void numerarNodos() {
+        if (base == null || base.length != clusters.length + 1) base = new int[clusters.length + 1];
+        for (int k = 0; k < clusters.length; k++) {
+            base[k + 1] = base[k] + clusters[k].nodos.length;
+        }
+        totalNodos = base[clusters.length];
+
+        int necesarios = totalNodos + 2;    // más el inicio y el fin
+        if (g == null || g.length < necesarios) {
+            int capacidad = Math.max(necesarios, g == null ? 0 : g.length + (g.length >>> 1));
+            g = new int[capacidad];
+            padre = new int[capacidad];
+            celda = new int[capacidad];
+            marca = new int[capacidad];
+            consulta = 0;
+            abiertos = new IndexedMinHeap(capacidad);
+        }
+    }
+
+    /**
+     * Entradas entre el cluster k y su vecino derecho.
+     */
+    private int[] calcularBordeDerecho(int k) {
+        int cx = k % clustersX, cy = k / clustersX;
+        if (cx + 1 >= clustersX) return new int[0];
+        int c = Math.min(columnas, (cx + 1) * tamano) - 1;
+        int r0 = cy * tamano, r1 = Math.min(filas, r0 + tamano);
+
+        Pares entradas = new Pares();
+        int inicioTramo = -1;
+        for (int r = r0; r <= r1; r++) {
+            boolean par = r < r1 && libre(r, c) && libre(r, c + 1);
+            if (par && inicioTramo < 0) inicioTramo = r;
+            if (!par && inicioTramo >= 0) {
+                entradas.agregarTramo(inicioTramo, r - 1, columnas, c, 1);
+                inicioTramo = -1;
+            }
+        }
+        return entradas.aArreglo();
+    }
+
+    /**
+     * Entradas entre el cluster k y su vecino inferior.
+     */
+    private int[] calcularBordeInferior(int k) {
+        int cx = k % clustersX, cy = k / clustersX;
+        if (cy + 1 >= clustersY) return new int[0];
+        int r = Math.min(filas, (cy + 1) * tamano) - 1;
+        int c0 = cx * tamano, c1 = Math.min(columnas, c0 + tamano);
+
+        Pares entradas = new Pares();
+        int inicioTramo = -1;
+        for (int c = c0; c <= c1; c++) {
+            boolean par = c < c1 && libre(r, c) && libre(r + 1, c);
+            if (par && inicioTramo < 0) inicioTramo = c;
+            if (!par && inicioTramo >= 0) {
+                entradas.agregarTramo(inicioTramo, c - 1, 1, r * columnas, columnas);
+                inicioTramo = -1;
+            }
+        }
+        return entradas.aArreglo();
+    }
+
+    /**
+     * Reúne las entradas de los cuatro bordes del cluster y calcula las distancias entre ellas.
+     */
+    private Cluster construirCluster(int k) {
+        int cx = k % clustersX, cy = k / clustersX;
+        int[] izquierdo = cx > 0 ? bordeDerecho[k - 1] : new int[0];
+        int[] superior = cy > 0 ? bordeInferior[k - clustersX] : new int[0];
+
+        // Pares (propia, otra) de los cuatro bordes: derecho e inferior son el lado a, izquierdo y superior el b
+        int pares = (bordeDerecho[k].length + izquierdo.length + bordeInferior[k].length + superior.length) / 2;
+        int[] propia = new int[pares];
+        int[] otra = new int[pares];
+        int n = 0;
+        n = agregarEntradas(bordeDerecho[k], 0, propia, otra, n);
+        n = agregarEntradas(izquierdo, 1, propia, otra, n);
+        n = agregarEntradas(bordeInferior[k], 0, propia, otra, n);
+        agregarEntradas(superior, 1, propia, otra, n);
+
+        // Una celda de esquina puede ser entrada de dos bordes: es un solo nodo con varios socios
+        int[] nodos = new int[pares];
+        int[] sociosPorNodo = new int[pares];
+        int[] nodoDePar = new int[pares];
+        int numNodos = 0;
+        for (int p = 0; p < pares; p++) {
+            int i = 0;
+            while (i < numNodos && nodos[i] != propia[p]) i++;
+            if (i == numNodos) nodos[numNodos++] = propia[p];
+            sociosPorNodo[i]++;
+            nodoDePar[p] = i;
+        }
+
+        Cluster cluster = new Cluster(k, numNodos);
+        System.arraycopy(nodos, 0, cluster.nodos, 0, numNodos);
+        for (int i = 0; i < numNodos; i++) {
+            cluster.socios[i] = new int[sociosPorNodo[i]];
+            sociosPorNodo[i] = 0;
+        }
+        for (int p = 0; p < pares; p++) {
+            int i = nodoDePar[p];
+            cluster.socios[i][sociosPorNodo[i]++] = otra[p];
+        }
+
+        // Distancias internas entre cada par de entradas
+        BusquedaLocal local = new BusquedaLocal();
+        for (int i = 0; i < cluster.nodos.length; i++) {
+            local.ejecutar(cluster, cluster.nodos[i]);
+            for (int j = 0; j < cluster.nodos.length; j++) {
+                cluster.distancia[i * cluster.nodos.length + j] = local.distancia(cluster.nodos[j]);
+            }
+        }
+        return cluster;
+    }
+
+    /**
+     * Copia los pares del borde como (celda propia, celda del otro lado) a partir de la posición n.
+     *
+     * @return siguiente posición libre.
+     */
+    private static int agregarEntradas(int[] pares, int lado, int[] propia, int[] otra, int n) {
+        for (int i = 0; i < pares.length; i += 2) {
+            propia[n] = pares[i + lado];
+            otra[n++] = pares[i + 1 - lado];
+        }
+        return n;
+    }
+
+    // ------------------------------------------------------------------
+    // Consultas
+    // ------------------------------------------------------------------
+
+    /**
+     * Resuelve una consulta sobre el grafo ya sincronizado.
+     */
+    private SolveResults resolver(Cell start, Cell end, ControlResolucion control) {
+        Set<Cell> visited = new LinkedHashSet<>();
+        if (!libre(start.getRow(), start.getCol()) || !libre(end.getRow(), end.getCol())) {
+            return new SolveResults(new ArrayList<>(), visited);
+        }
+
+        int inicio = start.getRow() * columnas + start.getCol();
+        int fin = end.getRow() * columnas + end.getCol();
+        Cluster clusterInicio = clusters[clusterDe(inicio)];
+        Cluster clusterFin = clusters[clusterDe(fin)];
+
+        // Distancias del inicio y del fin a las entradas de sus clusters
+        BusquedaLocal local = new BusquedaLocal();
+        local.ejecutar(clusterInicio, inicio);
+        int[] desdeInicio = new int[clusterInicio.nodos.length];
+        for (int i = 0; i < desdeInicio.length; i++) desdeInicio[i] = local.distancia(clusterInicio.nodos[i]);
+        int directo = clusterInicio == clusterFin ? local.distancia(fin) : -1;
+
+        local.ejecutar(clusterFin, fin);
+        int[] hastaFin = new int[clusterFin.nodos.length];
+        for (int i = 0; i < hastaFin.length; i++) hastaFin[i] = local.distancia(clusterFin.nodos[i]);
+
+        List<Integer> abstracto = buscarAbstracto(inicio, fin, clusterInicio, desdeInicio, clusterFin, hastaFin,
+                directo, visited, control);
+        if (abstracto == null) return new SolveResults(new ArrayList<>(), visited);
+
+        // Refinamiento: cada tramo del camino abstracto se convierte en celdas
+        List<Cell> path = new ArrayList<>();
+        path.add(new Cell(start.getRow(), start.getCol()));
+        for (int i = 1; i < abstracto.size(); i++) {
+            int a = abstracto.get(i - 1), b = abstracto.get(i);
+            if (a == b) continue;
+            if (clusterDe(a) != clusterDe(b)) {
+                path.add(new Cell(b / columnas, b % columnas));     // cruce de borde: celdas adyacentes
+            } else {
+                local.ejecutar(clusters[clusterDe(a)], a);
+                local.agregarCamino(b, path);
+            }
+        }
+        return new SolveResults(path, visited);
+    }
+
+    /**
+     * A* sobre el grafo abstracto: inicio, entradas de los clusters y fin. Las entradas usan su número de
+     * nodo; el inicio y el fin usan totalNodos y totalNodos + 1, aunque caigan sobre una entrada
+     * (quedan unidos a ella con costo 0).
+     *
+     * @return secuencia de celdas clave desde el inicio hasta el fin, o null si no hay camino.
+     */
+    private List<Integer> buscarAbstracto(int inicio, int fin, Cluster clusterInicio, int[] desdeInicio,
+                                          Cluster clusterFin, int[] hastaFin, int directo, Set<Cell> visited,
+                                          ControlResolucion control) {
+        int nodoInicio = totalNodos;
+        int nodoFin = totalNodos + 1;
+        consulta++;
+        if (consulta > (Integer.MAX_VALUE >>> 1)) {     // las marcas darían la vuelta: se borran
+            Arrays.fill(marca, 0);
+            consulta = 1;
+        }
+        abiertos.limpiar();
+
+        g[nodoInicio] = 0;
+        padre[nodoInicio] = -1;
+        celda[nodoInicio] = inicio;
+        marca[nodoInicio] = 2 * consulta;
+        abiertos.insertarOActualizar(nodoInicio, heuristica(inicio, fin));
+        long expandidos = 0;
+
+        while (!abiertos.estaVacio()) {
+            control.revisar(++expandidos, abiertos.tamano());
+            int actual = abiertos.extraerMinimo();
+            marca[actual] = 2 * consulta + 1;           // cerrado
+            int celdaActual = celda[actual];
+            visited.add(new Cell(celdaActual / columnas, celdaActual % columnas));
+
+            if (actual == nodoFin) {
+                List<Integer> secuencia = new ArrayList<>();
+                for (int at = nodoFin; at != -1; at = padre[at]) secuencia.add(celda[at]);
+                Collections.reverse(secuencia);
+                return secuencia;
+            }
+
+            int gActual = g[actual];
+            if (actual == nodoInicio) {
+                int b = base[clusterInicio.id];
+                for (int i = 0; i < desdeInicio.length; i++) {
+                    relajar(actual, b + i, clusterInicio.nodos[i], gActual, desdeInicio[i], fin);
+                }
+                if (directo >= 0) relajar(actual, nodoFin, fin, gActual, directo, fin);
+                continue;
+            }
+
+            Cluster cluster = clusters[clusterDe(celdaActual)];
+            int b = base[cluster.id];
+            int i = actual - b;
+            int n = cluster.nodos.length;
+            for (int j = 0; j < n; j++) {
+                relajar(actual, b + j, cluster.nodos[j], gActual, cluster.distancia[i * n + j], fin);
+            }
+            for (int socio : cluster.socios[i]) {
+                Cluster vecino = clusters[clusterDe(socio)];
+                relajar(actual, base[vecino.id] + vecino.indiceDe(socio), socio, gActual, 1, fin);
+            }
+            if (cluster == clusterFin) {
+                relajar(actual, nodoFin, fin, gActual, hastaFin[i], fin);
+            }
+        }
+        return null;
+    }
+
+    private void relajar(int desde, int hacia, int celdaHacia, int gDesde, int costo, int fin) {
+        if (costo < 0) return;                          // costo negativo: no conectados
+        int m = marca[hacia];
+        if (m == 2 * consulta + 1) return;              // ya cerrado
+        int nuevo = gDesde + costo;
+        if (m == 2 * consulta && g[hacia] <= nuevo) return;
+        g[hacia] = nuevo;
+        padre[hacia] = desde;
+        celda[hacia] = celdaHacia;
+        marca[hacia] = 2 * consulta;
+        abiertos.insertarOActualizar(hacia, nuevo + heuristica(celdaHacia, fin));
+    }
+
+    private int heuristica(int a, int b) {
+        return Math.abs(a / columnas - b / columnas) + Math.abs(a % columnas - b % columnas);
+    }
+
+    private int clusterDe(int celda) {
+        return (celda / columnas / tamano) * clustersX + (celda % columnas) / tamano;
+    }
+
+    private boolean libre(int r, int c) {
+        if (r < 0 || r >= filas || c < 0 || c >= columnas) return false;
+        int i = r * columnas + c;
+        return (abierto[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * Pares de celdas de un borde, en un arreglo que crece al doble cuando se llena.
+     */
+    private static final class Pares {
+        private int[] celdas = new int[8];
+        private int cantidad;
+
+        /**
+         * Agrega las entradas de un tramo libre entre las posiciones desde y hasta del borde: uno corto
+         * recibe una en el medio; uno largo, una en cada extremo. La celda de la posición p es
+         * p * paso + desplazamiento, y su pareja del otro lado está a distancia salto.
+         */
+        void agregarTramo(int desde, int hasta, int paso, int desplazamiento, int salto) {
+            if (hasta - desde + 1 < TRAMO_LARGO) {
+                agregar(((desde + hasta) >>> 1) * paso + desplazamiento, salto);
+            } else {
+                agregar(desde * paso + desplazamiento, salto);
+                agregar(hasta * paso + desplazamiento, salto);
+            }
+        }
+
+        private void agregar(int celda, int salto) {
+            if (cantidad + 2 > celdas.length) celdas = Arrays.copyOf(celdas, celdas.length * 2);
+            celdas[cantidad++] = celda;
+            celdas[cantidad++] = celda + salto;
+        }
+
+        int[] aArreglo() {
+            return Arrays.copyOf(celdas, cantidad);
+        }
+    }
+
+    /**
+     * Entradas de un cluster, sus celdas vecinas al otro lado del borde y las distancias internas entre ellas.
+     */
+    private static final class Cluster {
+        final int id;
+        final int[] nodos;          // celdas de entrada dentro del cluster
+        final int[][] socios;       // para cada entrada, celdas adyacentes en clusters vecinos
+        final int[] distancia;      // matriz n x n de distancias internas (-1 si no están conectadas)
+
+        Cluster(int id, int n) {
+            this.id = id;
+            this.nodos = new int[n];
+            this.socios = new int[n][];
+            this.distancia = new int[n * n];
+        }
+
+        int indiceDe(int celda) {
+            for (int i = 0; i < nodos.length; i++) {
+                if (nodos[i] == celda) return i;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * BFS restringido a las celdas de un cluster. Se reutilizan los arreglos entre ejecuciones.
+     */
+    private final class BusquedaLocal {
+        private final int[] distancia = new int[tamano * tamano];
+        private final int[] padre = new int[tamano * tamano];
+        private final int[] cola = new int[tamano * tamano];
+        private int fila0, col0, alto, ancho;
+
+        void ejecutar(Cluster cluster, int origen) {
+            fila0 = (cluster.id / clustersX) * tamano;
+            col0 = (cluster.id % clustersX) * tamano;
+            alto = Math.min(tamano, filas - fila0);
+            ancho = Math.min(tamano, columnas - col0);
+            Arrays.fill(distancia, -1);
+
+            int o = local(origen);
+            distancia[o] = 0;
+            padre[o] = -1;
+            int cabeza = 0, fondo = 0;
+            cola[fondo++] = o;
+
+            while (cabeza < fondo) {
+                int actual = cola[cabeza++];
+                int r = actual / ancho, c = actual % ancho;
+                int d = distancia[actual] + 1;
+                if (r > 0) fondo = visitar(actual, r - 1, c, d, fondo);
+                if (r < alto - 1) fondo = visitar(actual, r + 1, c, d, fondo);
+                if (c > 0) fondo = visitar(actual, r, c - 1, d, fondo);
+                if (c < ancho - 1) fondo = visitar(actual, r, c + 1, d, fondo);
+            }
+        }
+
+        private int visitar(int actual, int r, int c, int d, int fondo) {
+            int v = r * ancho + c;
+            if (distancia[v] >= 0 || !libre(fila0 + r, col0 + c)) return fondo;
+            distancia[v] = d;
+            padre[v] = actual;
+            cola[fondo] = v;
+            return fondo + 1;
+        }
+
+        /**
+         * @return distancia desde el origen de la última ejecución (-1 si no se alcanzó).
+         */
+        int distancia(int celda) {
+            return distancia[local(celda)];
+        }
+
+        /**
+         * Agrega al camino las celdas desde el origen (excluido) hasta el destino (incluido).
+         */
+        void agregarCamino(int destino, List<Cell> path) {
+            int desde = path.size();
+            for (int at = local(destino); padre[at] != -1; at = padre[at]) {
+                path.add(new Cell(fila0 + at / ancho, col0 + at % ancho));
+            }
+            Collections.reverse(path.subList(desde, path.size()));
+        }
+
+        private int local(int celda) {
+            return (celda / columnas - fila0) * ancho + (celda % columnas - col0);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package solver.impl;
+
+import models.Cell;
+import models.SolveResults;
+import solver.ControlResolucion;
+import solver.MazeSolver;
+
+import java.util.*;
+
+/**
+ * Implementación de Jump Point Search (JPS) para grillas de 4 direcciones con costo uniforme.
+ * Los caminos simétricos se recortan con un orden canónico: los avances verticales lanzan
+ * saltos horizontales en cada celda, y los horizontales solo giran donde hay un vecino forzado.
+ * Solo se expanden los puntos de salto, pero el camino devuelto incluye todas las celdas.
+ * Conviene en grillas abiertas (en 1024x1024 tarda la mitad que BFS Indexado); en un laberinto perfecto
+ * casi cada celda es un punto de salto y resulta más lento que BFS (ver JPSBenchmark).
+ */
+public class MazeSolverJPS implements MazeSolver {
+
+    // Direcciones de llegada a un punto de salto
+    private static final byte NINGUNA = 0;      // celda de inicio: se expande en las 4 direcciones
+    private static final byte HORIZONTAL = 1;
+    private static final byte VERTICAL = 2;
+
+    /**
+     * Resuelve el laberinto con JPS sobre un A* con heurística Manhattan.
+     *
+     * @param maze matriz booleana del laberinto (true = camino, false = muro).
+     * @param start celda de inicio.
+     * @param end celda de fin.
+     * @return SolveResults con el camino completo y los puntos de salto expandidos.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end) {
+        return solve(maze, start, end, new ControlResolucion());
+    }
+
+    /**
+     * Igual que solve, revisando el control por cada punto de salto expandido.
+     */
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
+        Busqueda busqueda = new Busqueda(maze, end);
+        return busqueda.ejecutar(start, control);
+    }
+
+    /**
+     * Estado de una ejecución de JPS. Se crea uno por llamada para no compartir estado entre resoluciones.
+     */
+    private static final class Busqueda {
+        private final boolean[][] maze;
+        private final int filas;
+        private final int columnas;
+        private final int finFila;
+        private final int finCol;
+
+        private final int[] g;              // costo desde el inicio hasta cada punto de salto
+        private final int[] padre;          // punto de salto anterior
+        private final byte[] llegada;       // dirección con la que se llegó a cada punto de salto
+        private final long[] cerrado;       // bitset de puntos de salto expandidos
+        private final IndexedMinHeap abiertos;
+
+        Busqueda(boolean[][] maze, Cell end) {
+            this.maze = maze;
+            this.filas = maze.length;
+            this.columnas = maze[0].length;
+            this.finFila = end.getRow();
+            this.finCol = end.getCol();
+
+            int total = filas * columnas;
+            this.g = new int[total];
+            this.padre = new int[total];
+            this.llegada = new byte[total];
+            this.cerrado = new long[(total + 63) >>> 6];
+            this.abiertos = new IndexedMinHeap(total);
+            Arrays.fill(g, Integer.MAX_VALUE);
+        }
+
+        SolveResults ejecutar(Cell start, ControlResolucion control) {
+            int inicio = start.getRow() * columnas + start.getCol();
+            int fin = finFila * columnas + finCol;
+            Set<Cell> visited = new LinkedHashSet<>();
+
+            g[inicio] = 0;
+            padre[inicio] = -1;
+            llegada[inicio] = NINGUNA;
+            abiertos.insertarOActualizar(inicio, prioridad(0, heuristica(start.getRow(), start.getCol())));
+
+            boolean found = false;
+            long expandidos = 0;
+
+            while (!abiertos.estaVacio()) {
+                control.revisar(++expandidos, abiertos.tamano());
+                int actual = abiertos.extraerMinimo();
+                cerrado[actual >>> 6] |= 1L << actual;
+
+                int r = actual / columnas;
+                int c = actual - r * columnas;
+                visited.add(new Cell(r, c)); // punto de salto expandido
+
+                if (actual == fin) {
+                    found = true;
+                    break;
+                }
+
+                expandir(actual, r, c);
+            }
+
+            List<Cell> path = found ? construirCamino(fin) : new ArrayList<>();
+            return new SolveResults(path, visited);
+        }
+
+        /**
+         * Genera los sucesores de un punto de salto según la dirección con la que se llegó a él.
+         */
+        private void expandir(int actual, int r, int c) {
+            int desdeFila = -1, desdeCol = -1;
+            if (padre[actual] >= 0) {
+                desdeFila = padre[actual] / columnas;
+                desdeCol = padre[actual] % columnas;
+            }
+
+            switch (llegada[actual]) {
+                case NINGUNA -> {
+                    saltarHorizontal(actual, r, c, -1);
+                    saltarHorizontal(actual, r, c, 1);
+                    saltarVertical(actual, r, c, -1);
+                    saltarVertical(actual, r, c, 1);
+                }
+                case HORIZONTAL -> {
+                    int dh = Integer.signum(c - desdeCol);
+                    saltarHorizontal(actual, r, c, dh);
+                    // Giros verticales forzados por un muro detrás
+                    if (libre(r - 1, c) && !libre(r - 1, c - dh)) saltarVertical(actual, r, c, -1);
+                    if (libre(r + 1, c) && !libre(r + 1, c - dh)) saltarVertical(actual, r, c, 1);
+                }
+                default -> {
+                    int dv = Integer.signum(r - desdeFila);
+                    saltarVertical(actual, r, c, dv);
+                    saltarHorizontal(actual, r, c, -1);
+                    saltarHorizontal(actual, r, c, 1);
+                }
+            }
+        }
+
+        /**
+         * Avanza horizontalmente hasta encontrar la meta o un vecino forzado, y lo agrega como sucesor.
+         */
+        private void saltarHorizontal(int actual, int r, int c, int dh) {
+            int salto = buscarHorizontal(r, c, dh);
+            if (salto >= 0) agregar(salto, actual, Math.abs(salto % columnas - c), HORIZONTAL);
+        }
+
+        /**
+         * Avanza verticalmente hasta encontrar la meta o una celda desde la que un salto horizontal tenga éxito.
+         */
+        private void saltarVertical(int actual, int r, int c, int dv) {
+            int fila = r + dv;
+            while (libre(fila, c)) {
+                if ((fila == finFila && c == finCol)
+                        || buscarHorizontal(fila, c, -1) >= 0
+                        || buscarHorizontal(fila, c, 1) >= 0) {
+                    agregar(fila * columnas + c, actual, Math.abs(fila - r), VERTICAL);
+                    return;
+                }
+                fila += dv;
+            }
+        }
+
+        /**
+         * Recorre una fila desde (r, c) en la dirección dh.
+         *
+         * @return índice del punto de salto encontrado, o -1 si se choca con un muro o el borde.
+         */
+        private int buscarHorizontal(int r, int c, int dh) {
+            int col = c + dh;
+            while (libre(r, col)) {
+                if (r == finFila && col == finCol) return r * columnas + col;
+                // Vecino forzado: se abre una celda arriba o abajo que estaba bloqueada en la columna anterior
+                if ((libre(r - 1, col) && !libre(r - 1, col - dh))
+                        || (libre(r + 1, col) && !libre(r + 1, col - dh))) {
+                    return r * columnas + col;
+                }
+                col += dh;
+            }
+            return -1;
+        }
+
+        /**
+         * Registra un punto de salto como sucesor si mejora su costo.
+         */
+        private void agregar(int salto, int actual, int distancia, byte direccion) {
+            if ((cerrado[salto >>> 6] & (1L << salto)) != 0) return;
+            int nuevoG = g[actual] + distancia;
+            if (nuevoG >= g[salto]) return;
+
+            g[salto] = nuevoG;
+            padre[salto] = actual;
+            llegada[salto] = direccion;
+            int r = salto / columnas;
+            abiertos.insertarOActualizar(salto, prioridad(nuevoG, heuristica(r, salto - r * columnas)));
+        }
+
+        /**
+         * Une los puntos de salto con tramos rectos para obtener el camino celda por celda.
+         */
+        private List<Cell> construirCamino(int fin) {
+            List<Cell> path = new ArrayList<>();
+            int at = fin;
+            while (padre[at] >= 0) {
+                int r = at / columnas, c = at % columnas;
+                int anterior = padre[at];
+                int pr = anterior / columnas, pc = anterior % columnas;
+                int dr = Integer.signum(pr - r), dc = Integer.signum(pc - c);
+                // Se agregan las celdas del tramo sin incluir el punto de salto anterior
+                while (r != pr || c != pc) {
+                    path.add(new Cell(r, c));
+                    r += dr;
+                    c += dc;
+                }
+                at = anterior;
+            }
+            path.add(new Cell(at / columnas, at % columnas)); // celda de inicio
+            Collections.reverse(path);
+            return path;
+        }
+
+        private boolean libre(int r, int c) {
+            return r >= 0 && r < filas && c >= 0 && c < columnas && maze[r][c];
+        }
+
+        private int heuristica(int fila, int col) {
+            return Math.abs(fila - finFila) + Math.abs(col - finCol);
+        }
+
+        private static long prioridad(int g, int h) {
+            return ((long) (g + h) << 32) | h;
+        }
+    }
+}
@@ -2,21 +2,22 @@ package solver.impl;
 
 import models.Cell;
 import models.SolveResults;
+import solver.ColectorRecorrido;
+import solver.ControlResolucion;
 import solver.MazeSolver;
+import solver.ReceptorRecorrido;
 
-import java.util.*;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 /**
  * Implementación de un algoritmo recursivo simple para encontrar un camino en un laberinto.
- * Utiliza DFS recursivo y no garantiza el camino más corto.
+ * Utiliza DFS con backtracking y no garantiza el camino más corto.
+ * La recursión se ejecuta sobre una pila explícita (IterativeBacktracker), por lo que no
+ * provoca StackOverflowError en laberintos grandes y mantiene el mismo orden de visita.
  */
 public class MazeSolverRecursivo implements MazeSolver {
 
-    private final List<Cell> path = new ArrayList<>();              // Lista para almacenar el camino encontrado
-    private final List<Cell> ordenDeVisita = new ArrayList<>();    // Lista para registrar el orden en que se visitan las celdas
-    private boolean[][] grid;  // Referencia al laberinto como matriz booleana
-    private Cell end;          // Celda destino (fin del laberinto)
-
     /**
      * Resuelve el laberinto desde una celda de inicio hasta una celda de fin.
      *
@@ -27,60 +28,28 @@ public class MazeSolverRecursivo implements MazeSolver {
      */
     @Override
     public SolveResults solve(boolean[][] maze, Cell start, Cell end) {
-        this.grid = maze;       // Asigna el laberinto a variable local
-        this.end = end;         // Define la celda objetivo
-        path.clear();           // Limpia la lista del camino
-        ordenDeVisita.clear();  // Limpia la lista de visitados
-
-        findPath(start);        // Inicia la búsqueda recursiva desde la celda inicial
-        return new SolveResults(new ArrayList<>(path), new LinkedHashSet<>(ordenDeVisita));
+        return solve(maze, start, end, new ControlResolucion());
     }
 
     /**
-     * Función recursiva para buscar el camino hacia la celda final.
-     *
-     * @param current celda actual en la recursión
-     * @return true si se encontró el camino desde esta celda, false si hay que retroceder
+     * Igual que solve, revisando el control en cada paso del backtracking.
      */
-    private boolean findPath(Cell current) {
-        int row = current.getRow();  // fila actual
-        int col = current.getCol();  // columna actual
-
-        // Caso base: si está fuera del laberinto o es un muro → no seguir
-        if (!isInBounds(row, col) || !grid[row][col]) return false;
-
-        // Si ya fue visitada (está en el camino actual) → no repetir
-        if (path.contains(current)) return false;
-
-        ordenDeVisita.add(current);  // Se registra como visitada para visualización
-        path.add(current);           // Se añade al camino actual
-
-        // Si llegamos a la meta → éxito
-        if (current.equals(end)) {
-            return true;
-        }
-
-        // Llamadas recursivas en las 4 direcciones (abajo, arriba, derecha, izquierda)
-        if (findPath(new Cell(row + 1, col)) ||  // abajo
-                findPath(new Cell(row - 1, col)) ||  // arriba
-                findPath(new Cell(row, col + 1)) ||  // derecha
-                findPath(new Cell(row, col - 1))) {  // izquierda
-            return true; // Si alguna devuelve true, se mantiene en el camino
-        }
-
-        // Si no hay camino por aquí → retroceder (backtracking)
-        path.remove(path.size() - 1); // se quita del camino
-        return false;
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
+        return ColectorRecorrido.resolver(this, maze, start, end, control);
     }
 
     /**
-     * Verifica si una posición está dentro de los límites del laberinto.
-     *
-     * @param row fila a verificar
-     * @param col columna a verificar
-     * @return true si la posición está dentro del laberinto, false si está fuera
+     * Transmite cada celda en su primera visita en lugar de guardarla; el resultado solo trae el camino.
      */
-    private boolean isInBounds(int row, int col) {
-        return row >= 0 && row < grid.length && col >= 0 && col < grid[0].length;
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control,
+                              ReceptorRecorrido receptor) {
+        // Solo se evita repetir celdas del camino actual, igual que la versión recursiva
+        IterativeBacktracker motor = new IterativeBacktracker(maze, false, control, receptor);
+        motor.buscar(start, end);  // Si no hay camino, el camino queda vacío tras retroceder
+        List<Cell> camino = motor.getCamino();
+        ReceptorRecorrido.enviarCamino(camino, maze[0].length, receptor);
+        return new SolveResults(camino, new LinkedHashSet<>());
     }
 }
@@ -2,28 +2,22 @@ package solver.impl;
 
 import models.Cell;
 import models.SolveResults;
+import solver.ColectorRecorrido;
+import solver.ControlResolucion;
 import solver.MazeSolver;
+import solver.ReceptorRecorrido;
 
-import java.util.*;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 /**
  * Implementación de un algoritmo de búsqueda recursivo completo en 4 direcciones.
  * Utiliza backtracking para encontrar un camino desde una celda de inicio hasta una celda final.
+ * La recursión se ejecuta sobre una pila explícita (IterativeBacktracker) con un bitmap
+ * para saber en O(1) si una celda ya está en el camino actual.
  */
 public class MazeSolverRecursivoCompleto implements MazeSolver {
 
-    // Lista que almacena el camino actual desde el inicio hasta la meta
-    private final List<Cell> path = new ArrayList<>();
-
-    // Lista que registra el orden en que se visitan las celdas (para animación paso a paso)
-    private final List<Cell> ordenDeVisita = new ArrayList<>();
-
-    // Matriz booleana que representa el laberinto: true = camino, false = muro
-    private boolean[][] grid;
-
-    // Celda final a la que se quiere llegar
-    private Cell end;
-
     /**
      * Método principal que resuelve el laberinto con recursión completa.
      *
@@ -34,66 +28,33 @@ public class MazeSolverRecursivoCompleto implements MazeSolver {
      */
     @Override
     public SolveResults solve(boolean[][] maze, Cell start, Cell end) {
-        this.grid = maze;            // Asignamos el laberinto a la variable local
-        this.end = end;             // Definimos la meta
-        path.clear();               // Limpiamos el camino anterior
-        ordenDeVisita.clear();      // Limpiamos la lista de visitados
-
-        boolean exito = findPath(start); // Llamada al método recursivo
-
-        if (exito) {
-            // Si se encontró camino, lo retornamos junto con el orden de visita
-            return new SolveResults(new ArrayList<>(path), new LinkedHashSet<>(ordenDeVisita));
-        } else {
-            return null; // No se encontró solución
-        }
+        return solve(maze, start, end, new ControlResolucion());
     }
 
     /**
-     * Método recursivo para buscar un camino desde la celda actual hasta la celda final.
-     *
-     * @param current celda actual en la exploración
-     * @return true si se encontró camino hacia la meta desde esta celda
+     * Igual que solve, revisando el control en cada paso del backtracking.
      */
-    private boolean findPath(Cell current) {
-        int row = current.getRow(); // Fila actual
-        int col = current.getCol(); // Columna actual
-
-        // Si está fuera de los límites o es un muro → no se puede continuar
-        if (!isInBounds(row, col) || !grid[row][col]) return false;
-
-        // Si ya se está en el camino actual → evitar ciclos
-        if (path.contains(current)) return false;
-
-        ordenDeVisita.add(current); // Registrar visita para visualización
-        path.add(current);          // Agregar al camino actual
-
-        // Si llegamos al destino → éxito
-        if (current.equals(end)) {
-            return true;
-        }
-
-        // Intentar avanzar en 4 direcciones (abajo, arriba, derecha, izquierda)
-        if (findPath(new Cell(row + 1, col)) ||     // abajo
-                findPath(new Cell(row - 1, col)) ||     // arriba
-                findPath(new Cell(row, col + 1)) ||     // derecha
-                findPath(new Cell(row, col - 1))) {     // izquierda
-            return true; // Si alguna de las direcciones retorna true, se mantiene el camino
-        }
-
-        // Si no hay camino → retroceder (backtracking)
-        path.remove(path.size() - 1);
-        return false;
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control) {
+        return ColectorRecorrido.resolver(this, maze, start, end, control);
     }
 
     /**
-     * Verifica si una celda está dentro de los límites del laberinto.
-     *
-     * @param row fila
-     * @param col columna
-     * @return true si está dentro del rango, false si está fuera
+     * Transmite cada celda en su primera visita en lugar de guardarla; el resultado solo trae el camino.
      */
-    private boolean isInBounds(int row, int col) {
-        return row >= 0 && row < grid.length && col >= 0 && col < grid[0].length;
+    @Override
+    public SolveResults solve(boolean[][] maze, Cell start, Cell end, ControlResolucion control,
+                              ReceptorRecorrido receptor) {
+        // Se evitan ciclos comprobando solo el camino actual
+        IterativeBacktracker motor = new IterativeBacktracker(maze, false, control, receptor);
+
+        if (motor.buscar(start, end)) {
+            // Si se encontró camino, se envía al receptor y se retorna (las visitas ya se enviaron)
+            List<Cell> camino = motor.getCamino();
+            ReceptorRecorrido.enviarCamino(camino, maze[0].length, receptor);
+            return new SolveResults(camino, new LinkedHashSet<>());
+        } else {
+            return null; // No se encontró solución
+        }
     }
 }
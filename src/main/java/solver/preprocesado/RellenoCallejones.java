@@ -0,0 +1,77 @@
+package solver.preprocesado;
+
+import models.Cell;
+
+/**
+ * Etapa de preprocesado que rellena callejones sin salida antes de resolver.
+ * Una celda libre con un solo vecino libre (o ninguno) no puede estar en un camino simple entre
+ * el inicio y el fin, así que se convierte en muro; eso puede dejar a su vecino como nuevo callejón,
+ * y el proceso se repite con una cola de trabajo. Cada celda entra a la cola a lo sumo una vez por
+ * vecino que pierde, por lo que el costo total es lineal en el tamaño del laberinto.
+ * En laberintos perfectos solo queda el camino entre el inicio y el fin.
+ */
+public final class RellenoCallejones {
+
+    private RellenoCallejones() {
+    }
+
+    /**
+     * Rellena los callejones del laberinto en la misma matriz, sin tocar el inicio ni el fin.
+     *
+     * @param maze matriz booleana del laberinto (true = camino, false = muro); se modifica.
+     * @param start celda de inicio.
+     * @param end celda de fin.
+     * @return cantidad de celdas convertidas en muro.
+     */
+    public static int rellenar(boolean[][] maze, Cell start, Cell end) {
+        int filas = maze.length;
+        int columnas = maze[0].length;
+        int total = filas * columnas;
+        int inicio = start.getRow() * columnas + start.getCol();
+        int fin = end.getRow() * columnas + end.getCol();
+
+        // Grado (vecinos libres) de cada celda libre
+        byte[] grado = new byte[total];
+        int[] cola = new int[total];
+        int fondo = 0;
+        for (int r = 0; r < filas; r++) {
+            for (int c = 0; c < columnas; c++) {
+                if (!maze[r][c]) continue;
+                int g = 0;
+                if (r > 0 && maze[r - 1][c]) g++;
+                if (r < filas - 1 && maze[r + 1][c]) g++;
+                if (c > 0 && maze[r][c - 1]) g++;
+                if (c < columnas - 1 && maze[r][c + 1]) g++;
+                int i = r * columnas + c;
+                grado[i] = (byte) g;
+                if (g <= 1 && i != inicio && i != fin) cola[fondo++] = i;
+            }
+        }
+
+        // Cada celda rellenada resta un vecino a las de al lado; las que quedan con uno se encolan
+        int cabeza = 0, rellenadas = 0;
+        while (cabeza < fondo) {
+            int actual = cola[cabeza++];
+            int r = actual / columnas;
+            int c = actual - r * columnas;
+            maze[r][c] = false;
+            rellenadas++;
+
+            if (r > 0 && maze[r - 1][c]) fondo = descontar(actual - columnas, grado, cola, fondo, inicio, fin);
+            if (r < filas - 1 && maze[r + 1][c]) fondo = descontar(actual + columnas, grado, cola, fondo, inicio, fin);
+            if (c > 0 && maze[r][c - 1]) fondo = descontar(actual - 1, grado, cola, fondo, inicio, fin);
+            if (c < columnas - 1 && maze[r][c + 1]) fondo = descontar(actual + 1, grado, cola, fondo, inicio, fin);
+        }
+        return rellenadas;
+    }
+
+    /**
+     * Resta un vecino a la celda y la encola justo cuando pasa a ser un callejón.
+     *
+     * @return nuevo fondo de la cola.
+     */
+    private static int descontar(int celda, byte[] grado, int[] cola, int fondo, int inicio, int fin) {
+        if (--grado[celda] == 1 && celda != inicio && celda != fin) cola[fondo++] = celda;
+        return fondo;
+    }
+}
@@ -1,28 +1,57 @@
 package views;
 
 import controllers.MazeController;
+import models.CellState;
+import models.MazeGrid;
+import models.MazeGuardado;
+import models.SolveResults;
 import solver.MazeSolver;
+import solver.ProgresoResolucion;
 
 import javax.swing.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Ventana principal de la aplicación que representa la interfaz gráfica para interactuar con el laberinto.
  */
 public class MazeFrame extends JFrame {
 
+    // Máximo de celdas que se pueden mostrar en el panel al abrir un laberinto
+    private static final long MAXIMO_CELDAS_PANEL = 1_000_000;
+
     private MazePanel mazePanel;
+    // Contenedor que centra el panel del laberinto; se reemplaza junto con él
+    private JPanel centerWrapper;
     private JComboBox<String> comboBoxAlgoritmos;
     private MazeController controller;
     private Map<String, MazeSolver> solverMap;
 
-    private final Map<String, String> nombreInternoAlgoritmo = Map.of(
-            "Recursivo", "Recursivo 2D",
-            "Recursivo Completo", "Recursivo 4D",
-            "Recursivo Completo BT", "Recursivo 4D BT",
-            "BFS", "BFS",
-            "DFS", "DFS"
+    private final Map<String, String> nombreInternoAlgoritmo = Map.ofEntries(
+            Map.entry("Recursivo", "Recursivo 2D"),
+            Map.entry("Recursivo Completo", "Recursivo 4D"),
+            Map.entry("Recursivo Completo BT", "Recursivo 4D BT"),
+            Map.entry("BFS", "BFS"),
+            Map.entry("BFS Indexado", "BFS Indexado"),
+            Map.entry("BFS Bidireccional", "BFS Bidireccional"),
+            Map.entry("BFS Bitboard", "BFS Bitboard"),
+            Map.entry("BFS Paralelo", "BFS Paralelo"),
+            Map.entry("BFS Cache", "BFS Cache"),
+            Map.entry("DFS", "DFS"),
+            Map.entry("A*", "A*"),
+            Map.entry("A* Octil", "A* Octil"),
+            Map.entry("A* Octil (corta esquinas)", "A* Octil (corta esquinas)"),
+            Map.entry("JPS", "JPS"),
+            Map.entry("HPA*", "HPA*"),
+            Map.entry("D* Lite", "D* Lite"),
+            Map.entry("Corredores", "Corredores"),
+            Map.entry("Dijkstra (Dial)", "Dijkstra (Dial)"),
+            Map.entry("Carrera (portafolio)", "Carrera")
     );
 
     public MazeFrame(int filas, int columnas, MazeController controller) {
@@ -50,8 +79,20 @@ public class MazeFrame extends JFrame {
         JMenuBar menuBar = new JMenuBar();
         JMenu menuArchivo = new JMenu("Archivo");
         JMenuItem nuevo = new JMenuItem("🆕 Nuevo laberinto");
+        JMenuItem abrir = new JMenuItem("📂 Abrir laberinto...");
+        JMenuItem guardar = new JMenuItem("💾 Guardar laberinto...");
+        JMenuItem importar = new JMenuItem("📄 Importar texto...");
+        JMenuItem exportar = new JMenuItem("📝 Exportar texto...");
+        JMenuItem lote = new JMenuItem("🧮 Resolver lote aleatorio...");
         JMenuItem verResultados = new JMenuItem("📊 Ver resultados");
         menuArchivo.add(nuevo);
+        menuArchivo.add(abrir);
+        menuArchivo.add(guardar);
+        menuArchivo.add(importar);
+        menuArchivo.add(exportar);
+        menuArchivo.addSeparator();
+        menuArchivo.add(lote);
+        menuArchivo.addSeparator();
         menuArchivo.add(verResultados);
         menuBar.add(menuArchivo);
 
@@ -78,14 +119,29 @@ public class MazeFrame extends JFrame {
 
         topPanel.add(btnSetStart);
         topPanel.add(btnSetEnd);
+        JButton btnCosto = new JButton("Costo");
+        JSpinner spinnerCosto = new JSpinner(new SpinnerNumberModel(2, 1, MazePanel.COSTO_MAXIMO, 1));
+        spinnerCosto.setToolTipText("Costo de paso que se pinta en las celdas (1 = normal)");
+
         topPanel.add(btnToggleWall);
+        topPanel.add(btnCosto);
+        topPanel.add(spinnerCosto);
+
+        JComboBox<String> comboBoxGeneradores = new JComboBox<>(controller.getGeneradores().keySet().toArray(new String[0]));
+        JSpinner spinnerSemilla = new JSpinner(new SpinnerNumberModel(1, 0, Integer.MAX_VALUE, 1));
+        spinnerSemilla.setToolTipText("Semilla del generador: la misma semilla repite el mismo laberinto");
+        JButton btnGenerar = new JButton("Generar");
+        topPanel.add(new JLabel("Generador:"));
+        topPanel.add(comboBoxGeneradores);
+        topPanel.add(new JLabel("Semilla:"));
+        topPanel.add(spinnerSemilla);
+        topPanel.add(btnGenerar);
         add(topPanel, BorderLayout.NORTH);
 
         // Panel central
         mazePanel = new MazePanel(filas, columnas);
-        JPanel centerWrapper = new JPanel(new GridBagLayout());
-        centerWrapper.setBackground(Color.LIGHT_GRAY);
-        centerWrapper.add(mazePanel, new GridBagConstraints());
+        controller.registrarPanel(mazePanel);
+        centerWrapper = crearCenterWrapper(mazePanel);
         add(centerWrapper, BorderLayout.CENTER);
 
         // Panel inferior
@@ -93,7 +149,10 @@ public class MazeFrame extends JFrame {
         bottomPanel.setBackground(new Color(245, 245, 245));
 
         comboBoxAlgoritmos = new JComboBox<>(new String[]{
-                "Recursivo", "Recursivo Completo", "Recursivo Completo BT", "BFS", "DFS"
+                "Recursivo", "Recursivo Completo", "Recursivo Completo BT", "BFS", "BFS Indexado",
+                "BFS Bidireccional", "BFS Bitboard", "BFS Paralelo", "BFS Cache", "DFS",
+                "A*", "A* Octil", "A* Octil (corta esquinas)", "JPS", "HPA*",
+                "D* Lite", "Corredores", "Dijkstra (Dial)", "Carrera (portafolio)"
         });
 
         JButton btnResolver = new JButton("Resolver");
@@ -101,6 +160,15 @@ public class MazeFrame extends JFrame {
         JButton btnPaso = new JButton("Paso a paso");
         JButton btnLimpiar = new JButton("Limpiar todo");
         JButton btnLimpiarCamino = new JButton("Solo camino");
+        JCheckBox chkRellenar = new JCheckBox("Rellenar callejones", controller.isRellenarCallejones());
+        JLabel lblPodadas = new JLabel();
+        JButton btnCancelar = new JButton("Cancelar");
+        btnCancelar.setEnabled(false);
+        JSpinner spinnerPlazo = new JSpinner(new SpinnerNumberModel((int) controller.getPlazoMillis(), 0, 600_000, 100));
+        spinnerPlazo.setToolTipText("Tiempo máximo de cada resolución en milisegundos (0 = sin plazo)");
+        JSpinner spinnerHilos = new JSpinner(new SpinnerNumberModel(controller.getHilosParalelo(), 0, 256, 1));
+        spinnerHilos.setToolTipText("Hilos de BFS Paralelo (0 = todos los procesadores)");
+        JLabel lblProgreso = new JLabel();
 
         bottomPanel.add(new JLabel("Algoritmo:"));
         bottomPanel.add(comboBoxAlgoritmos);
@@ -109,30 +177,86 @@ public class MazeFrame extends JFrame {
         bottomPanel.add(btnPaso);
         bottomPanel.add(btnLimpiar);
         bottomPanel.add(btnLimpiarCamino);
+        bottomPanel.add(chkRellenar);
+        bottomPanel.add(lblPodadas);
+        bottomPanel.add(new JLabel("Plazo (ms):"));
+        bottomPanel.add(spinnerPlazo);
+        bottomPanel.add(new JLabel("Hilos:"));
+        bottomPanel.add(spinnerHilos);
+        bottomPanel.add(btnCancelar);
+        bottomPanel.add(lblProgreso);
         add(bottomPanel, BorderLayout.SOUTH);
 
         // Listeners
         btnSetStart.addActionListener(e -> mazePanel.setCurrentMode(MazePanel.Mode.SET_START));
         btnSetEnd.addActionListener(e -> mazePanel.setCurrentMode(MazePanel.Mode.SET_END));
         btnToggleWall.addActionListener(e -> mazePanel.setCurrentMode(MazePanel.Mode.TOGGLE_WALL));
+        btnCosto.addActionListener(e -> {
+            mazePanel.setCostoActual((Integer) spinnerCosto.getValue());
+            mazePanel.setCurrentMode(MazePanel.Mode.SET_COST);
+        });
+        spinnerCosto.addChangeListener(e -> mazePanel.setCostoActual((Integer) spinnerCosto.getValue()));
+
+        // Mientras se resuelve solo queda activo Cancelar, y el laberinto no se puede editar ni reemplazar
+        JComponent[] accionesResolver = {btnResolver, btnResolverAnimado, btnPaso, btnLimpiar, btnLimpiarCamino,
+                comboBoxAlgoritmos, chkRellenar, spinnerPlazo, spinnerHilos, btnGenerar, nuevo, abrir, guardar,
+                importar, exportar, lote};
+        // En el paso a paso queda activo también Paso: cada clic consume una celda mientras la búsqueda espera
+        JComponent[] accionesPaso = {btnResolver, btnResolverAnimado, btnLimpiar, btnLimpiarCamino,
+                comboBoxAlgoritmos, chkRellenar, spinnerPlazo, spinnerHilos, btnGenerar, nuevo, abrir, guardar,
+                importar, exportar, lote};
+        ProgresoResolucion progreso = (expandidas, frontera) -> SwingUtilities.invokeLater(() ->
+                lblProgreso.setText("Expandidas: " + expandidas + "  Frontera: " + frontera));
+        Runnable alTerminar = () -> {
+            setResolviendo(false, accionesResolver, btnCancelar);
+            lblProgreso.setText("");
+            mostrarPodadas(chkRellenar, lblPodadas);
+        };
 
         btnResolver.addActionListener(e -> {
             controller.reiniciarPasoAPaso();
-            controller.resolver(mazePanel, getAlgoritmoSeleccionado());
+            setResolviendo(true, accionesResolver, btnCancelar);
+            controller.resolver(mazePanel, getAlgoritmoSeleccionado(), progreso, alTerminar);
         });
 
         btnResolverAnimado.addActionListener(e -> {
             controller.reiniciarPasoAPaso();
-            controller.resolverAnimado(mazePanel, getAlgoritmoSeleccionado());
+            setResolviendo(true, accionesResolver, btnCancelar);
+            controller.resolverAnimado(mazePanel, getAlgoritmoSeleccionado(), progreso, alTerminar);
         });
 
-        btnPaso.addActionListener(e -> controller.paso(mazePanel, getAlgoritmoSeleccionado()));
+        btnCancelar.addActionListener(e -> {
+            // Una búsqueda del paso a paso está frenada esperando clics: se suelta abandonando el recorrido
+            controller.reiniciarPasoAPaso();
+            controller.cancelarResolucion();
+        });
+        spinnerPlazo.addChangeListener(e -> controller.setPlazoMillis((Integer) spinnerPlazo.getValue()));
+        spinnerHilos.addChangeListener(e -> controller.setHilosParalelo((Integer) spinnerHilos.getValue()));
+
+        // El primer clic lanza la búsqueda: el laberinto queda bloqueado hasta que termine. Las celdas podadas
+        // se conocen recién entonces, no al pedir el paso
+        btnPaso.addActionListener(e -> {
+            if (!controller.isPasoAPasoEnCurso()) setResolviendo(true, accionesPaso, btnCancelar);
+            controller.paso(mazePanel, getAlgoritmoSeleccionado(), () -> {
+                setResolviendo(false, accionesPaso, btnCancelar);
+                mostrarPodadas(chkRellenar, lblPodadas);
+            });
+        });
+
+        chkRellenar.addActionListener(e -> {
+            controller.reiniciarPasoAPaso();
+            controller.setRellenarCallejones(chkRellenar.isSelected());
+            lblPodadas.setText("");
+        });
 
         btnLimpiar.addActionListener(e -> {
             controller.reiniciarPasoAPaso();
             mazePanel.resetGrid();
         });
 
+        btnGenerar.addActionListener(e -> controller.generarLaberinto(mazePanel,
+                (String) comboBoxGeneradores.getSelectedItem(), (Integer) spinnerSemilla.getValue()));
+
         btnLimpiarCamino.addActionListener(e -> {
             controller.reiniciarPasoAPaso();
             mazePanel.clearPathAndVisited();
@@ -141,9 +265,17 @@ public class MazeFrame extends JFrame {
         comboBoxAlgoritmos.addActionListener(e -> controller.reiniciarPasoAPaso());
 
         nuevo.addActionListener(e -> controller.nuevoLaberinto());
+        abrir.addActionListener(e -> abrirLaberinto());
+        guardar.addActionListener(e -> guardarLaberinto());
+        importar.addActionListener(e -> importarLaberinto());
+        exportar.addActionListener(e -> exportarLaberinto());
+        lote.addActionListener(e -> {
+            controller.reiniciarPasoAPaso();
+            resolverLote((Integer) spinnerSemilla.getValue(), accionesResolver, btnCancelar);
+        });
         verResultados.addActionListener(e -> controller.mostrarResultados(this));
         ayuda.addActionListener(e -> JOptionPane.showMessageDialog(this,
-                "🔹 Paso 1: Marca INICIO y FIN\n🔹 Paso 2: Añade muros (opcional)\n🔹 Paso 3: Elige algoritmo\n🔹 Paso 4: ¡Resuelve!",
+                "🔹 Paso 1: Marca INICIO y FIN\n🔹 Paso 2: Añade muros (opcional) o pulsa Generar\n🔹 Paso 3: Elige algoritmo\n🔹 Paso 4: ¡Resuelve!",
                 "Guía rápida", JOptionPane.INFORMATION_MESSAGE));
         acercaDe.addActionListener(e -> JOptionPane.showMessageDialog(this,
                 "Autores: Erick Yunga y Brandon Rivera\nRepositorio: github.com/ErickJYC / BrandonFRZ-cki",
@@ -152,19 +284,229 @@ public class MazeFrame extends JFrame {
         SwingUtilities.invokeLater(() -> btnSetStart.requestFocusInWindow());
     }
 
+    // Habilita o deshabilita los controles mientras corre una resolución en segundo plano
+    private void setResolviendo(boolean resolviendo, JComponent[] acciones, JButton btnCancelar) {
+        for (JComponent accion : acciones) {
+            accion.setEnabled(!resolviendo);
+        }
+        mazePanel.setEnabled(!resolviendo);
+        btnCancelar.setEnabled(resolviendo);
+    }
+
+    // Muestra cuántas celdas rellenó el preprocesado en la última resolución
+    private void mostrarPodadas(JCheckBox chkRellenar, JLabel lblPodadas) {
+        lblPodadas.setText(chkRellenar.isSelected() ? "Podadas: " + controller.getUltimasCeldasPodadas() : "");
+    }
+
+    // Selector de archivos de laberinto con la extensión indicada
+    private JFileChooser crearSelectorLaberintos(String descripcion, String extension) {
+        JFileChooser selector = new JFileChooser();
+        selector.setFileFilter(new FileNameExtensionFilter(descripcion + " (*." + extension + ")", extension));
+        return selector;
+    }
+
+    // Agrega la extensión al archivo elegido si falta
+    private static File conExtension(File archivo, String extension) {
+        if (archivo.getName().toLowerCase().endsWith("." + extension)) return archivo;
+        return new File(archivo.getParentFile(), archivo.getName() + "." + extension);
+    }
+
+    // Abre un laberinto guardado en formato binario
+    private void abrirLaberinto() {
+        JFileChooser selector = crearSelectorLaberintos("Laberinto binario", "lab");
+        if (selector.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        try {
+            mostrarLaberinto(controller.abrirLaberinto(selector.getSelectedFile().toPath()), "Abrir laberinto");
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this, "No se pudo abrir el laberinto: " + ex.getMessage(),
+                    "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    // Importa un laberinto en texto en segundo plano, porque el archivo puede pesar varios gigabytes
+    private void importarLaberinto() {
+        JFileChooser selector = crearSelectorLaberintos("Laberinto en texto", "txt");
+        if (selector.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        File archivo = selector.getSelectedFile();
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        new SwingWorker<MazeGuardado, Void>() {
+            @Override
+            protected MazeGuardado doInBackground() throws IOException {
+                return controller.importarLaberinto(archivo.toPath());
+            }
+
+            @Override
+            protected void done() {
+                setCursor(Cursor.getDefaultCursor());
+                try {
+                    MazeGuardado laberinto = get();
+                    MazeGrid grid = laberinto.getGrid();
+                    setTitle(String.format("Resolución de Laberintos - %s (%dx%d, importado a %.1f MB/s)",
+                            archivo.getName(), grid.getFilas(), grid.getColumnas(),
+                            controller.getUltimoRendimientoImportacion()));
+                    mostrarLaberinto(laberinto, "Importar laberinto");
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    JOptionPane.showMessageDialog(MazeFrame.this, "No se pudo importar el laberinto: "
+                            + ex.getCause().getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Muestra el laberinto en el panel (reemplazándolo si tiene otras dimensiones). Si es demasiado grande
+     * para mostrarlo, ofrece resolverlo sin mostrar con el algoritmo seleccionado.
+     */
+    private void mostrarLaberinto(MazeGuardado laberinto, String titulo) {
+        MazeGrid grid = laberinto.getGrid();
+        if (grid.celdas() > MAXIMO_CELDAS_PANEL) {
+            int opcion = JOptionPane.showConfirmDialog(this, "El laberinto de " + grid.getFilas() + "x"
+                            + grid.getColumnas() + " es demasiado grande para mostrarlo.\n¿Resolverlo sin mostrar con "
+                            + comboBoxAlgoritmos.getSelectedItem() + "?", titulo, JOptionPane.YES_NO_OPTION,
+                    JOptionPane.WARNING_MESSAGE);
+            if (opcion == JOptionPane.YES_OPTION) resolverSinMostrar(laberinto);
+            return;
+        }
+        controller.reiniciarPasoAPaso();
+        if (grid.getFilas() != mazePanel.getCellStates().length
+                || grid.getColumnas() != mazePanel.getCellStates()[0].length) {
+            setMazePanel(new MazePanel(grid.getFilas(), grid.getColumnas()));
+        }
+        mazePanel.cargarLaberinto(laberinto);
+    }
+
+    // Resuelve en segundo plano un laberinto que no se muestra y avisa el largo del camino y el tiempo
+    private void resolverSinMostrar(MazeGuardado laberinto) {
+        String algoritmo = getAlgoritmoSeleccionado();
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        new SwingWorker<SolveResults, Void>() {
+            @Override
+            protected SolveResults doInBackground() {
+                return controller.resolverLaberinto(algoritmo, laberinto);
+            }
+
+            @Override
+            protected void done() {
+                setCursor(Cursor.getDefaultCursor());
+                try {
+                    SolveResults resultado = get();
+                    String mensaje;
+                    if (resultado == null) mensaje = "El laberinto no tiene inicio (S) y fin (E).";
+                    else if (resultado.getPath().isEmpty()) mensaje = "No hay camino entre el inicio y el fin.";
+                    else mensaje = "Camino de " + resultado.getPath().size() + " celdas en "
+                                + resultado.getTiempo() / 1_000_000 + " ms.";
+                    JOptionPane.showMessageDialog(MazeFrame.this, mensaje, algoritmo, JOptionPane.INFORMATION_MESSAGE);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    JOptionPane.showMessageDialog(MazeFrame.this, "No se pudo resolver: " + ex.getCause().getMessage(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    // Resuelve en segundo plano consultas entre celdas libres al azar y resume el costo por consulta
+    private void resolverLote(long semilla, JComponent[] acciones, JButton btnCancelar) {
+        String texto = JOptionPane.showInputDialog(this, "Número de consultas:", 1000);
+        if (texto == null) return;
+        int cantidad;
+        try {
+            cantidad = Integer.parseInt(texto.trim());
+        } catch (NumberFormatException ex) {
+            cantidad = 0;
+        }
+        if (cantidad <= 0) {
+            JOptionPane.showMessageDialog(this, "Entrada inválida");
+            return;
+        }
+
+        String algoritmo = getAlgoritmoSeleccionado();
+        CellState[][] estados = mazePanel.getCellStates();
+        int consultas = cantidad;
+        setResolviendo(true, acciones, btnCancelar);
+        new SwingWorker<List<SolveResults>, Void>() {
+            private long tiempo;
+
+            @Override
+            protected List<SolveResults> doInBackground() {
+                long inicio = System.nanoTime();
+                List<SolveResults> resultados = controller.resolverLote(algoritmo, estados, consultas, semilla);
+                tiempo = System.nanoTime() - inicio;
+                return resultados;
+            }
+
+            @Override
+            protected void done() {
+                setResolviendo(false, acciones, btnCancelar);
+                try {
+                    List<SolveResults> resultados = get();
+                    if (resultados == null) {
+                        String motivo = controller.getUltimaDetencion();
+                        JOptionPane.showMessageDialog(MazeFrame.this, motivo != null ? motivo : "No se pudo resolver el lote.");
+                        return;
+                    }
+                    long conCamino = resultados.stream().filter(r -> !r.getPath().isEmpty()).count();
+                    double milis = tiempo / 1e6;
+                    String mensaje = String.format("%d consultas (%d con camino) en %.1f ms%n%.3f ms por consulta, %.0f consultas/s",
+                            resultados.size(), conCamino, milis, milis / Math.max(1, resultados.size()),
+                            resultados.size() / Math.max(tiempo / 1e9, 1e-9));
+                    JOptionPane.showMessageDialog(MazeFrame.this, mensaje, algoritmo + " (lote)", JOptionPane.INFORMATION_MESSAGE);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    JOptionPane.showMessageDialog(MazeFrame.this, "No se pudo resolver: " + ex.getCause().getMessage(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    // Guarda el laberinto actual en formato binario
+    private void guardarLaberinto() {
+        JFileChooser selector = crearSelectorLaberintos("Laberinto binario", "lab");
+        if (selector.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        try {
+            controller.guardarLaberinto(mazePanel, conExtension(selector.getSelectedFile(), "lab").toPath());
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this, "No se pudo guardar el laberinto: " + ex.getMessage(),
+                    "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    // Exporta el laberinto actual como texto
+    private void exportarLaberinto() {
+        JFileChooser selector = crearSelectorLaberintos("Laberinto en texto", "txt");
+        if (selector.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        try {
+            controller.exportarLaberinto(mazePanel, conExtension(selector.getSelectedFile(), "txt").toPath());
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this, "No se pudo exportar el laberinto: " + ex.getMessage(),
+                    "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
     private String getAlgoritmoSeleccionado() {
         String visible = (String) comboBoxAlgoritmos.getSelectedItem();
         return nombreInternoAlgoritmo.getOrDefault(visible, "BFS");
     }
 
     public void setMazePanel(MazePanel panel) {
-        remove(mazePanel);
+        remove(centerWrapper);
         this.mazePanel = panel;
-        JPanel centerWrapper = new JPanel(new GridBagLayout());
-        centerWrapper.setBackground(Color.LIGHT_GRAY);
-        centerWrapper.add(mazePanel, new GridBagConstraints());
+        controller.registrarPanel(panel);
+        centerWrapper = crearCenterWrapper(panel);
         add(centerWrapper, BorderLayout.CENTER);
         revalidate();
         repaint();
     }
+
+    private static JPanel crearCenterWrapper(MazePanel panel) {
+        JPanel wrapper = new JPanel(new GridBagLayout());
+        wrapper.setBackground(Color.LIGHT_GRAY);
+        wrapper.add(panel, new GridBagConstraints());
+        return wrapper;
+    }
 }
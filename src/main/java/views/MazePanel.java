@@ -2,11 +2,14 @@ package views;
 
 import models.Cell;
 import models.CellState;
+import models.MazeGrid;
+import models.MazeGuardado;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -16,7 +19,12 @@ import java.util.Set;
  */
 public class MazePanel extends JPanel {
 
+    /** Costo más alto que se puede pintar en una celda (1 = terreno normal). */
+    public static final int COSTO_MAXIMO = 9;
+
     private CellState[][] cellStates; // matriz que representa el estado de cada celda
+    private int[][] costos; // costo de paso de cada celda (1 = terreno normal)
+    private int costoActual = 2; // costo que se pinta en modo SET_COST
     private int rows;  // número de filas
     private int cols;  // número de columnas
 
@@ -25,15 +33,35 @@ public class MazePanel extends JPanel {
 
     private Mode currentMode = Mode.NONE; // modo actual de interacción del mouse
 
+    private final List<MazeListener> listeners = new ArrayList<>(); // interesados en cambios de muros
+
     /**
      * Modos de interacción del mouse.
      * NONE: sin acción
      * SET_START: definir punto de inicio
      * SET_END: definir punto de fin
      * TOGGLE_WALL: alternar muro/libre
+     * SET_COST: asignar el costo actual a una celda libre
      */
     public enum Mode {
-        NONE, SET_START, SET_END, TOGGLE_WALL
+        NONE, SET_START, SET_END, TOGGLE_WALL, SET_COST
+    }
+
+    /**
+     * Recibe los cambios en la distribución de muros del laberinto.
+     */
+    public interface MazeListener {
+        /**
+         * Se llama cuando una celda pasa a ser muro o deja de serlo.
+         * @param cell celda modificada
+         * @param wall true si ahora es muro
+         */
+        void wallToggled(Cell cell, boolean wall);
+
+        /**
+         * Se llama cuando se reinicia toda la cuadrícula.
+         */
+        default void gridReset() {}
     }
 
     /**
@@ -45,6 +73,7 @@ public class MazePanel extends JPanel {
         this.rows = rows;
         this.cols = cols;
         this.cellStates = new CellState[rows][cols];
+        this.costos = new int[rows][cols];
         resetGrid(); // inicializa el grid a vacío
 
         setBackground(Color.WHITE); // fondo del panel
@@ -53,6 +82,8 @@ public class MazePanel extends JPanel {
         addMouseListener(new MouseAdapter() {
             @Override
             public void mousePressed(MouseEvent e) {
+                if (!isEnabled()) return; // deshabilitado mientras se resuelve
+
                 int anchoDisponible = getWidth();
                 int altoDisponible = getHeight();
                 int cellSize = Math.min(anchoDisponible / cols, altoDisponible / rows);
@@ -68,6 +99,7 @@ public class MazePanel extends JPanel {
                 // Según el modo actual, se establece una acción
                 switch (currentMode) {
                     case SET_START -> {
+                        if (cellStates[row][col] == CellState.WALL) fireWallToggled(cell, false);
                         if (startCell != null) {
                             cellStates[startCell.getRow()][startCell.getCol()] = CellState.EMPTY;
                         }
@@ -75,6 +107,7 @@ public class MazePanel extends JPanel {
                         cellStates[row][col] = CellState.START;
                     }
                     case SET_END -> {
+                        if (cellStates[row][col] == CellState.WALL) fireWallToggled(cell, false);
                         if (endCell != null) {
                             cellStates[endCell.getRow()][endCell.getCol()] = CellState.EMPTY;
                         }
@@ -86,11 +119,19 @@ public class MazePanel extends JPanel {
                         if (!cell.equals(startCell) && !cell.equals(endCell)) {
                             if (cellStates[row][col] == CellState.WALL) {
                                 cellStates[row][col] = CellState.EMPTY;
+                                fireWallToggled(cell, false);
                             } else {
                                 cellStates[row][col] = CellState.WALL;
+                                fireWallToggled(cell, true);
                             }
                         }
                     }
+                    case SET_COST -> {
+                        // Los muros no tienen costo
+                        if (cellStates[row][col] != CellState.WALL) {
+                            costos[row][col] = costoActual;
+                        }
+                    }
                     default -> {}
                 }
 
@@ -106,18 +147,79 @@ public class MazePanel extends JPanel {
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
                 cellStates[i][j] = CellState.EMPTY;
+                costos[i][j] = 1;
             }
         }
         startCell = null;
         endCell = null;
+        for (MazeListener listener : listeners) {
+            listener.gridReset();
+        }
         repaint(); // redibuja
     }
 
+    /**
+     * Reemplaza el contenido por un laberinto guardado de las mismas dimensiones. Se descartan el camino
+     * y las visitadas, y se avisa gridReset a los interesados, como al limpiar la cuadrícula.
+     *
+     * @throws IllegalArgumentException si las dimensiones no coinciden con las del panel.
+     */
+    public void cargarLaberinto(MazeGuardado laberinto) {
+        MazeGrid grid = laberinto.getGrid();
+        if (grid.getFilas() != rows || grid.getColumnas() != cols) {
+            throw new IllegalArgumentException("El laberinto es de " + grid.getFilas() + "x" + grid.getColumnas()
+                    + " y el panel de " + rows + "x" + cols);
+        }
+        byte[] costosGuardados = laberinto.getCostos();
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                cellStates[i][j] = grid.esLibre(i, j) ? CellState.EMPTY : CellState.WALL;
+                costos[i][j] = costosGuardados != null ? Math.max(1, costosGuardados[i * cols + j]) : 1;
+            }
+        }
+        startCell = dentro(laberinto.getInicio()) ? laberinto.getInicio() : null;
+        endCell = dentro(laberinto.getFin()) ? laberinto.getFin() : null;
+        if (startCell != null) cellStates[startCell.getRow()][startCell.getCol()] = CellState.START;
+        if (endCell != null) cellStates[endCell.getRow()][endCell.getCol()] = CellState.END;
+        for (MazeListener listener : listeners) {
+            listener.gridReset();
+        }
+        repaint();
+    }
+
+    // Indica si la celda existe y está dentro del panel
+    private boolean dentro(Cell cell) {
+        return cell != null && cell.getRow() >= 0 && cell.getRow() < rows && cell.getCol() >= 0 && cell.getCol() < cols;
+    }
+
+    /**
+     * Registra un interesado en los cambios de muros.
+     * @param listener objeto a notificar
+     */
+    public void addMazeListener(MazeListener listener) {
+        listeners.add(listener);
+    }
+
+    // Notifica a los interesados que una celda cambió entre muro y libre
+    private void fireWallToggled(Cell cell, boolean wall) {
+        for (MazeListener listener : listeners) {
+            listener.wallToggled(cell, wall);
+        }
+    }
+
     // Setter para establecer el modo de interacción
     public void setCurrentMode(Mode mode) {
         this.currentMode = mode;
     }
 
+    /**
+     * Define el costo que se asigna al hacer clic en modo SET_COST.
+     * @param costo valor entre 1 y COSTO_MAXIMO
+     */
+    public void setCostoActual(int costo) {
+        this.costoActual = Math.max(1, Math.min(COSTO_MAXIMO, costo));
+    }
+
     // Getters necesarios para el controlador
     public Cell getStartCell() {
         return startCell;
@@ -131,6 +233,10 @@ public class MazePanel extends JPanel {
         return cellStates;
     }
 
+    public int[][] getCostos() {
+        return costos;
+    }
+
     /**
      * Dibuja el camino resuelto por el algoritmo en el laberinto.
      * @param path lista de celdas que representan el camino
@@ -158,13 +264,28 @@ public class MazePanel extends JPanel {
         repaint();
     }
 
+    /**
+     * Muestra las celdas que fueron visitadas por un frente que parte del fin.
+     * @param visited conjunto de celdas visitadas desde el fin
+     */
+    public void setVisitedFromEnd(Set<Cell> visited) {
+        for (Cell cell : visited) {
+            if (!cell.equals(startCell) && !cell.equals(endCell)
+                    && cellStates[cell.getRow()][cell.getCol()] == CellState.EMPTY) {
+                cellStates[cell.getRow()][cell.getCol()] = CellState.VISITED_END;
+            }
+        }
+        repaint();
+    }
+
     /**
      * Elimina el camino y las celdas visitadas, pero mantiene inicio, fin y muros.
      */
     public void clearPathAndVisited() {
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
-                if (cellStates[i][j] == CellState.PATH || cellStates[i][j] == CellState.VISITED) {
+                if (cellStates[i][j] == CellState.PATH || cellStates[i][j] == CellState.VISITED
+                        || cellStates[i][j] == CellState.VISITED_END) {
                     cellStates[i][j] = CellState.EMPTY;
                 }
             }
@@ -198,12 +319,13 @@ public class MazePanel extends JPanel {
             for (int j = 0; j < cols; j++) {
                 // Selección del color según el estado de la celda
                 switch (cellStates[i][j]) {
-                    case EMPTY -> g.setColor(Color.WHITE);
+                    case EMPTY -> g.setColor(colorCosto(costos[i][j]));
                     case WALL -> g.setColor(Color.BLACK);
                     case START -> g.setColor(Color.GREEN);
                     case END -> g.setColor(Color.RED);
                     case PATH -> g.setColor(Color.CYAN);
                     case VISITED -> g.setColor(Color.LIGHT_GRAY);
+                    case VISITED_END -> g.setColor(new Color(255, 218, 185)); // durazno
                 }
 
                 int x = j * cellSize;
@@ -212,7 +334,23 @@ public class MazePanel extends JPanel {
                 g.fillRect(x, y, cellSize, cellSize); // pinta la celda
                 g.setColor(Color.GRAY);
                 g.drawRect(x, y, cellSize, cellSize); // dibuja el borde
+
+                // Número del costo en celdas con terreno lento, si hay espacio
+                if (costos[i][j] > 1 && cellStates[i][j] != CellState.WALL && cellSize >= 14) {
+                    g.setColor(Color.DARK_GRAY);
+                    g.drawString(String.valueOf(costos[i][j]), x + cellSize / 2 - 3, y + cellSize / 2 + 5);
+                }
             }
         }
     }
+
+    /**
+     * Color de una celda libre según su costo: blanco para terreno normal y tonos
+     * marrones cada vez más oscuros para costos mayores.
+     */
+    private Color colorCosto(int costo) {
+        if (costo <= 1) return Color.WHITE;
+        int nivel = Math.min(costo, COSTO_MAXIMO) - 1;
+        return new Color(255 - nivel * 8, 240 - nivel * 14, 220 - nivel * 20);
+    }
 }